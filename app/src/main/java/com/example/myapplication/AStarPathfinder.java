@@ -0,0 +1,123 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * AStarPathfinder searches toward the goal with A*, guided by the Manhattan distance
+ * (which never overestimates on a 4-connected grid). The open list is a primitive
+ * binary heap ordered by f = g + h, preferring cells closer to the goal on ties, and
+ * the per-cell arrays are marked with search stamps instead of being cleared, so a
+ * search costs only the cells it touches even on a 1000x1000 grid.
+ */
+
+public class AStarPathfinder implements Pathfinder {
+
+    /**
+     * Cost from the start and previous cell of every reached cell
+     */
+    private int[] cost = new int[0], parent = new int[0];
+    /**
+     * Stamp of the search that last reached, and last closed, every cell
+     */
+    private int[] seen = new int[0], closed = new int[0];
+    /**
+     * Stamp of the current search
+     */
+    private int stamp;
+    /**
+     * Cells to expand, ordered by estimated path length
+     */
+    private final NodeHeap open = new NodeHeap();
+    /**
+     * Column and row of the goal of the current search
+     */
+    private int goalCol, goalRow, cols;
+    /**
+     * Number of cells expanded by the last search
+     */
+    private int expanded;
+
+    @Override
+    public int findPath(MazeGrid grid, int start, int goal, int[] path) {
+        int size = grid.size();
+        if (seen.length < size || stamp == Integer.MAX_VALUE) {
+            cost = new int[size];
+            parent = new int[size];
+            seen = new int[size];
+            closed = new int[size];
+            stamp = 0;
+        }
+        stamp++;
+        cols = grid.getCols();
+        goalCol = goal % cols;
+        goalRow = goal / cols;
+        open.clear();
+        expanded = 0;
+
+        reach(-1, start, 0, Math.abs(start % cols - goalCol) + Math.abs(start / cols - goalRow));
+        while (!open.isEmpty()) {
+            int cell = open.pop();
+            if (closed[cell] == stamp)
+                continue;
+            closed[cell] = stamp;
+            expanded++;
+            if (cell == goal)
+                return trace(goal, path);
+
+            /**
+             * The heuristic of each neighbor is one more or one less than the
+             * cell's, depending on which side of the goal the cell lies
+             */
+            int walls = grid.getWalls(cell);
+            int next = cost[cell] + 1;
+            int col = cell % cols, row = cell / cols;
+            int h = Math.abs(col - goalCol) + Math.abs(row - goalRow);
+            if ((walls & MazeGrid.TOP) == 0)
+                reach(cell, cell - cols, next, row > goalRow ? h - 1 : h + 1);
+            if ((walls & MazeGrid.BOTTOM) == 0)
+                reach(cell, cell + cols, next, row < goalRow ? h - 1 : h + 1);
+            if ((walls & MazeGrid.LEFT) == 0)
+                reach(cell, cell - 1, next, col > goalCol ? h - 1 : h + 1);
+            if ((walls & MazeGrid.RIGHT) == 0)
+                reach(cell, cell + 1, next, col < goalCol ? h - 1 : h + 1);
+        }
+        return 0;
+    }
+
+    /**
+     * Opens a cell if this is the cheapest way found to reach it.
+     *
+     * @param from The cell it is reached from, or -1 for the start.
+     * @param cell The index of the cell.
+     * @param g    The cost of reaching it.
+     * @param h    The Manhattan distance from the cell to the goal.
+     */
+    private void reach(int from, int cell, int g, int h) {
+        if (closed[cell] == stamp || (seen[cell] == stamp && cost[cell] <= g))
+            return;
+        seen[cell] = stamp;
+        cost[cell] = g;
+        parent[cell] = from;
+        open.push(cell, ((long) (g + h) << 32) | h);
+    }
+
+    /**
+     * Writes the path ending at the goal, following the parents back to the start.
+     *
+     * @param goal The index of the goal cell.
+     * @param path Receives the cells of the path.
+     * @return The number of cells in the path.
+     */
+    private int trace(int goal, int[] path) {
+        int length = cost[goal] + 1;
+        int i = length;
+        for (int cell = goal; cell != -1; cell = parent[cell])
+            path[--i] = cell;
+        return length;
+    }
+
+    @Override
+    public int getExpanded() {
+        return expanded;
+    }
+}
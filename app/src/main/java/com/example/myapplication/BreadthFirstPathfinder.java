@@ -0,0 +1,104 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * BreadthFirstPathfinder is the uninformed baseline: a breadth-first search from the
+ * start that stops when the goal is dequeued. Cells are marked with a search stamp
+ * instead of clearing the arrays, so a search only touches the cells it reaches.
+ */
+
+public class BreadthFirstPathfinder implements Pathfinder {
+
+    /**
+     * Previous cell on the path of every reached cell, and the cell queue
+     */
+    private int[] parent = new int[0], queue = new int[0];
+    /**
+     * Stamp of the search that last reached every cell
+     */
+    private int[] seen = new int[0];
+    /**
+     * Stamp of the current search
+     */
+    private int stamp;
+    /**
+     * Number of cells dequeued by the last search
+     */
+    private int expanded;
+
+    @Override
+    public int findPath(MazeGrid grid, int start, int goal, int[] path) {
+        int size = grid.size();
+        if (seen.length < size || stamp == Integer.MAX_VALUE) {
+            parent = new int[size];
+            queue = new int[size];
+            seen = new int[size];
+            stamp = 0;
+        }
+        stamp++;
+
+        int cols = grid.getCols();
+        int head = 0, tail = 0;
+        queue[tail++] = start;
+        seen[start] = stamp;
+        parent[start] = -1;
+        while (head < tail) {
+            int cell = queue[head++];
+            if (cell == goal) {
+                expanded = head;
+                return trace(goal, path);
+            }
+            int walls = grid.getWalls(cell);
+            if ((walls & MazeGrid.TOP) == 0)
+                tail = visit(cell, cell - cols, tail);
+            if ((walls & MazeGrid.BOTTOM) == 0)
+                tail = visit(cell, cell + cols, tail);
+            if ((walls & MazeGrid.LEFT) == 0)
+                tail = visit(cell, cell - 1, tail);
+            if ((walls & MazeGrid.RIGHT) == 0)
+                tail = visit(cell, cell + 1, tail);
+        }
+        expanded = head;
+        return 0;
+    }
+
+    /**
+     * Queues a cell that has not been reached yet.
+     *
+     * @param from The cell it is reached from.
+     * @param cell The index of the cell.
+     * @param tail The end of the queue.
+     * @return The new end of the queue.
+     */
+    private int visit(int from, int cell, int tail) {
+        if (seen[cell] != stamp) {
+            seen[cell] = stamp;
+            parent[cell] = from;
+            queue[tail++] = cell;
+        }
+        return tail;
+    }
+
+    /**
+     * Writes the path ending at the goal, following the parents back to the start.
+     *
+     * @param goal The index of the goal cell.
+     * @param path Receives the cells of the path.
+     * @return The number of cells in the path.
+     */
+    private int trace(int goal, int[] path) {
+        int length = 0;
+        for (int cell = goal; cell != -1; cell = parent[cell])
+            length++;
+        int i = length;
+        for (int cell = goal; cell != -1; cell = parent[cell])
+            path[--i] = cell;
+        return length;
+    }
+
+    @Override
+    public int getExpanded() {
+        return expanded;
+    }
+}
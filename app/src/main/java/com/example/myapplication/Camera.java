@@ -0,0 +1,302 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Camera decides which part of the maze is on screen and how large the cells are
+ * drawn. A maze that fits the view at a readable size is shown whole and centered,
+ * as before; a larger maze is shown at the readable size around the player, and the
+ * camera scrolls to keep the player in the middle third of the view. The player can
+ * pan (which stops the following until the next move) and pinch to zoom, between the
+ * size where the whole maze fits and MAX_CELL_SIZE.
+ *
+ * Positions are in cell units: the camera's left and top are the maze coordinates
+ * shown at the top left corner of the view.
+ */
+
+public class Camera {
+
+    /**
+     * Smallest cell size (pixels) a maze is shown at before it is zoomed in on the player
+     */
+    public static final float MIN_READABLE_CELL_SIZE = 48;
+    /**
+     * Largest cell size (pixels) the player can zoom in to
+     */
+    public static final float MAX_CELL_SIZE = 256;
+
+    /**
+     * Size of the view in pixels
+     */
+    private int width, height;
+    /**
+     * Size of the maze
+     */
+    private int cols = 1, rows = 1;
+    /**
+     * Cell size where the whole maze fits, cell size the maze is first shown at,
+     * and current cell size
+     */
+    private float fitCellSize, baseCellSize, cellSize;
+    /**
+     * Maze coordinates at the top left corner of the view
+     */
+    private float left, top;
+    /**
+     * True while the camera scrolls with the player
+     */
+    private boolean following = true;
+
+    /**
+     * Returns the size of a cell fitting the maze in a view, with half a cell of margin
+     * on every side.
+     *
+     * @param width  Width of the view.
+     * @param height Height of the view.
+     * @param cols   Number of columns.
+     * @param rows   Number of rows.
+     * @return The size of a cell in pixels.
+     */
+    public static float fitCellSize(int width, int height, int cols, int rows) {
+        if ((float) width / height < (float) cols / rows)
+            return (float) width / (cols + 1);
+        return (float) height / (rows + 1);
+    }
+
+    /**
+     * Sets the size of the view, keeping the zoom level relative to the maze: the cell
+     * size is scaled by as much as the size where the whole maze fits changed, and the
+     * view stays centered on the same point of the maze. A camera shown for the first
+     * time starts at the starting zoom level instead.
+     *
+     * @param width  Width of the view.
+     * @param height Height of the view.
+     */
+    public void setViewport(int width, int height) {
+        if (cellSize <= 0 || width <= 0 || height <= 0) {
+            this.width = width;
+            this.height = height;
+            reset();
+            return;
+        }
+        float zoom = cellSize / fitCellSize;
+        float centerX = toCellX(this.width / 2f), centerY = toCellY(this.height / 2f);
+        this.width = width;
+        this.height = height;
+        fitCellSize = fitCellSize(width, height, cols, rows);
+        baseCellSize = Math.max(fitCellSize, MIN_READABLE_CELL_SIZE);
+        cellSize = Math.max(fitCellSize, Math.min(Math.max(fitCellSize, MAX_CELL_SIZE), fitCellSize * zoom));
+        left = centerX - width / cellSize / 2;
+        top = centerY - height / cellSize / 2;
+        clamp();
+    }
+
+    /**
+     * Sets the size of the maze shown, going back to the starting zoom level.
+     *
+     * @param cols Number of columns.
+     * @param rows Number of rows.
+     */
+    public void setMaze(int cols, int rows) {
+        if (cols == this.cols && rows == this.rows && cellSize > 0)
+            return;
+        this.cols = cols;
+        this.rows = rows;
+        reset();
+    }
+
+    /**
+     * Goes back to the starting zoom level, following the player.
+     */
+    private void reset() {
+        if (width <= 0 || height <= 0)
+            return;
+        fitCellSize = fitCellSize(width, height, cols, rows);
+        baseCellSize = Math.max(fitCellSize, MIN_READABLE_CELL_SIZE);
+        cellSize = baseCellSize;
+        following = true;
+        clamp();
+    }
+
+    /**
+     * Scrolls the view so the cell stays in the middle third of it, unless the
+     * player panned away since the last call to {@link #setFollowing(boolean)}.
+     *
+     * @param col The column of the cell to follow.
+     * @param row The row of the cell to follow.
+     */
+    public void follow(int col, int row) {
+        if (!following || cellSize <= 0)
+            return;
+        float viewCols = width / cellSize, viewRows = height / cellSize;
+        float x = col + 0.5f, y = row + 0.5f;
+        if (x < left + viewCols / 3)
+            left = x - viewCols / 3;
+        else if (x > left + viewCols * 2 / 3)
+            left = x - viewCols * 2 / 3;
+        if (y < top + viewRows / 3)
+            top = y - viewRows / 3;
+        else if (y > top + viewRows * 2 / 3)
+            top = y - viewRows * 2 / 3;
+        clamp();
+    }
+
+    /**
+     * Centers the view on a cell, for example when a new maze starts.
+     *
+     * @param col The column of the cell.
+     * @param row The row of the cell.
+     */
+    public void center(int col, int row) {
+        if (cellSize <= 0)
+            return;
+        left = col + 0.5f - width / cellSize / 2;
+        top = row + 0.5f - height / cellSize / 2;
+        clamp();
+    }
+
+    /**
+     * Scrolls the view by a distance in pixels, and stops following the player.
+     *
+     * @param dx Horizontal distance the content moves.
+     * @param dy Vertical distance the content moves.
+     */
+    public void pan(float dx, float dy) {
+        if (cellSize <= 0)
+            return;
+        left -= dx / cellSize;
+        top -= dy / cellSize;
+        following = false;
+        clamp();
+    }
+
+    /**
+     * Zooms around a point of the view, which keeps showing the same part of the maze.
+     *
+     * @param factor The scale factor, above 1 to zoom in.
+     * @param focusX Horizontal position of the focus point in the view.
+     * @param focusY Vertical position of the focus point in the view.
+     */
+    public void zoom(float factor, float focusX, float focusY) {
+        if (cellSize <= 0)
+            return;
+        float x = toCellX(focusX), y = toCellY(focusY);
+        cellSize = Math.max(fitCellSize, Math.min(Math.max(fitCellSize, MAX_CELL_SIZE), cellSize * factor));
+        left = x - focusX / cellSize;
+        top = y - focusY / cellSize;
+        clamp();
+    }
+
+    /**
+     * Keeps the maze on screen: a maze smaller than the view is centered, a larger
+     * one cannot scroll further than half a cell past its edges.
+     */
+    private void clamp() {
+        float viewCols = width / cellSize, viewRows = height / cellSize;
+        if (viewCols >= cols + 1)
+            left = (cols - viewCols) / 2;
+        else
+            left = Math.max(-0.5f, Math.min(cols + 0.5f - viewCols, left));
+        if (viewRows >= rows + 1)
+            top = (rows - viewRows) / 2;
+        else
+            top = Math.max(-0.5f, Math.min(rows + 0.5f - viewRows, top));
+    }
+
+    /**
+     * Sets whether the camera scrolls with the player.
+     *
+     * @param following True to follow the player.
+     */
+    public void setFollowing(boolean following) {
+        this.following = following;
+    }
+
+    /**
+     * @return True while the camera scrolls with the player.
+     */
+    public boolean isFollowing() {
+        return following;
+    }
+
+    /**
+     * @param col A maze column, or a position between columns.
+     * @return The horizontal position in the view.
+     */
+    public float toScreenX(float col) {
+        return (col - left) * cellSize;
+    }
+
+    /**
+     * @param row A maze row, or a position between rows.
+     * @return The vertical position in the view.
+     */
+    public float toScreenY(float row) {
+        return (row - top) * cellSize;
+    }
+
+    /**
+     * @param x A horizontal position in the view.
+     * @return The maze column at that position, with its fraction.
+     */
+    public float toCellX(float x) {
+        return x / cellSize + left;
+    }
+
+    /**
+     * @param y A vertical position in the view.
+     * @return The maze row at that position, with its fraction.
+     */
+    public float toCellY(float y) {
+        return y / cellSize + top;
+    }
+
+    /**
+     * @return The size of a cell in pixels.
+     */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return The cell size the maze was first shown at, which the text is sized by.
+     */
+    public float getBaseCellSize() {
+        return baseCellSize;
+    }
+
+    /**
+     * @return The cell size where the whole maze fits the view.
+     */
+    public float getFitCellSize() {
+        return fitCellSize;
+    }
+
+    /**
+     * @return The maze column at the left edge of the view.
+     */
+    public float getLeft() {
+        return left;
+    }
+
+    /**
+     * @return The maze row at the top edge of the view.
+     */
+    public float getTop() {
+        return top;
+    }
+
+    /**
+     * @return The width of the view.
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return The height of the view.
+     */
+    public int getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * DepthFirstMazeGenerator carves a perfect maze with an iterative depth-first search
+ * (recursive backtracker). The cell stack and neighbor list are primitive arrays that
+ * are kept between calls, so carving a maze does not allocate once the stack has been
+ * sized for the grid.
+ */
+
+public class DepthFirstMazeGenerator implements MazeGenerator {
+
+    /**
+     * Stack of cell indexes on the current carving path
+     */
+    private int[] stack = new int[0];
+    /**
+     * Scratch space for the unvisited neighbors of the current cell
+     */
+    private final int[] neighbors = new int[4];
+
+    /**
+     * Carves a maze into the grid, starting from the top left cell.
+     * The grid is expected to have every wall in place.
+     *
+     * @param grid   The grid to carve.
+     * @param random The random number generator used to pick neighbors.
+     */
+    @Override
+    public void generate(MazeGrid grid, SplittableRandom random) {
+        /**
+         * Grow the stack only when the grid is bigger than any seen before
+         */
+        if (stack.length < grid.size()) {
+            stack = new int[grid.size()];
+        }
+
+        int top = 0;
+        stack[top++] = 0;
+        grid.markVisited(0);
+
+        while (top > 0) {
+            int current = stack[top - 1];
+            int next = pickNeighbor(grid, current, random);
+            if (next != -1) {
+                grid.removeWall(current, next);
+                grid.markVisited(next);
+                stack[top++] = next;
+            }
+            else
+                top--;
+        }
+    }
+
+    /**
+     * @return The name of the algorithm.
+     */
+    @Override
+    public String id() {
+        return Algorithm.DEPTH_FIRST.name();
+    }
+
+    /**
+     * Returns a random unvisited neighbor of the given cell.
+     *
+     * @param grid   The grid being carved.
+     * @param cell   The index of the cell for which to find a neighbor.
+     * @param random The random number generator.
+     * @return The index of an unvisited neighbor, or -1 if all neighbors have been visited.
+     */
+    private int pickNeighbor(MazeGrid grid, int cell, SplittableRandom random) {
+        int count = 0;
+        int cols = grid.getCols();
+        int col = cell % cols;
+
+        //left neighbor
+        if (col > 0 && !grid.isVisited(cell - 1))
+            neighbors[count++] = cell - 1;
+
+        //right neighbor
+        if (col < cols - 1 && !grid.isVisited(cell + 1))
+            neighbors[count++] = cell + 1;
+
+        //top neighbor
+        if (cell >= cols && !grid.isVisited(cell - cols))
+            neighbors[count++] = cell - cols;
+
+        //bottom neighbor
+        if (cell + cols < grid.size() && !grid.isVisited(cell + cols))
+            neighbors[count++] = cell + cols;
+
+        if (count == 0)
+            return -1;
+        return neighbors[random.nextInt(count)];
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * DirtyRegion works out which cells of the maze changed between the frame last drawn
+ * and the next one: the old and new cells of the player and of every enemy that moved
+ * (an enemy sliding between two cells covers both), and the exit. The changed cells
+ * are kept as one bounding box, in cell units, which the renderer redraws alone
+ * instead of the whole surface. A change of maze or walls, or a camera move, makes the
+ * whole surface dirty.
+ */
+
+public class DirtyRegion {
+
+    /**
+     * Bounding box of the changed cells, inclusive
+     */
+    private int left, top, right, bottom;
+    /**
+     * True if no cell changed
+     */
+    private boolean empty = true;
+    /**
+     * True if everything must be redrawn
+     */
+    private boolean full;
+
+    /**
+     * Forgets every change.
+     */
+    public void clear() {
+        empty = true;
+        full = false;
+    }
+
+    /**
+     * Marks everything as changed.
+     */
+    public void setFull() {
+        full = true;
+    }
+
+    /**
+     * Adds a changed cell.
+     *
+     * @param cell The index of the cell, or -1 for none.
+     * @param cols Number of columns of the maze.
+     */
+    public void addCell(int cell, int cols) {
+        if (cell < 0)
+            return;
+        int col = cell % cols, row = cell / cols;
+        if (empty) {
+            left = right = col;
+            top = bottom = row;
+            empty = false;
+        }
+        else {
+            left = Math.min(left, col);
+            right = Math.max(right, col);
+            top = Math.min(top, row);
+            bottom = Math.max(bottom, row);
+        }
+    }
+
+    /**
+     * Adds the cells that look different in the next frame than in the last one drawn.
+     *
+     * @param drawn        The frame last drawn, or null if nothing was drawn.
+     * @param drawnMoving  True if enemies were between cells when it was drawn.
+     * @param latest       The frame to draw next.
+     * @param latestMoving True if enemies are between cells in the next frame.
+     */
+    public void addChanges(GameFrame drawn, boolean drawnMoving, GameFrame latest, boolean latestMoving) {
+        int cols = latest.getCols();
+        if (drawn == null || drawn.getCols() != cols || drawn.getRows() != latest.getRows()
+                || drawn.getWalls() != latest.getWalls() || !drawn.sameView(latest)) {
+            setFull();
+            return;
+        }
+
+        if (drawn.getPlayer() != latest.getPlayer()) {
+            addCell(drawn.getPlayer(), cols);
+            addCell(latest.getPlayer(), cols);
+        }
+        if (drawn.getExit() != latest.getExit()) {
+            addCell(drawn.getExit(), cols);
+            addCell(latest.getExit(), cols);
+        }
+
+        /**
+         * An enemy is drawn somewhere between its previous and current cell
+         */
+        boolean moving = drawnMoving || latestMoving;
+        int count = Math.max(drawn.getEnemyCount(), latest.getEnemyCount());
+        for (int i = 0; i < count; i++) {
+            boolean inDrawn = i < drawn.getEnemyCount(), inLatest = i < latest.getEnemyCount();
+            if (inDrawn && inLatest && drawn.getEnemy(i) == latest.getEnemy(i)
+                    && drawn.getPrevious(i) == latest.getPrevious(i)
+                    && (!moving || latest.getEnemy(i) == latest.getPrevious(i)))
+                continue;
+            if (inDrawn) {
+                addCell(drawn.getPrevious(i), cols);
+                addCell(drawn.getEnemy(i), cols);
+            }
+            if (inLatest) {
+                addCell(latest.getPrevious(i), cols);
+                addCell(latest.getEnemy(i), cols);
+            }
+        }
+    }
+
+    /**
+     * @return True if nothing changed.
+     */
+    public boolean isEmpty() {
+        return empty && !full;
+    }
+
+    /**
+     * @return True if everything must be redrawn.
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    /**
+     * @return The leftmost changed column.
+     */
+    public int getLeft() {
+        return left;
+    }
+
+    /**
+     * @return The topmost changed row.
+     */
+    public int getTop() {
+        return top;
+    }
+
+    /**
+     * @return The rightmost changed column.
+     */
+    public int getRight() {
+        return right;
+    }
+
+    /**
+     * @return The bottommost changed row.
+     */
+    public int getBottom() {
+        return bottom;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.myapplication;
+
+import java.util.Arrays; // Provides fast bulk fill of the distance array
+
+/**
+ * @author Vanessa and Noor
+ *
+ * DistanceField holds the walking distance from every cell of a maze to one target
+ * cell (the player), computed with a breadth-first search through open walls. It is
+ * only recomputed when the target moves to another cell or the maze changes, and the
+ * arrays are reused, so between two player moves any number of cells can look up
+ * their next step toward the target in O(1).
+ *
+ * Along with the distances the search records, for every cell, the wall it was
+ * reached through (a flow field), so a step is a single byte read.
+ */
+
+public class DistanceField {
+
+    /**
+     * Distance of a cell that cannot reach the target
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * Distance of every cell to the target, and the cell queue of the search
+     */
+    private int[] distance = new int[0], queue = new int[0];
+    /**
+     * Wall of every cell leading one step closer to the target, or 0
+     */
+    private byte[] flow = new byte[0];
+    /**
+     * Maze the field was computed on, or null if it must be recomputed
+     */
+    private MazeGrid grid;
+    /**
+     * Cell the distances are measured to
+     */
+    private int target = -1;
+
+    /**
+     * Makes the next update recompute the field, for example after the walls
+     * of the maze have changed in place.
+     */
+    public void invalidate() {
+        grid = null;
+    }
+
+    /**
+     * Brings the field up to date for a target cell, recomputing it only if the
+     * target or the maze changed since the last update.
+     *
+     * @param grid   The maze.
+     * @param target The index of the target cell.
+     * @return True if the field was recomputed.
+     */
+    public boolean update(MazeGrid grid, int target) {
+        if (grid == this.grid && target == this.target)
+            return false;
+        this.grid = grid;
+        this.target = target;
+
+        int size = grid.size();
+        if (distance.length < size) {
+            distance = new int[size];
+            queue = new int[size];
+            flow = new byte[size];
+        }
+        Arrays.fill(distance, 0, size, UNREACHABLE);
+        flow[target] = 0;
+
+        int cols = grid.getCols();
+        int head = 0, tail = 0;
+        queue[tail++] = target;
+        distance[target] = 0;
+        while (head < tail) {
+            int cell = queue[head++];
+            int walls = grid.getWalls(cell);
+            int next = distance[cell] + 1;
+            if ((walls & MazeGrid.TOP) == 0)
+                tail = visit(cell - cols, next, MazeGrid.BOTTOM, tail);
+            if ((walls & MazeGrid.BOTTOM) == 0)
+                tail = visit(cell + cols, next, MazeGrid.TOP, tail);
+            if ((walls & MazeGrid.LEFT) == 0)
+                tail = visit(cell - 1, next, MazeGrid.RIGHT, tail);
+            if ((walls & MazeGrid.RIGHT) == 0)
+                tail = visit(cell + 1, next, MazeGrid.LEFT, tail);
+        }
+        return true;
+    }
+
+    /**
+     * Queues a cell that has not been reached yet.
+     *
+     * @param cell     The index of the cell.
+     * @param distance Its distance to the target.
+     * @param back     The wall of the cell leading back toward the target.
+     * @param tail     The end of the queue.
+     * @return The new end of the queue.
+     */
+    private int visit(int cell, int distance, int back, int tail) {
+        if (this.distance[cell] == UNREACHABLE) {
+            this.distance[cell] = distance;
+            flow[cell] = (byte) back;
+            queue[tail++] = cell;
+        }
+        return tail;
+    }
+
+    /**
+     * @param cell The index of a cell.
+     * @return The number of steps from the cell to the target, or UNREACHABLE.
+     */
+    public int distance(int cell) {
+        return distance[cell];
+    }
+
+    /**
+     * Returns the neighbor one step closer to the target, read from the field.
+     *
+     * @param cell The index of the cell.
+     * @return The index of the next cell, or the cell itself if it is the target
+     *         or cannot reach it.
+     */
+    public int nextStep(int cell) {
+        if (distance[cell] == UNREACHABLE)
+            return cell;
+        switch (flow[cell]) {
+            case MazeGrid.TOP:
+                return cell - grid.getCols();
+            case MazeGrid.BOTTOM:
+                return cell + grid.getCols();
+            case MazeGrid.LEFT:
+                return cell - 1;
+            case MazeGrid.RIGHT:
+                return cell + 1;
+            default:
+                return cell;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * EllerMazeGenerator carves a perfect maze one row at a time with Eller's algorithm.
+ * Only the set membership of the current row is remembered, so the scratch memory is
+ * O(cols) no matter how many rows are generated. Rows can also be pulled one by one
+ * with {@link #start(int)} and {@link #nextRow(byte[], int, boolean, SplittableRandom)},
+ * and the sets of the last row saved to continue the maze later.
+ */
+
+public class EllerMazeGenerator implements MazeGenerator {
+
+    /**
+     * Width of the rows being generated
+     */
+    private int cols;
+    /**
+     * Set id of every cell in the current row, or -1 for a cell not yet in a set
+     */
+    private int[] sets = new int[0];
+    /**
+     * Union-find parent of every set id while merging a row
+     */
+    private int[] parent = new int[0];
+    /**
+     * Number of cells of each set in the current row
+     */
+    private int[] members = new int[0];
+    /**
+     * Marks set ids that are carried over from the previous row
+     */
+    private boolean[] used = new boolean[0];
+    /**
+     * Marks sets that already have a passage down to the next row
+     */
+    private boolean[] hasDown = new boolean[0];
+    /**
+     * Scratch row of wall masks used when filling a MazeGrid
+     */
+    private byte[] row = new byte[0];
+
+    /**
+     * Carves a maze into the grid.
+     *
+     * @param grid   The grid to carve.
+     * @param random The random number generator.
+     */
+    @Override
+    public void generate(MazeGrid grid, SplittableRandom random) {
+        int rows = grid.getRows();
+        start(grid.getCols());
+        for (int r = 0; r < rows; r++) {
+            nextRow(row, 0, r == rows - 1, random);
+            int base = r * cols;
+            for (int c = 0; c < cols; c++) {
+                grid.setWalls(base + c, row[c]);
+            }
+        }
+    }
+
+    /**
+     * @return The name of the algorithm.
+     */
+    @Override
+    public String id() {
+        return Algorithm.ELLER.name();
+    }
+
+    /**
+     * Starts a new maze of the given width. The first row generated afterwards
+     * has its top walls closed.
+     *
+     * @param cols The number of columns.
+     */
+    public void start(int cols) {
+        this.cols = cols;
+        if (sets.length < cols) {
+            sets = new int[cols];
+            parent = new int[cols];
+            members = new int[cols];
+            used = new boolean[cols];
+            hasDown = new boolean[cols];
+            row = new byte[cols];
+        }
+        for (int c = 0; c < cols; c++) {
+            sets[c] = -1;
+        }
+    }
+
+    /**
+     * Copies the set of every cell of the last row carved, or -1 for a cell with no
+     * passage down, so the maze can be continued later with {@link #resume(int[])}.
+     *
+     * @param out Receives one set id per column.
+     */
+    public void saveRow(int[] out) {
+        System.arraycopy(sets, 0, out, 0, cols);
+    }
+
+    /**
+     * Continues a maze below a row whose sets were copied with {@link #saveRow(int[])}.
+     *
+     * @param saved The set of every cell of the row, or -1.
+     */
+    public void resume(int[] saved) {
+        start(saved.length);
+        for (int c = 0; c < cols; c++) {
+            if (saved[c] < -1 || saved[c] >= cols) {
+                throw new IllegalArgumentException("Invalid set " + saved[c] + " in column " + c);
+            }
+            sets[c] = saved[c];
+        }
+    }
+
+    /**
+     * Carves the next row and writes the wall mask of each of its cells.
+     * A cell has an open top wall exactly when the cell above it had an
+     * open bottom wall in the previous row.
+     *
+     * @param out    Receives one wall mask per column.
+     * @param offset The position in out of the first column.
+     * @param last   True to close the maze off with this row.
+     * @param random The random number generator.
+     */
+    public void nextRow(byte[] out, int offset, boolean last, SplittableRandom random) {
+        /**
+         * Give a fresh set to every cell that is not connected from above
+         */
+        for (int id = 0; id < cols; id++) {
+            used[id] = false;
+            parent[id] = id;
+        }
+        for (int c = 0; c < cols; c++) {
+            if (sets[c] != -1)
+                used[sets[c]] = true;
+        }
+        int free = 0;
+        for (int c = 0; c < cols; c++) {
+            int walls = MazeGrid.ALL_WALLS;
+            if (sets[c] == -1) {
+                while (used[free])
+                    free++;
+                used[free] = true;
+                sets[c] = free;
+            } else {
+                walls &= ~MazeGrid.TOP;
+            }
+            out[offset + c] = (byte) walls;
+        }
+
+        /**
+         * Randomly join neighboring cells of different sets; the last row joins them all
+         */
+        for (int c = 0; c < cols - 1; c++) {
+            int a = find(sets[c]), b = find(sets[c + 1]);
+            if (a != b && (last || random.nextBoolean())) {
+                parent[a] = b;
+                out[offset + c] &= ~MazeGrid.RIGHT;
+                out[offset + c + 1] &= ~MazeGrid.LEFT;
+            }
+        }
+        for (int c = 0; c < cols; c++) {
+            sets[c] = find(sets[c]);
+        }
+        if (last)
+            return;
+
+        /**
+         * Open at least one passage down from every set
+         */
+        for (int id = 0; id < cols; id++) {
+            members[id] = 0;
+            hasDown[id] = false;
+        }
+        for (int c = 0; c < cols; c++) {
+            members[sets[c]]++;
+        }
+        for (int c = 0; c < cols; c++) {
+            int id = sets[c];
+            members[id]--;
+            if (random.nextBoolean() || (members[id] == 0 && !hasDown[id])) {
+                hasDown[id] = true;
+                out[offset + c] &= ~MazeGrid.BOTTOM;
+            } else {
+                sets[c] = -1;
+            }
+        }
+    }
+
+    /**
+     * Finds the root of a set id, halving the path on the way up.
+     *
+     * @param id The set id.
+     * @return The root id of the merged set.
+     */
+    private int find(int id) {
+        while (parent[id] != id) {
+            parent[id] = parent[parent[id]];
+            id = parent[id];
+        }
+        return id;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * EndlessMaze streams an endless vertical maze with Eller's algorithm. Only a fixed
+ * window of rows is kept, in a ring buffer: advancing by one row carves a new row into
+ * the slot of the oldest one, so memory stays flat no matter how far the player runs.
+ *
+ * Every row draws from its own random number generator, derived from the seed and the
+ * row number, so the stream can be resumed from a saved window and the sets of its
+ * bottom row instead of being replayed from the first row.
+ */
+
+public class EndlessMaze {
+
+    /**
+     * Number of columns and of buffered rows
+     */
+    private final int cols, rows;
+    /**
+     * Wall masks of the buffered rows, rows * cols bytes used as a ring of rows
+     */
+    private final byte[] ring;
+    /**
+     * Row-by-row generator carrying the set state between rows
+     */
+    private final EllerMazeGenerator eller = new EllerMazeGenerator();
+    /**
+     * Seed the current stream was started from
+     */
+    private long seed;
+    /**
+     * Ring slot holding the top row of the window
+     */
+    private int head;
+    /**
+     * Number of rows that have scrolled off the top of the window
+     */
+    private long firstRow;
+
+    /**
+     * Constructs an endless maze and carves its first window of rows.
+     *
+     * @param cols Number of columns.
+     * @param rows Number of rows kept in the window.
+     * @param seed The seed of the stream.
+     */
+    public EndlessMaze(int cols, int rows, long seed) {
+        if (cols <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Invalid maze size: " + cols + "x" + rows);
+        }
+        this.cols = cols;
+        this.rows = rows;
+        this.ring = new byte[cols * rows];
+        reset(seed);
+    }
+
+    /**
+     * Constructs an endless maze resuming a saved window of rows.
+     *
+     * @param cols     Number of columns.
+     * @param rows     Number of rows kept in the window.
+     * @param seed     The seed of the stream.
+     * @param firstRow The absolute row number of the top row of the window.
+     * @param window   The wall masks of the window, from {@link #saveWindow(byte[], int[])}.
+     * @param frontier The sets of the bottom row, from {@link #saveWindow(byte[], int[])}.
+     */
+    public EndlessMaze(int cols, int rows, long seed, long firstRow, byte[] window, int[] frontier) {
+        if (cols <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Invalid maze size: " + cols + "x" + rows);
+        }
+        if (firstRow < 0) {
+            throw new IllegalArgumentException("Invalid first row: " + firstRow);
+        }
+        if (window.length != cols * rows || frontier.length != cols) {
+            throw new IllegalArgumentException("Window size does not match the maze");
+        }
+        this.cols = cols;
+        this.rows = rows;
+        this.ring = window.clone();
+        this.seed = seed;
+        this.firstRow = firstRow;
+        eller.resume(frontier);
+    }
+
+    /**
+     * Throws the current window away and starts a new stream. The same seed
+     * always streams the same rows.
+     *
+     * @param seed The seed of the stream.
+     */
+    public void reset(long seed) {
+        this.seed = seed;
+        head = 0;
+        firstRow = 0;
+        eller.start(cols);
+        for (int r = 0; r < rows; r++) {
+            eller.nextRow(ring, r * cols, false, rowRandom(r));
+        }
+    }
+
+    /**
+     * Scrolls the window down by one row, recycling the slot of the top row.
+     */
+    public void advance() {
+        eller.nextRow(ring, head * cols, false, rowRandom(firstRow + rows));
+        head = (head + 1) % rows;
+        firstRow++;
+    }
+
+    /**
+     * Returns the random number generator of a row. The seed and row number are
+     * mixed so the streams of neighboring rows do not overlap.
+     *
+     * @param row The absolute row number.
+     * @return A generator only used for that row.
+     */
+    private SplittableRandom rowRandom(long row) {
+        long z = seed + (row + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return new SplittableRandom(z ^ (z >>> 31));
+    }
+
+    /**
+     * Saves the window and the sets of its bottom row, from which
+     * {@link #EndlessMaze(int, int, long, long, byte[], int[])} resumes the stream.
+     *
+     * @param window   Receives the wall masks of the window, row by row from the top.
+     * @param frontier Receives the set of every cell of the bottom row.
+     */
+    public void saveWindow(byte[] window, int[] frontier) {
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(ring, ((head + r) % rows) * cols, window, r * cols, cols);
+        }
+        eller.saveRow(frontier);
+    }
+
+    /**
+     * @return The seed the current stream was started from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The number of columns.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return The number of rows in the window.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The absolute row number of the top row of the window.
+     */
+    public long getFirstRow() {
+        return firstRow;
+    }
+
+    /**
+     * Returns the wall mask of a cell in the window.
+     *
+     * @param col The column of the cell.
+     * @param row The row of the cell, relative to the top of the window.
+     * @return A combination of the MazeGrid wall bits.
+     */
+    public int getWalls(int col, int row) {
+        return ring[((head + row) % rows) * cols + col];
+    }
+
+    /**
+     * Copies the window into a grid of the same size. The top and bottom edges of
+     * the window are closed so the copy can be walked like a regular maze.
+     *
+     * @param grid The grid to fill.
+     */
+    public void copyTo(MazeGrid grid) {
+        if (grid.getCols() != cols || grid.getRows() != rows) {
+            throw new IllegalArgumentException("Grid size does not match the window");
+        }
+        for (int r = 0; r < rows; r++) {
+            int base = ((head + r) % rows) * cols;
+            for (int c = 0; c < cols; c++) {
+                int walls = ring[base + c];
+                if (r == 0)
+                    walls |= MazeGrid.TOP;
+                if (r == rows - 1)
+                    walls |= MazeGrid.BOTTOM;
+                grid.setWalls(r * cols + c, walls);
+            }
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.myapplication;
+
+import java.util.Arrays; // Grows the enemy array
+
+/**
+ * @author Vanessa and Noor
+ *
+ * EnemyManager holds the cells of any number of enemies chasing the player and moves
+ * them all one step at a time. For a crowd, one breadth-first flow field from the
+ * player is computed per player move and shared: each enemy then only reads the
+ * direction stored in its cell, so hundreds of enemies cost about the same as one.
+ *
+ * A few enemies on a perfect maze are cheaper to move with MazeTree queries, and a
+ * single enemy on a maze with loops with one pathfinder search per player move, than
+ * with a field over the whole maze; {@link #step(MazeGrid, MazeTree, int)} picks the
+ * cheapest. The path found is followed until the player or the maze changes.
+ */
+
+public class EnemyManager {
+
+    /**
+     * Number of maze cells the flow field search visits in the time of one tree query
+     * (measured with MazeBenchmark)
+     */
+    static final int TREE_QUERY_CELLS = 10;
+
+    /**
+     * Cell index of every enemy
+     */
+    private int[] cells = new int[4];
+    /**
+     * Cell index of every enemy before its last step, to draw it in between
+     */
+    private int[] previous = new int[4];
+    /**
+     * Number of enemies
+     */
+    private int count;
+    /**
+     * Flow field toward the player shared by every enemy
+     */
+    private final DistanceField field = new DistanceField();
+    /**
+     * Search used to move a single enemy on a maze with loops
+     */
+    private Pathfinder pathfinder = new AStarPathfinder();
+    /**
+     * Cells of the last path found
+     */
+    private int[] path = new int[0];
+    /**
+     * Number of cells of the last path, 0 once it is no longer valid
+     */
+    private int pathLength;
+    /**
+     * Position of the single enemy along the last path
+     */
+    private int pathIndex;
+    /**
+     * Target the last path leads to
+     */
+    private int pathTarget;
+
+    /**
+     * Removes every enemy.
+     */
+    public void clear() {
+        count = 0;
+        field.invalidate();
+        pathLength = 0;
+    }
+
+    /**
+     * Adds an enemy.
+     *
+     * @param cell The index of its cell.
+     */
+    public void add(int cell) {
+        if (count == cells.length) {
+            cells = Arrays.copyOf(cells, count * 2);
+            previous = Arrays.copyOf(previous, count * 2);
+        }
+        previous[count] = cell;
+        cells[count++] = cell;
+    }
+
+    /**
+     * @return The number of enemies.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param i The number of the enemy.
+     * @return The index of its cell.
+     */
+    public int get(int i) {
+        return cells[i];
+    }
+
+    /**
+     * @param i The number of the enemy.
+     * @return The index of its cell before its last step.
+     */
+    public int getPrevious(int i) {
+        return previous[i];
+    }
+
+    /**
+     * @return True if an enemy changed cell on its last step.
+     */
+    public boolean isMoving() {
+        for (int i = 0; i < count; i++) {
+            if (previous[i] != cells[i])
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Sets the search used to move a single enemy on a maze with loops.
+     *
+     * @param pathfinder The pathfinder to use.
+     */
+    public void setPathfinder(Pathfinder pathfinder) {
+        this.pathfinder = pathfinder;
+    }
+
+    /**
+     * Makes the next step recompute the flow field, after the walls of the maze
+     * have changed in place.
+     */
+    public void invalidate() {
+        field.invalidate();
+        pathLength = 0;
+    }
+
+    /**
+     * Moves every enemy one step along a shortest path toward the target.
+     *
+     * @param grid   The maze.
+     * @param tree   The spanning tree of the maze, used if it is built.
+     * @param target The index of the target cell (the player).
+     */
+    public void step(MazeGrid grid, MazeTree tree, int target) {
+        System.arraycopy(cells, 0, previous, 0, count);
+        if (tree.isBuilt() && count * TREE_QUERY_CELLS < grid.size()) {
+            for (int i = 0; i < count; i++)
+                cells[i] = tree.nextStep(cells[i], target);
+            return;
+        }
+
+        /**
+         * The path is only searched again when the target or the maze changed,
+         * or the enemy was moved off it
+         */
+        if (count == 1) {
+            if (pathLength == 0 || pathTarget != target || path[pathIndex] != cells[0]) {
+                if (path.length < grid.size())
+                    path = new int[grid.size()];
+                pathLength = pathfinder.findPath(grid, cells[0], target, path);
+                pathIndex = 0;
+                pathTarget = target;
+            }
+            if (pathIndex + 1 < pathLength)
+                cells[0] = path[++pathIndex];
+            return;
+        }
+
+        /**
+         * The field is only searched again when the target or the maze changed
+         */
+        field.update(grid, target);
+        for (int i = 0; i < count; i++)
+            cells[i] = field.nextStep(cells[i]);
+    }
+
+    /**
+     * Moves every enemy below the top row up one row, as the endless maze scrolls
+     * down; enemies on the top row are dragged along.
+     *
+     * @param cols Number of columns of the maze.
+     */
+    public void scroll(int cols) {
+        for (int i = 0; i < count; i++) {
+            if (cells[i] >= cols)
+                cells[i] -= cols;
+            if (previous[i] >= cols)
+                previous[i] -= cols;
+        }
+        field.invalidate();
+        pathLength = 0;
+    }
+
+    /**
+     * @param cell The index of a cell.
+     * @return True if an enemy is on the cell.
+     */
+    public boolean occupies(int cell) {
+        for (int i = 0; i < count; i++) {
+            if (cells[i] == cell)
+                return true;
+        }
+        return false;
+    }
+}
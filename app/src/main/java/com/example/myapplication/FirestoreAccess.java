@@ -45,6 +45,18 @@ public class FirestoreAccess {
      * @param score The score of the player.
      */
     public void storePlayerScore(String email, int score) {
+        storePlayerScore(email, score, null);
+    }
+
+    /**
+     * Stores the player's score in the Firestore database, together with
+     * the seed of the maze it was played on.
+     *
+     * @param email The email of the player.
+     * @param score The score of the player.
+     * @param seed  The seed of the maze, or null if unknown.
+     */
+    public void storePlayerScore(String email, int score, Long seed) {
         /**
          * Get an instance of the Firestore database
          */
@@ -56,10 +68,13 @@ public class FirestoreAccess {
         Map<String, Object> data = new HashMap<>();
         data.put("email", email);
         data.put("score", score);
+        if (seed != null)
+            data.put("seed", seed);
 
         /**
-         * Add the data to the "leaderboard" collection in Firestore
+         * Add the data to the "leaderboard" collection in Firestore, timing the request
          */
+        final long start = System.nanoTime();
         db.collection("leaderboard")
                 .add(data)
                 .addOnSuccessListener(new OnSuccessListener<DocumentReference>() {
@@ -71,6 +86,7 @@ public class FirestoreAccess {
                      */
                     @Override
                     public void onSuccess(DocumentReference documentReference) {
+                        FrameStats.getInstance().recordSince(FrameStats.Metric.FIRESTORE, start);
                         Log.d(TAG, "DocumentSnapshot added with ID: " + documentReference.getId());
                     }
                 })
@@ -82,6 +98,7 @@ public class FirestoreAccess {
                      */
                     @Override
                     public void onFailure(@NonNull Exception e) {
+                        FrameStats.getInstance().recordSince(FrameStats.Metric.FIRESTORE, start);
                         Log.w(TAG, "Error adding document", e);
                     }
                 });
@@ -128,9 +145,11 @@ public class FirestoreAccess {
      * @param listener The listener to handle the retrieval success or failure.
      */
     public void retrievePlayerScores(String collection, OnRetrieveScoresListener listener) {
+        long start = System.nanoTime();
         db.collection(collection)
                 .get()
                 .addOnSuccessListener(queryDocumentSnapshots -> {
+                    FrameStats.getInstance().recordSince(FrameStats.Metric.FIRESTORE, start);
 
                     /**
                      * Create a list to store DocumentSnapshot objects
@@ -150,6 +169,7 @@ public class FirestoreAccess {
                     listener.onRetrieveSuccess(documentSnapshots);
                 })
                 .addOnFailureListener(e -> {
+                    FrameStats.getInstance().recordSince(FrameStats.Metric.FIRESTORE, start);
                     /***
                      * Log an error message with the exception
                      */
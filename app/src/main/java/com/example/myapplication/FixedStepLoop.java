@@ -0,0 +1,153 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * FixedStepLoop turns the irregular times at which frames are drawn into simulation
+ * ticks of a fixed length. Each call to {@link #advance(long, Tick)} adds the time
+ * elapsed on a monotonic clock to an accumulator and runs one tick per whole step in
+ * it, so the game runs at the same speed whatever the frame rate, and a late frame
+ * catches up by running several ticks. After a long stall (the app was paused, the
+ * debugger stopped it) at most a few ticks are run and the rest of the time is dropped.
+ *
+ * The time left in the accumulator, as a fraction of a step, is how far rendering is
+ * between the previous tick and the next one, and is used to interpolate positions.
+ */
+
+public class FixedStepLoop {
+
+    /**
+     * Work run once per simulation tick
+     */
+    public interface Tick {
+        /**
+         * Advances the simulation by one step.
+         */
+        void tick();
+    }
+
+    /**
+     * Default number of ticks run by one advance before the remaining time is dropped
+     */
+    public static final int DEFAULT_MAX_CATCH_UP = 5;
+
+    /**
+     * Length of one tick in nanoseconds
+     */
+    private long stepNanos;
+    /**
+     * Largest number of ticks run by one advance
+     */
+    private final int maxCatchUp;
+    /**
+     * Time of the last advance, or -1 before the first one
+     */
+    private long lastNanos = -1;
+    /**
+     * Time elapsed that has not been simulated yet
+     */
+    private long accumulator;
+    /**
+     * Number of ticks run since the last reset
+     */
+    private long ticks;
+
+    /**
+     * Constructs a loop.
+     *
+     * @param stepNanos  Length of one tick in nanoseconds.
+     * @param maxCatchUp Largest number of ticks run by one advance.
+     */
+    public FixedStepLoop(long stepNanos, int maxCatchUp) {
+        if (maxCatchUp < 1) {
+            throw new IllegalArgumentException("Invalid catch-up limit: " + maxCatchUp);
+        }
+        setStep(stepNanos);
+        this.maxCatchUp = maxCatchUp;
+    }
+
+    /**
+     * Changes the length of a tick, starting from the next advance.
+     *
+     * @param stepNanos Length of one tick in nanoseconds.
+     */
+    public void setStep(long stepNanos) {
+        if (stepNanos <= 0) {
+            throw new IllegalArgumentException("Invalid step: " + stepNanos);
+        }
+        this.stepNanos = stepNanos;
+        accumulator = Math.min(accumulator, stepNanos - 1);
+    }
+
+    /**
+     * Restarts the loop, so that the time before the next advance is not simulated.
+     */
+    public void reset() {
+        lastNanos = -1;
+        accumulator = 0;
+        ticks = 0;
+    }
+
+    /**
+     * Runs the ticks due at a point in time.
+     *
+     * @param nowNanos The current time of a monotonic clock, in nanoseconds.
+     * @param tick     The work run once per tick.
+     * @return The number of ticks run.
+     */
+    public int advance(long nowNanos, Tick tick) {
+        if (lastNanos == -1 || nowNanos < lastNanos) {
+            lastNanos = nowNanos;
+            return 0;
+        }
+        accumulator += nowNanos - lastNanos;
+        lastNanos = nowNanos;
+
+        int run = 0;
+        while (accumulator >= stepNanos) {
+            /**
+             * Too far behind, drop the time that cannot be caught up
+             */
+            if (run == maxCatchUp) {
+                accumulator %= stepNanos;
+                break;
+            }
+            accumulator -= stepNanos;
+            ticks++;
+            run++;
+            tick.tick();
+        }
+        return run;
+    }
+
+    /**
+     * @return How far the time is between the last tick and the next one, from 0 to 1.
+     */
+    public float getAlpha() {
+        return (float) accumulator / stepNanos;
+    }
+
+    /**
+     * Returns the time the last tick was due, on the clock given to advance, from
+     * which another thread can work out the alpha of a later time.
+     *
+     * @return The time in nanoseconds, or 0 before the first advance.
+     */
+    public long getLastTickNanos() {
+        return lastNanos == -1 ? 0 : lastNanos - accumulator;
+    }
+
+    /**
+     * @return The number of ticks run since the last reset.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return The length of one tick in nanoseconds.
+     */
+    public long getStep() {
+        return stepNanos;
+    }
+}
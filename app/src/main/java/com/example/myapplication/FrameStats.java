@@ -0,0 +1,180 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * FrameStats collects the timings of the game in the field: how long each frame takes
+ * to draw, and how long the simulation ticks, enemy path searches, maze creations and
+ * Firestore requests take. Every metric is a
+ * LatencyHistogram, so the threads of the game record without locking. Recording is
+ * off until {@link #setEnabled(boolean)} turns it on (the debug overlay does), and
+ * then costs a few atomic increments per value.
+ *
+ * One instance is shared by the whole app, as the Firestore requests are made outside
+ * of the maze view. The statistics can be exported as JSON to diagnose jank.
+ */
+
+public class FrameStats {
+
+    /**
+     * What is measured
+     */
+    public enum Metric {
+        /**
+         * Drawing one frame on the render thread, from locking the surface to posting it,
+         * without the statistics overlay (ns)
+         */
+        DRAW("draw", "ns"),
+        /**
+         * One simulation tick (ns)
+         */
+        TICK("tick", "ns"),
+        /**
+         * One step of the enemies along their shortest paths, the breadth-first searches (ns)
+         */
+        PATH("path", "ns"),
+        /**
+         * Following the player's trail after a touch (ns)
+         */
+        TRAIL("trail", "ns"),
+        /**
+         * Creating a new maze (ns)
+         */
+        MAZE("maze", "ns"),
+        /**
+         * A Firestore request, from sending it to its callback (ns)
+         */
+        FIRESTORE("firestore", "ns");
+
+        /**
+         * Name in the JSON export, and unit of the values
+         */
+        private final String key, unit;
+
+        Metric(String key, String unit) {
+            this.key = key;
+            this.unit = unit;
+        }
+
+        /**
+         * @return The name of the metric in the JSON export.
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @return The unit of the values.
+         */
+        public String getUnit() {
+            return unit;
+        }
+    }
+
+    /**
+     * Statistics of the app
+     */
+    private static final FrameStats INSTANCE = new FrameStats();
+
+    /**
+     * Histogram of every metric, by ordinal
+     */
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Metric.values().length];
+    /**
+     * True while values are recorded
+     */
+    private volatile boolean enabled;
+
+    /**
+     * Constructs statistics with recording off.
+     */
+    public FrameStats() {
+        for (int i = 0; i < histograms.length; i++)
+            histograms[i] = new LatencyHistogram();
+    }
+
+    /**
+     * @return The statistics shared by the app.
+     */
+    public static FrameStats getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Turns recording on or off. The values recorded so far are kept.
+     *
+     * @param enabled True to record.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return True while values are recorded.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records a value of a metric, if recording is on.
+     *
+     * @param metric The metric.
+     * @param value  The value, in the unit of the metric.
+     */
+    public void record(Metric metric, long value) {
+        if (enabled)
+            histograms[metric.ordinal()].record(value);
+    }
+
+    /**
+     * Records the time elapsed since a start time, if recording is on.
+     *
+     * @param metric     The metric.
+     * @param startNanos The start, from System.nanoTime().
+     */
+    public void recordSince(Metric metric, long startNanos) {
+        if (enabled)
+            histograms[metric.ordinal()].record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * @param metric A metric.
+     * @return Its histogram.
+     */
+    public LatencyHistogram get(Metric metric) {
+        return histograms[metric.ordinal()];
+    }
+
+    /**
+     * Forgets every value recorded.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms)
+            histogram.reset();
+    }
+
+    /**
+     * Returns the statistics as a JSON object, with one entry per metric:
+     * {"enabled": true, "metrics": {"draw": {"unit": "ns", "count": ..., "buckets": [...]}, ...}}.
+     *
+     * @return The JSON text.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"enabled\":").append(enabled).append(",\"metrics\":{");
+        for (Metric metric : Metric.values()) {
+            if (metric.ordinal() > 0)
+                json.append(',');
+            json.append('"').append(metric.getKey()).append("\":");
+            int start = json.length();
+            get(metric).appendJson(json);
+
+            /**
+             * Put the unit first in the histogram's object
+             */
+            json.insert(start + 1, "\"unit\":\"" + metric.getUnit() + "\",");
+        }
+        return json.append("}}").toString();
+    }
+}
@@ -24,6 +24,10 @@ public class Game {
      * Player's score
      */
     private int score;
+    /**
+     * Seed of the maze the score was played on, or null if unknown
+     */
+    private Long seed;
     /**
      * instance of firestoreAccess
      */
@@ -42,6 +46,28 @@ public class Game {
         this.firestoreAccess = firestoreAccess;
     }
 
+    /**
+     * Records the seed of the maze the score is played on, so it is stored with the score.
+     *
+     * @param seed The seed of the maze (see Maze.getSeed()).
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Stores the final score of a game in Firestore, together with the seed of the
+     * maze the game ended on.
+     *
+     * @param score The final score.
+     * @param seed  The seed of the maze (see Maze.getSeed()).
+     */
+    public void recordScore(int score, long seed) {
+        this.score = score;
+        setSeed(seed);
+        firestoreAccess.storePlayerScore(email, score, seed);
+    }
+
     /**
      * Updates the player's score by adding 1000 points and stores the updated score in Firestore.
      */
@@ -69,9 +95,12 @@ public class Game {
                 });
 
         /**
-         * Store the updated score in Firestore with email
+         * Store the updated score in Firestore with email (and maze seed when known)
          */
-        firestoreAccess.storePlayerScore(email, newScore);
+        if (seed != null)
+            firestoreAccess.storePlayerScore(email, newScore, seed);
+        else
+            firestoreAccess.storePlayerScore(email, newScore);
 
     }
 
@@ -0,0 +1,268 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * GameFrame is a copy of everything needed to draw the game: the walls, the part of
+ * the maze the camera shows, the player, exit and enemies, the score and lives, and the
+ * time of the last enemy move. The game logic publishes a new frame whenever the game
+ * changes, and the render thread draws the latest one at its own pace, so neither
+ * thread waits for the other.
+ *
+ * A published frame is not modified while the renderer may draw it. Once the renderer
+ * moves on to a newer frame it hands the old one back, and only then is it refilled
+ * with {@link #set} for a later state, so the game does not allocate a frame per move.
+ *
+ * The walls are a copy of the maze grid, so the renderer can build the walls of any
+ * part of it, with the MazePyramid being built from it for zoomed out views. They are
+ * only copied when they change, and frames of the same maze share the copy.
+ */
+
+public final class GameFrame {
+
+    /**
+     * Copy of the maze, shared and not modified while the frame is drawn
+     */
+    private MazeGrid walls;
+    /**
+     * Level of detail pyramid of the walls, possibly still being built
+     */
+    private MazePyramid pyramid;
+    /**
+     * Size of a cell, and the maze coordinates at the top left corner of the view
+     */
+    private float cellSize, left, top;
+    /**
+     * Cell size the maze was first shown at, which the text is sized by
+     */
+    private float baseCellSize;
+    /**
+     * Cell index of the player, and of the exit or -1
+     */
+    private int player, exit;
+    /**
+     * Cell index of every enemy, and before its last step
+     */
+    private int[] enemies = new int[0], previous = new int[0];
+    /**
+     * The score and remaining lives
+     */
+    private int score, lives;
+    /**
+     * Time the last enemy move was due, and the time between moves (ns)
+     */
+    private long tickNanos, stepNanos;
+
+    /**
+     * Constructs a frame, copying the enemy cells and the view of the camera.
+     *
+     * @param walls     Copy of the maze, no longer modified by the caller.
+     * @param pyramid   Level of detail pyramid of the walls.
+     * @param camera    The camera.
+     * @param player    Cell index of the player.
+     * @param exit      Cell index of the exit, or -1.
+     * @param enemies   The enemies.
+     * @param score     The score.
+     * @param lives     Remaining lives.
+     * @param tickNanos Time the last enemy move was due (ns).
+     * @param stepNanos Time between enemy moves (ns).
+     */
+    public GameFrame(MazeGrid walls, MazePyramid pyramid, Camera camera, int player, int exit, EnemyManager enemies,
+                     int score, int lives, long tickNanos, long stepNanos) {
+        set(walls, pyramid, camera, player, exit, enemies, score, lives, tickNanos, stepNanos);
+    }
+
+    /**
+     * Refills a frame the renderer handed back, with the same arguments as the
+     * constructor. The enemy arrays are reused when the number of enemies is the same.
+     */
+    void set(MazeGrid walls, MazePyramid pyramid, Camera camera, int player, int exit, EnemyManager enemies,
+             int score, int lives, long tickNanos, long stepNanos) {
+        this.walls = walls;
+        this.pyramid = pyramid;
+        this.cellSize = camera.getCellSize();
+        this.left = camera.getLeft();
+        this.top = camera.getTop();
+        this.baseCellSize = camera.getBaseCellSize();
+        this.player = player;
+        this.exit = exit;
+        int count = enemies.size();
+        if (this.enemies.length != count) {
+            this.enemies = new int[count];
+            this.previous = new int[count];
+        }
+        for (int i = 0; i < count; i++) {
+            this.enemies[i] = enemies.get(i);
+            this.previous[i] = enemies.getPrevious(i);
+        }
+        this.score = score;
+        this.lives = lives;
+        this.tickNanos = tickNanos;
+        this.stepNanos = stepNanos;
+    }
+
+    /**
+     * Checks whether a frame of the given state would draw the same as this one, with
+     * the same arguments as the constructor.
+     *
+     * @return True if nothing differs, so there is no need to publish a new frame.
+     */
+    public boolean matches(MazeGrid walls, MazePyramid pyramid, Camera camera, int player, int exit,
+                           EnemyManager enemies, int score, int lives, long tickNanos, long stepNanos) {
+        if (walls != this.walls || pyramid != this.pyramid || player != this.player || exit != this.exit
+                || score != this.score || lives != this.lives || tickNanos != this.tickNanos
+                || stepNanos != this.stepNanos || camera.getCellSize() != cellSize || camera.getLeft() != left
+                || camera.getTop() != top || camera.getBaseCellSize() != baseCellSize
+                || enemies.size() != this.enemies.length) {
+            return false;
+        }
+        for (int i = 0; i < this.enemies.length; i++) {
+            if (enemies.get(i) != this.enemies[i] || enemies.getPrevious(i) != previous[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns how far the enemies are from their previous cell to their current one.
+     *
+     * @param frameNanos Time of the frame being drawn (ns), on the clock of the ticks.
+     * @return The fraction of the step, from 0 to 1.
+     */
+    public float getAlpha(long frameNanos) {
+        if (frameNanos <= tickNanos)
+            return 0;
+        if (frameNanos - tickNanos >= stepNanos)
+            return 1;
+        return (float) (frameNanos - tickNanos) / stepNanos;
+    }
+
+    /**
+     * @return True if an enemy is still on its way to its current cell at that time.
+     */
+    public boolean isMoving(long frameNanos) {
+        if (getAlpha(frameNanos) >= 1)
+            return false;
+        for (int i = 0; i < enemies.length; i++) {
+            if (enemies[i] != previous[i])
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param other Another frame.
+     * @return True if both frames show the same part of the maze at the same size.
+     */
+    public boolean sameView(GameFrame other) {
+        return cellSize == other.cellSize && left == other.left && top == other.top
+                && baseCellSize == other.baseCellSize;
+    }
+
+    /**
+     * @return The number of columns.
+     */
+    public int getCols() {
+        return walls.getCols();
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return walls.getRows();
+    }
+
+    /**
+     * @return The copy of the maze; must not be modified.
+     */
+    public MazeGrid getWalls() {
+        return walls;
+    }
+
+    /**
+     * @return The level of detail pyramid of the walls, possibly still being built.
+     */
+    public MazePyramid getPyramid() {
+        return pyramid;
+    }
+
+    /**
+     * @return The size of a cell in pixels.
+     */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return The maze column at the left edge of the view.
+     */
+    public float getLeft() {
+        return left;
+    }
+
+    /**
+     * @return The maze row at the top edge of the view.
+     */
+    public float getTop() {
+        return top;
+    }
+
+    /**
+     * @return The cell size the maze was first shown at.
+     */
+    public float getBaseCellSize() {
+        return baseCellSize;
+    }
+
+    /**
+     * @return Cell index of the player.
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * @return Cell index of the exit, or -1.
+     */
+    public int getExit() {
+        return exit;
+    }
+
+    /**
+     * @return The number of enemies.
+     */
+    public int getEnemyCount() {
+        return enemies.length;
+    }
+
+    /**
+     * @param i The number of the enemy.
+     * @return The index of its cell.
+     */
+    public int getEnemy(int i) {
+        return enemies[i];
+    }
+
+    /**
+     * @param i The number of the enemy.
+     * @return The index of its cell before its last step.
+     */
+    public int getPrevious(int i) {
+        return previous[i];
+    }
+
+    /**
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return Remaining lives.
+     */
+    public int getLives() {
+        return lives;
+    }
+}
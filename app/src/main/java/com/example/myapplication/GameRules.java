@@ -0,0 +1,97 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * GameRules holds the tunable constants of a game: how fast the enemies move, how
+ * many lives the player has and how the score is counted. The Maze view plays by
+ * them, and GameSimulator runs headless games with them to tune the values.
+ */
+
+public class GameRules {
+
+    /**
+     * Rules of the game as shipped
+     */
+    public static final GameRules DEFAULT = new GameRules(400, 0, 3, 1000, 3);
+
+    /**
+     * Delay between enemy moves and before the first one (ms)
+     */
+    private final long moveDelay, startDelay;
+    /**
+     * Lives the player starts with
+     */
+    private final int lives;
+    /**
+     * Points for reaching the exit of a maze
+     */
+    private final int exitPoints;
+    /**
+     * Number of mazes played (escaped or caught in) before the game ends
+     */
+    private final int mazesPerGame;
+
+    /**
+     * Constructs a set of rules.
+     *
+     * @param moveDelay    Delay between enemy moves (ms).
+     * @param startDelay   Delay before the enemies start moving (ms).
+     * @param lives        Lives the player starts with.
+     * @param exitPoints   Points for reaching the exit of a maze.
+     * @param mazesPerGame Number of mazes played before the game ends.
+     */
+    public GameRules(long moveDelay, long startDelay, int lives, int exitPoints, int mazesPerGame) {
+        if (moveDelay <= 0 || startDelay < 0 || lives < 1 || mazesPerGame < 1) {
+            throw new IllegalArgumentException("Invalid game rules");
+        }
+        this.moveDelay = moveDelay;
+        this.startDelay = startDelay;
+        this.lives = lives;
+        this.exitPoints = exitPoints;
+        this.mazesPerGame = mazesPerGame;
+    }
+
+    /**
+     * @param ticks Number of enemy moves due since the maze started.
+     * @return True if the enemies may move on that tick, after the start delay.
+     */
+    public boolean isStarted(long ticks) {
+        return ticks * moveDelay > startDelay;
+    }
+
+    /**
+     * @return The delay between enemy moves (ms).
+     */
+    public long getMoveDelay() {
+        return moveDelay;
+    }
+
+    /**
+     * @return The delay before the enemies start moving (ms).
+     */
+    public long getStartDelay() {
+        return startDelay;
+    }
+
+    /**
+     * @return The lives the player starts with.
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * @return The points for reaching the exit of a maze.
+     */
+    public int getExitPoints() {
+        return exitPoints;
+    }
+
+    /**
+     * @return The number of mazes played before the game ends.
+     */
+    public int getMazesPerGame() {
+        return mazesPerGame;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.myapplication;
+
+import android.app.Activity; // Activity showing the maze
+import android.os.Bundle; // Saved state of the activity
+
+import com.google.firebase.auth.FirebaseAuth; // Tells which player is logged in after a recreation
+import com.google.firebase.auth.FirebaseUser; // Player logged in
+
+/**
+ * @author Vanessa and Noor
+ *
+ * GameScreen shows the maze once a player logged in or created an account, and keeps
+ * the game in progress when the activity showing it is recreated (after a rotation, or
+ * after the process was killed in the background). Both LoginActivity and
+ * CreateAccountActivity call it from their lifecycle methods: the game is saved to
+ * storage when the activity pauses, the activity remembers that the maze was shown,
+ * and the recreated activity shows the maze again instead of its form, which resumes
+ * the saved game when the maze view state is restored.
+ */
+
+final class GameScreen {
+
+    /**
+     * Key of the saved state telling that the maze was being played
+     */
+    private static final String KEY_PLAYING = "playing";
+
+    /**
+     * Not instantiated.
+     */
+    private GameScreen() {
+    }
+
+    /**
+     * Shows the maze to play.
+     *
+     * @param activity The activity showing the maze.
+     * @param game     The game of the logged in player, the final score is recorded for.
+     */
+    static void show(Activity activity, Game game) {
+        activity.setContentView(R.layout.maze);
+        Maze maze = activity.findViewById(R.id.mazeView);
+        maze.setGame(game);
+    }
+
+    /**
+     * Shows the maze again if the activity was recreated while it was played.
+     *
+     * @param activity           The activity being created.
+     * @param savedInstanceState The state the activity is created with, or null.
+     * @param authentication     The Firebase authentication, telling who was playing.
+     * @param firestoreAccess    Where the final score is recorded.
+     * @return True if the maze is shown, so the activity must not set up its form.
+     */
+    static boolean restore(Activity activity, Bundle savedInstanceState, FirebaseAuth authentication,
+                           FirestoreAccess firestoreAccess) {
+        if (savedInstanceState == null || !savedInstanceState.getBoolean(KEY_PLAYING))
+            return false;
+        activity.setContentView(R.layout.maze);
+        FirebaseUser user = authentication.getCurrentUser();
+        if (user != null) {
+            Maze maze = activity.findViewById(R.id.mazeView);
+            maze.setGame(new Game(user.getEmail(), 0, firestoreAccess));
+        }
+        return true;
+    }
+
+    /**
+     * Saves the game in progress when the activity pauses, since the process may be
+     * killed without further notice.
+     *
+     * @param activity The activity being paused.
+     */
+    static void pause(Activity activity) {
+        Maze maze = activity.findViewById(R.id.mazeView);
+        if (maze != null)
+            maze.saveSnapshot();
+    }
+
+    /**
+     * Remembers whether the maze is being played, so it is shown again when the
+     * activity is recreated.
+     *
+     * @param activity The activity saving its state.
+     * @param outState The state of the activity.
+     */
+    static void saveState(Activity activity, Bundle outState) {
+        outState.putBoolean(KEY_PLAYING, activity.findViewById(R.id.mazeView) != null);
+    }
+}
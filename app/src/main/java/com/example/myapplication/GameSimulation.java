@@ -0,0 +1,248 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * GameSimulation plays complete games without a view, with a bot in place of the
+ * player's touches. It follows the game as the Maze view plays it: the player starts
+ * at the bottom left and heads for the bottom right exit, the enemies start spread
+ * from the top left, take one step each time the player changes cell and one more
+ * per move delay, and the game ends after the last life or the last maze.
+ *
+ * Time is simulated: the bot moves once per player delay and the enemy moves due in
+ * between are run by a FixedStepLoop fed with the simulated time, so a game takes
+ * microseconds whatever the delays. A simulation is reused for any number of games
+ * but is not thread safe; GameSimulator runs one per thread.
+ */
+
+public class GameSimulation {
+
+    /**
+     * Chooses the moves of the simulated player
+     */
+    public interface Bot {
+        /**
+         * Chooses the next cell of the player.
+         *
+         * @param game   The game being played.
+         * @param random Source of randomness of the bot.
+         * @return The index of a neighbor of the player's cell; moves through
+         *         walls are ignored, like swipes toward a wall.
+         */
+        int nextCell(GameSimulation game, SplittableRandom random);
+    }
+
+    /**
+     * Receives the outcome of every maze and game
+     */
+    public interface Listener {
+        /**
+         * Called when a maze ends.
+         *
+         * @param caught True if an enemy caught the player.
+         * @param escaped True if the player reached the exit.
+         * @param millis Simulated time spent in the maze (ms).
+         */
+        void mazeEnded(boolean caught, boolean escaped, long millis);
+
+        /**
+         * Called when a game ends.
+         *
+         * @param score The final score.
+         */
+        void gameEnded(int score);
+    }
+
+    /**
+     * Maze being played
+     */
+    private final MazeGrid grid;
+    /**
+     * Algorithm carving the mazes
+     */
+    private final MazeGenerator generator;
+    /**
+     * Rules of the game
+     */
+    private final GameRules rules;
+    /**
+     * Number of enemies placed on each maze
+     */
+    private final int enemyCount;
+    /**
+     * Enemies chasing the player
+     */
+    private final EnemyManager enemies = new EnemyManager();
+    /**
+     * Spanning tree of the current maze
+     */
+    private final MazeTree tree = new MazeTree();
+    /**
+     * Runs the enemy moves due in the simulated time
+     */
+    private final FixedStepLoop loop;
+    /**
+     * Enemy move run by the loop
+     */
+    private final FixedStepLoop.Tick tick = new FixedStepLoop.Tick() {
+        @Override
+        public void tick() {
+            if (!caught && rules.isStarted(loop.getTicks())) {
+                enemies.step(grid, tree, player);
+                caught = enemies.occupies(player);
+            }
+        }
+    };
+    /**
+     * Cell index of the player and exit
+     */
+    private int player, exit;
+    /**
+     * True once an enemy caught the player in the current maze
+     */
+    private boolean caught;
+
+    /**
+     * Constructs a simulation.
+     *
+     * @param cols       Number of columns of the mazes.
+     * @param rows       Number of rows of the mazes.
+     * @param generator  Algorithm carving the mazes.
+     * @param rules      Rules of the game.
+     * @param enemyCount Number of enemies placed on each maze.
+     */
+    public GameSimulation(int cols, int rows, MazeGenerator generator, GameRules rules, int enemyCount) {
+        if (enemyCount < 0) {
+            throw new IllegalArgumentException("Invalid enemy count: " + enemyCount);
+        }
+        grid = new MazeGrid(cols, rows);
+        this.generator = generator;
+        this.rules = rules;
+        this.enemyCount = enemyCount;
+        loop = new FixedStepLoop(rules.getMoveDelay() * 1_000_000, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Plays one complete game.
+     *
+     * @param random      Source of the mazes and of the bot's randomness.
+     * @param bot         The simulated player.
+     * @param playerDelay Time between two moves of the player (ms).
+     * @param maxMillis   Time after which a maze is abandoned (ms), ending the game.
+     * @param listener    Receives the outcome of every maze and of the game.
+     * @return The final score.
+     */
+    public int play(SplittableRandom random, Bot bot, long playerDelay, long maxMillis, Listener listener) {
+        int lives = rules.getLives(), score = 0;
+        for (int mazesPlayed = 0; mazesPlayed < rules.getMazesPerGame() && lives > 0; mazesPlayed++) {
+            startMaze(random);
+
+            long millis = 0;
+            while (!caught && player != exit && millis < maxMillis) {
+                millis += playerDelay;
+                loop.advance(millis * 1_000_000, tick);
+                if (!caught)
+                    movePlayer(bot.nextCell(this, random));
+            }
+
+            listener.mazeEnded(caught, player == exit && !caught, millis);
+            if (caught)
+                lives--;
+            else if (player == exit)
+                score += rules.getExitPoints();
+            else
+                break;
+        }
+        listener.gameEnded(score);
+        return score;
+    }
+
+    /**
+     * Carves a new maze and places the player, exit and enemies as the Maze view does.
+     *
+     * @param random Source of the maze.
+     */
+    private void startMaze(SplittableRandom random) {
+        int cols = grid.getCols(), rows = grid.getRows();
+        grid.reset();
+        generator.generate(grid, random);
+        tree.build(grid);
+
+        player = grid.index(Math.min(1, cols - 1), rows - 1);
+        exit = grid.size() - 1;
+        enemies.clear();
+        for (int i = 0; i < enemyCount; i++)
+            enemies.add((int) ((long) i * grid.size() / enemyCount));
+        enemies.invalidate();
+        caught = enemies.occupies(player);
+
+        loop.reset();
+        loop.advance(0, tick);
+    }
+
+    /**
+     * Moves the player to a neighboring cell if no wall is in the way. The enemies
+     * then take their step along the player's trail.
+     *
+     * @param cell The index of the cell to move to.
+     */
+    private void movePlayer(int cell) {
+        int cols = grid.getCols();
+        int wall;
+        if (cell == player - cols)
+            wall = MazeGrid.TOP;
+        else if (cell == player + cols)
+            wall = MazeGrid.BOTTOM;
+        else if (cell == player - 1 && grid.col(player) > 0)
+            wall = MazeGrid.LEFT;
+        else if (cell == player + 1 && grid.col(cell) > 0)
+            wall = MazeGrid.RIGHT;
+        else
+            return;
+        if (grid.hasWall(player, wall))
+            return;
+
+        player = cell;
+        if (player != exit) {
+            enemies.step(grid, tree, player);
+            caught = enemies.occupies(player);
+        }
+    }
+
+    /**
+     * @return The maze being played.
+     */
+    public MazeGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return The spanning tree of the maze being played.
+     */
+    public MazeTree getTree() {
+        return tree;
+    }
+
+    /**
+     * @return The enemies chasing the player.
+     */
+    public EnemyManager getEnemies() {
+        return enemies;
+    }
+
+    /**
+     * @return Cell index of the player.
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * @return Cell index of the exit.
+     */
+    public int getExit() {
+        return exit;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.myapplication;
+
+import java.util.ArrayList; // Holds the pending batches
+import java.util.List; // List of pending batches
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.Callable; // Task that returns a result
+import java.util.concurrent.ForkJoinPool; // Work-stealing thread pool
+import java.util.concurrent.Future; // Result of a batch
+
+/**
+ * @author Vanessa and Noor
+ *
+ * GameSimulator plays thousands of headless games in parallel to tune the game rules
+ * from data instead of play testing: the games are split into batches run on a pool,
+ * each batch with its own GameSimulation and SimulationReport, and the reports are
+ * merged. Every game gets its own seed drawn up front, so the merged report only
+ * depends on the seed, not on the number of threads.
+ */
+
+public class GameSimulator {
+
+    /**
+     * Default time after which a maze is abandoned (ms)
+     */
+    public static final long DEFAULT_MAX_MILLIS = 10 * 60 * 1000;
+    /**
+     * Number of batches per pool thread, so that threads finishing early pick up more
+     */
+    private static final int BATCHES_PER_THREAD = 4;
+
+    /**
+     * Pool running the batches
+     */
+    private final ForkJoinPool pool;
+    /**
+     * Number of columns and rows of the mazes
+     */
+    private final int cols, rows;
+    /**
+     * Algorithm carving the mazes
+     */
+    private final MazeGenerator.Algorithm algorithm;
+    /**
+     * Rules of the simulated games
+     */
+    private final GameRules rules;
+    /**
+     * Number of enemies placed on each maze
+     */
+    private final int enemyCount;
+
+    /**
+     * Constructs a simulator.
+     *
+     * @param pool       The pool running the games.
+     * @param cols       Number of columns of the mazes.
+     * @param rows       Number of rows of the mazes.
+     * @param algorithm  Algorithm carving the mazes.
+     * @param rules      Rules of the games.
+     * @param enemyCount Number of enemies placed on each maze.
+     */
+    public GameSimulator(ForkJoinPool pool, int cols, int rows, MazeGenerator.Algorithm algorithm,
+                         GameRules rules, int enemyCount) {
+        this.pool = pool;
+        this.cols = cols;
+        this.rows = rows;
+        this.algorithm = algorithm;
+        this.rules = rules;
+        this.enemyCount = enemyCount;
+    }
+
+    /**
+     * Plays a number of complete games.
+     *
+     * @param games       Number of games.
+     * @param seed        Seed of the mazes and bot decisions of every game.
+     * @param bot         The simulated player, shared by every thread.
+     * @param playerDelay Time between two moves of the player (ms).
+     * @param maxMillis   Time after which a maze is abandoned (ms).
+     * @return The outcomes of the games.
+     */
+    public SimulationReport run(int games, long seed, final GameSimulation.Bot bot,
+                                final long playerDelay, final long maxMillis) {
+        final long[] seeds = new long[games];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < games; i++)
+            seeds[i] = random.nextLong();
+
+        int batches = Math.max(1, Math.min(games, pool.getParallelism() * BATCHES_PER_THREAD));
+        List<Future<SimulationReport>> pending = new ArrayList<>(batches);
+        for (int batch = 0; batch < batches; batch++) {
+            final int from = (int) ((long) batch * games / batches);
+            final int to = (int) ((long) (batch + 1) * games / batches);
+            pending.add(pool.submit(new Callable<SimulationReport>() {
+                @Override
+                public SimulationReport call() {
+                    GameSimulation simulation = new GameSimulation(cols, rows, algorithm.create(), rules, enemyCount);
+                    SimulationReport report = new SimulationReport();
+                    for (int i = from; i < to; i++)
+                        simulation.play(new SplittableRandom(seeds[i]), bot, playerDelay, maxMillis, report);
+                    return report;
+                }
+            }));
+        }
+
+        /**
+         * Merge in batch order, so the samples do not depend on which thread finished first
+         */
+        SimulationReport report = new SimulationReport();
+        for (Future<SimulationReport> result : pending)
+            report.merge(Uninterruptibles.get(result, "Game simulation failed"));
+        return report;
+    }
+}
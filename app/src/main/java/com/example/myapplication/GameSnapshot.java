@@ -0,0 +1,410 @@
+package com.example.myapplication;
+
+import java.io.BufferedInputStream; // Buffers reads of the state file
+import java.io.BufferedOutputStream; // Buffers writes of the state file
+import java.io.DataInputStream; // Reads big-endian primitive values
+import java.io.DataOutputStream; // Writes big-endian primitive values
+import java.io.File; // Represents a file on disk
+import java.io.FileInputStream; // Reads raw bytes from a file
+import java.io.FileOutputStream; // Writes raw bytes to a file
+import java.io.IOException; // Thrown when reading or writing fails
+
+/**
+ * @author Vanessa and Noor
+ *
+ * GameSnapshot captures the state of a game in progress so it can be resumed after
+ * the activity is recreated or the process is killed. The state is written to two
+ * files in a directory (normally the app-private files directory):
+ *
+ * <pre>
+ *   game.snapshot  int magic 'MZST', short version 3, short flags (1 = endless),
+ *                  int cols, int rows, long seed, long endless row,
+ *                  int player, exit, lives, score, mazes played,
+ *                  int enemy count, int[enemy count] enemy cells   (56 bytes + 4 per enemy)
+ *                  endless only: byte[cols * rows] window wall masks, int[cols] bottom row sets
+ *   game.maze      the maze in the MazeFile format (regular levels only)
+ * </pre>
+ *
+ * Restoring a regular level decodes the stored maze instead of carving it again. The
+ * endless stream stores its window of rows and the Eller sets of the bottom one, so it
+ * resumes in constant time however far the player got.
+ */
+
+public class GameSnapshot {
+
+    /**
+     * Names of the files the snapshot is stored in
+     */
+    public static final String STATE_FILE = "game.snapshot", MAZE_FILE = "game.maze";
+    /**
+     * Identifies a snapshot file ("MZST" in ASCII)
+     */
+    static final int MAGIC = 0x4D5A5354;
+    /**
+     * Current version of the format
+     */
+    static final short VERSION = 3;
+    /**
+     * Flag set when the snapshot is of the endless mode
+     */
+    private static final int ENDLESS = 1;
+
+    /**
+     * Number of columns and rows of the maze
+     */
+    private final int cols, rows;
+    /**
+     * Maze being played, or null in endless mode
+     */
+    private final MazeGrid grid;
+    /**
+     * True if the endless mode is being played
+     */
+    private final boolean endless;
+    /**
+     * Seed of the maze or of the endless stream
+     */
+    private final long seed;
+    /**
+     * Index of the first row shown in endless mode
+     */
+    private final long endlessRow;
+    /**
+     * Wall masks of the endless window, top row first, or null
+     */
+    private final byte[] window;
+    /**
+     * Eller sets of the bottom row of the endless window, or null
+     */
+    private final int[] frontier;
+    /**
+     * Cell index of the player and exit
+     */
+    private final int player, exit;
+    /**
+     * Cell index of every enemy
+     */
+    private final int[] enemies;
+    /**
+     * Remaining lives, score and number of mazes played
+     */
+    private final int lives, score, mazesPlayed;
+
+    /**
+     * Constructs a snapshot of a regular level.
+     *
+     * @param grid        The maze being played.
+     * @param player      Cell index of the player.
+     * @param exit        Cell index of the exit.
+     * @param enemies     The enemies.
+     * @param lives       Remaining lives.
+     * @param score       The score.
+     * @param mazesPlayed Number of mazes played.
+     */
+    public GameSnapshot(MazeGrid grid, int player, int exit, EnemyManager enemies, int lives, int score, int mazesPlayed) {
+        this(grid.getCols(), grid.getRows(), grid, false, grid.getSeed(), 0, null, null,
+                player, exit, cells(enemies), lives, score, mazesPlayed);
+    }
+
+    /**
+     * Constructs a snapshot of the endless mode.
+     *
+     * @param endless     The endless maze being played.
+     * @param player      Cell index of the player.
+     * @param enemies     The enemies.
+     * @param lives       Remaining lives.
+     * @param score       The score.
+     * @param mazesPlayed Number of mazes played.
+     */
+    public GameSnapshot(EndlessMaze endless, int player, EnemyManager enemies, int lives, int score, int mazesPlayed) {
+        this(endless.getCols(), endless.getRows(), null, true, endless.getSeed(), endless.getFirstRow(),
+                new byte[endless.getCols() * endless.getRows()], new int[endless.getCols()],
+                player, -1, cells(enemies), lives, score, mazesPlayed);
+        endless.saveWindow(window, frontier);
+    }
+
+    /**
+     * Constructs a snapshot from its fields.
+     */
+    private GameSnapshot(int cols, int rows, MazeGrid grid, boolean endless, long seed, long endlessRow,
+                         byte[] window, int[] frontier,
+                         int player, int exit, int[] enemies, int lives, int score, int mazesPlayed) {
+        this.cols = cols;
+        this.rows = rows;
+        this.grid = grid;
+        this.endless = endless;
+        this.seed = seed;
+        this.endlessRow = endlessRow;
+        this.window = window;
+        this.frontier = frontier;
+        this.player = player;
+        this.exit = exit;
+        this.enemies = enemies;
+        this.lives = lives;
+        this.score = score;
+        this.mazesPlayed = mazesPlayed;
+    }
+
+    /**
+     * Writes the snapshot into a directory, replacing any previous one. Each file is
+     * written aside and then renamed, so a kill while saving leaves the old snapshot.
+     *
+     * @param dir The directory to write to.
+     * @throws IOException If the files cannot be written.
+     */
+    public void write(File dir) throws IOException {
+        if (grid != null) {
+            File maze = new File(dir, MAZE_FILE + ".tmp");
+            MazeFile.write(grid, maze);
+            replace(maze, new File(dir, MAZE_FILE));
+        }
+
+        File state = new File(dir, STATE_FILE + ".tmp");
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(state)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeShort(endless ? ENDLESS : 0);
+            out.writeInt(cols);
+            out.writeInt(rows);
+            out.writeLong(seed);
+            out.writeLong(endlessRow);
+            out.writeInt(player);
+            out.writeInt(exit);
+            out.writeInt(lives);
+            out.writeInt(score);
+            out.writeInt(mazesPlayed);
+            out.writeInt(enemies.length);
+            for (int enemy : enemies)
+                out.writeInt(enemy);
+            if (endless) {
+                out.write(window);
+                for (int set : frontier)
+                    out.writeInt(set);
+            }
+        } finally {
+            out.close();
+        }
+        replace(state, new File(dir, STATE_FILE));
+    }
+
+    /**
+     * Reads the snapshot stored in a directory.
+     *
+     * @param dir The directory to read from.
+     * @return The stored snapshot.
+     * @throws IOException If there is no valid snapshot in the directory.
+     */
+    public static GameSnapshot read(File dir) throws IOException {
+        File state = new File(dir, STATE_FILE);
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(state)));
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a game snapshot: " + state);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported game snapshot version " + version + ": " + state);
+            }
+            boolean endless = (in.readShort() & ENDLESS) != 0;
+            int cols = in.readInt();
+            int rows = in.readInt();
+            long seed = in.readLong();
+            long endlessRow = in.readLong();
+            int player = in.readInt();
+            int exit = in.readInt();
+            int lives = in.readInt();
+            int score = in.readInt();
+            int mazesPlayed = in.readInt();
+
+            /**
+             * Reject positions outside of the maze
+             */
+            if (cols <= 0 || rows <= 0 || cols > MazeGrid.MAX_SIZE || rows > MazeGrid.MAX_SIZE
+                    || !inside(player, cols, rows)
+                    || (endless ? exit != -1 : !inside(exit, cols, rows)) || endlessRow < 0) {
+                throw new IOException("Corrupt game snapshot: " + state);
+            }
+            int count = in.readInt();
+            if (count < 0 || count > cols * rows) {
+                throw new IOException("Corrupt game snapshot: " + state);
+            }
+            int[] enemies = new int[count];
+            for (int i = 0; i < count; i++) {
+                enemies[i] = in.readInt();
+                if (!inside(enemies[i], cols, rows)) {
+                    throw new IOException("Corrupt game snapshot: " + state);
+                }
+            }
+
+            /**
+             * The endless window must only hold wall bits, and the sets must be columns
+             */
+            byte[] window = null;
+            int[] frontier = null;
+            if (endless) {
+                window = new byte[cols * rows];
+                in.readFully(window);
+                for (byte walls : window) {
+                    if ((walls & ~MazeGrid.ALL_WALLS) != 0) {
+                        throw new IOException("Corrupt game snapshot: " + state);
+                    }
+                }
+                frontier = new int[cols];
+                for (int c = 0; c < cols; c++) {
+                    frontier[c] = in.readInt();
+                    if (frontier[c] < -1 || frontier[c] >= cols) {
+                        throw new IOException("Corrupt game snapshot: " + state);
+                    }
+                }
+            }
+
+            /**
+             * The maze must be the one the state was saved with
+             */
+            MazeGrid grid = null;
+            if (!endless) {
+                MazeFile maze = MazeFile.open(new File(dir, MAZE_FILE));
+                if (maze.getCols() != cols || maze.getRows() != rows || maze.getSeed() != seed) {
+                    throw new IOException("Game snapshot does not match its maze: " + state);
+                }
+                grid = maze.toGrid();
+            }
+            return new GameSnapshot(cols, rows, grid, endless, seed, endlessRow, window, frontier,
+                    player, exit, enemies, lives, score, mazesPlayed);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Deletes the snapshot stored in a directory, if any.
+     *
+     * @param dir The directory of the snapshot.
+     */
+    public static void delete(File dir) {
+        new File(dir, STATE_FILE).delete();
+        new File(dir, MAZE_FILE).delete();
+    }
+
+    /**
+     * Recreates the endless stream at the saved position, from the saved window.
+     *
+     * @return The endless maze, or null if the snapshot is of a regular level.
+     */
+    public EndlessMaze toEndlessMaze() {
+        if (!endless)
+            return null;
+        return new EndlessMaze(cols, rows, seed, endlessRow, window, frontier);
+    }
+
+    /**
+     * Moves a written file over the previous one.
+     *
+     * @param from The freshly written file.
+     * @param to   The file to replace.
+     * @throws IOException If the file cannot be renamed.
+     */
+    private static void replace(File from, File to) throws IOException {
+        if (!from.renameTo(to)) {
+            to.delete();
+            if (!from.renameTo(to)) {
+                throw new IOException("Cannot rename " + from + " to " + to);
+            }
+        }
+    }
+
+    /**
+     * @return The cell of every enemy.
+     */
+    private static int[] cells(EnemyManager enemies) {
+        int[] cells = new int[enemies.size()];
+        for (int i = 0; i < cells.length; i++)
+            cells[i] = enemies.get(i);
+        return cells;
+    }
+
+    /**
+     * @return True if the cell index lies inside a maze of the given size.
+     */
+    private static boolean inside(int index, int cols, int rows) {
+        return index >= 0 && index < cols * rows;
+    }
+
+    /**
+     * @return The number of columns.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The maze being played, or null in endless mode.
+     */
+    public MazeGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * @return True if the endless mode is being played.
+     */
+    public boolean isEndless() {
+        return endless;
+    }
+
+    /**
+     * @return The seed of the maze or of the endless stream.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return Cell index of the player.
+     */
+    public int getPlayer() {
+        return player;
+    }
+
+    /**
+     * @return Cell index of the exit, or -1 in endless mode.
+     */
+    public int getExit() {
+        return exit;
+    }
+
+    /**
+     * @return Cell index of every enemy.
+     */
+    public int[] getEnemies() {
+        return enemies.clone();
+    }
+
+    /**
+     * @return Remaining lives.
+     */
+    public int getLives() {
+        return lives;
+    }
+
+    /**
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return Number of mazes played.
+     */
+    public int getMazesPlayed() {
+        return mazesPlayed;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * HudText is a label followed by a number ("Score: 1000") kept in a reused char array,
+ * so the heads-up display can be drawn with Canvas.drawText(char[], ...) on every frame
+ * without building a new String. The digits are only written again when the number
+ * changes, which also tells the caller when to measure the text again.
+ */
+
+public class HudText {
+
+    /**
+     * Characters of the label and number, and the number of them used
+     */
+    private final char[] chars;
+    private int length;
+    /**
+     * Length of the label
+     */
+    private final int labelLength;
+    /**
+     * Number shown, and whether one has been set yet
+     */
+    private int value;
+    private boolean set;
+
+    /**
+     * Constructs a text with a label and no number.
+     *
+     * @param label The text before the number.
+     */
+    public HudText(String label) {
+        labelLength = label.length();
+        /**
+         * Room for the longest int, "-2147483648"
+         */
+        chars = new char[labelLength + 11];
+        label.getChars(0, labelLength, chars, 0);
+        length = labelLength;
+    }
+
+    /**
+     * Shows a number after the label.
+     *
+     * @param value The number.
+     * @return True if the text changed.
+     */
+    public boolean setValue(int value) {
+        if (set && value == this.value)
+            return false;
+        this.value = value;
+        set = true;
+
+        /**
+         * Count the digits, then write them from the last one
+         */
+        long remaining = Math.abs((long) value);
+        int digits = 1;
+        for (long rest = remaining / 10; rest > 0; rest /= 10)
+            digits++;
+        int pos = labelLength;
+        if (value < 0)
+            chars[pos++] = '-';
+        length = pos + digits;
+        for (int i = length - 1; i >= pos; i--) {
+            chars[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return true;
+    }
+
+    /**
+     * @return The characters of the text; only the first {@link #getLength()} are used.
+     */
+    public char[] getChars() {
+        return chars;
+    }
+
+    /**
+     * @return The number of characters of the text.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return The text, for logging and tests.
+     */
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+}
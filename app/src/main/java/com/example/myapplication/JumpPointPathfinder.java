@@ -0,0 +1,196 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * JumpPointPathfinder is A* with jump points adapted to mazes. Classic jump point
+ * search skips the cells of straight runs on open 8-connected grids; in a maze the
+ * cells worth skipping are corridor cells (exactly two openings, straight or turning),
+ * where there is no choice to make. From each expanded cell the search follows every
+ * opening along its corridor up to the next junction, dead end or the goal, and only
+ * those jump points enter the open list. Dead ends other than the goal are pruned.
+ *
+ * A corridor is never shorter than the Manhattan distance between its ends, so the
+ * heuristic stays consistent and the paths stay shortest, with loops or without.
+ * Expanded nodes count jump points only; the corridor cells walked are not expanded.
+ */
+
+public class JumpPointPathfinder implements Pathfinder {
+
+    /**
+     * Cost from the start, previous jump point, and first wall opened from
+     * the previous jump point, of every reached jump point
+     */
+    private int[] cost = new int[0], parent = new int[0], via = new int[0];
+    /**
+     * Stamp of the search that last reached, and last closed, every cell
+     */
+    private int[] seen = new int[0], closed = new int[0];
+    /**
+     * Stamp of the current search
+     */
+    private int stamp;
+    /**
+     * Jump points to expand, ordered by estimated path length
+     */
+    private final NodeHeap open = new NodeHeap();
+    /**
+     * Column and row of the goal of the current search
+     */
+    private int goalCol, goalRow, cols;
+    /**
+     * Number of steps of the last corridor followed
+     */
+    private int steps;
+    /**
+     * Number of jump points expanded by the last search
+     */
+    private int expanded;
+
+    @Override
+    public int findPath(MazeGrid grid, int start, int goal, int[] path) {
+        int size = grid.size();
+        if (seen.length < size || stamp == Integer.MAX_VALUE) {
+            cost = new int[size];
+            parent = new int[size];
+            via = new int[size];
+            seen = new int[size];
+            closed = new int[size];
+            stamp = 0;
+        }
+        stamp++;
+        cols = grid.getCols();
+        goalCol = goal % cols;
+        goalRow = goal / cols;
+        open.clear();
+        expanded = 0;
+
+        reach(-1, 0, start, 0);
+        while (!open.isEmpty()) {
+            int cell = open.pop();
+            if (closed[cell] == stamp)
+                continue;
+            closed[cell] = stamp;
+            expanded++;
+            if (cell == goal)
+                return trace(grid, goal, path);
+
+            int walls = grid.getWalls(cell);
+            for (int wall = MazeGrid.TOP; wall <= MazeGrid.RIGHT; wall <<= 1) {
+                if ((walls & wall) != 0)
+                    continue;
+                int end = follow(grid, cell, wall, goal, null, 0);
+
+                /**
+                 * Nothing lies beyond a dead end
+                 */
+                if (end != goal && Integer.bitCount(grid.getWalls(end)) == 3)
+                    continue;
+                reach(cell, wall, end, cost[cell] + steps);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Follows a corridor from a cell through one of its openings, up to the next cell
+     * that is not a corridor cell, the goal, or back to the starting cell. The number
+     * of steps taken is left in {@link #steps}.
+     *
+     * @param grid The maze.
+     * @param from The index of the cell to start from.
+     * @param wall The open wall to leave through.
+     * @param goal The index of the goal cell.
+     * @param out  Receives the cells after the start, or null.
+     * @param at   Position in out of the first cell.
+     * @return The index of the cell where the corridor ends.
+     */
+    private int follow(MazeGrid grid, int from, int wall, int goal, int[] out, int at) {
+        int previous = from;
+        int cell = step(from, wall);
+        steps = 1;
+        while (true) {
+            if (out != null)
+                out[at + steps - 1] = cell;
+            int walls = grid.getWalls(cell);
+            if (cell == goal || cell == from || Integer.bitCount(walls) != 2)
+                return cell;
+
+            /**
+             * Leave through the opening that does not lead back
+             */
+            int next = -1;
+            for (int side = MazeGrid.TOP; side <= MazeGrid.RIGHT; side <<= 1) {
+                if ((walls & side) == 0) {
+                    next = step(cell, side);
+                    if (next != previous)
+                        break;
+                }
+            }
+            previous = cell;
+            cell = next;
+            steps++;
+        }
+    }
+
+    /**
+     * Opens a jump point if this is the cheapest way found to reach it.
+     *
+     * @param from The jump point it is reached from, or -1 for the start.
+     * @param wall The wall opened from that jump point.
+     * @param cell The index of the cell.
+     * @param g    The cost of reaching it.
+     */
+    private void reach(int from, int wall, int cell, int g) {
+        if (closed[cell] == stamp || (seen[cell] == stamp && cost[cell] <= g))
+            return;
+        seen[cell] = stamp;
+        cost[cell] = g;
+        parent[cell] = from;
+        via[cell] = wall;
+        int h = Math.abs(cell % cols - goalCol) + Math.abs(cell / cols - goalRow);
+        open.push(cell, ((long) (g + h) << 32) | h);
+    }
+
+    /**
+     * Writes the full path ending at the goal, walking each corridor again
+     * between consecutive jump points.
+     *
+     * @param grid The maze.
+     * @param goal The index of the goal cell.
+     * @param path Receives the cells of the path.
+     * @return The number of cells in the path.
+     */
+    private int trace(MazeGrid grid, int goal, int[] path) {
+        for (int cell = goal; parent[cell] != -1; cell = parent[cell]) {
+            int from = parent[cell];
+            follow(grid, from, via[cell], cell, path, cost[from] + 1);
+        }
+        int start = goal;
+        while (parent[start] != -1)
+            start = parent[start];
+        path[0] = start;
+        return cost[goal] + 1;
+    }
+
+    /**
+     * Returns the cell on the other side of an open wall.
+     */
+    private int step(int cell, int wall) {
+        switch (wall) {
+            case MazeGrid.TOP:
+                return cell - cols;
+            case MazeGrid.BOTTOM:
+                return cell + cols;
+            case MazeGrid.LEFT:
+                return cell - 1;
+            default:
+                return cell + 1;
+        }
+    }
+
+    @Override
+    public int getExpanded() {
+        return expanded;
+    }
+}
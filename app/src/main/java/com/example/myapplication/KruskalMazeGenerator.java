@@ -0,0 +1,99 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * KruskalMazeGenerator carves a perfect maze with randomized Kruskal's algorithm.
+ * Every inner wall is visited once in random order and removed when the two cells
+ * it separates are still in different sets of a union-find forest.
+ */
+
+public class KruskalMazeGenerator implements MazeGenerator {
+
+    /**
+     * Inner walls, encoded as cell * 2 (right wall) or cell * 2 + 1 (bottom wall)
+     */
+    private int[] edges = new int[0];
+    /**
+     * Union-find parent of every cell
+     */
+    private int[] parent = new int[0];
+
+    /**
+     * Carves a maze into the grid.
+     *
+     * @param grid   The grid to carve.
+     * @param random The random number generator used to shuffle the walls.
+     */
+    @Override
+    public void generate(MazeGrid grid, SplittableRandom random) {
+        int size = grid.size();
+        int cols = grid.getCols();
+        if (parent.length < size) {
+            parent = new int[size];
+            edges = new int[size * 2];
+        }
+
+        /**
+         * Every cell starts in its own set
+         */
+        int count = 0;
+        for (int cell = 0; cell < size; cell++) {
+            parent[cell] = cell;
+            if (cell % cols < cols - 1)
+                edges[count++] = cell * 2;
+            if (cell + cols < size)
+                edges[count++] = cell * 2 + 1;
+        }
+
+        /**
+         * Fisher-Yates shuffle of the inner walls
+         */
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int tmp = edges[i];
+            edges[i] = edges[j];
+            edges[j] = tmp;
+        }
+
+        /**
+         * Remove a wall whenever it joins two different sets, stopping once
+         * the spanning tree is complete
+         */
+        int remaining = size - 1;
+        for (int i = 0; i < count && remaining > 0; i++) {
+            int cell = edges[i] >> 1;
+            int next = (edges[i] & 1) == 0 ? cell + 1 : cell + cols;
+            int a = find(cell), b = find(next);
+            if (a != b) {
+                parent[a] = b;
+                grid.removeWall(cell, next);
+                remaining--;
+            }
+        }
+    }
+
+    /**
+     * @return The name of the algorithm.
+     */
+    @Override
+    public String id() {
+        return Algorithm.KRUSKAL.name();
+    }
+
+    /**
+     * Finds the root of a cell's set, halving the path on the way up.
+     *
+     * @param cell The index of the cell.
+     * @return The root of the set containing the cell.
+     */
+    private int find(int cell) {
+        while (parent[cell] != cell) {
+            parent[cell] = parent[parent[cell]];
+            cell = parent[cell];
+        }
+        return cell;
+    }
+}
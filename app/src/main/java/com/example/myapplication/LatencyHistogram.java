@@ -0,0 +1,174 @@
+package com.example.myapplication;
+
+import java.util.Locale; // Formats the numbers of the JSON export the same on every device
+import java.util.concurrent.atomic.AtomicLong; // Total, sum and maximum updated without locks
+import java.util.concurrent.atomic.AtomicLongArray; // Bucket counts updated without locks
+
+/**
+ * @author Vanessa and Noor
+ *
+ * LatencyHistogram counts non-negative values, such as durations in nanoseconds or
+ * allocation counts, in log-linear buckets like an HDR histogram: values below 16 have
+ * a bucket each, and every power of two above is split into 8 buckets, so any value is
+ * known within 12.5% using under 500 buckets for the whole range of a long. Recording
+ * is a few atomic increments with no lock and no allocation, so the game and render
+ * threads can record on every frame while another thread reads or exports.
+ *
+ * Reads are not a snapshot: a value recorded during a read may be counted by some of
+ * the statistics and not others.
+ */
+
+public class LatencyHistogram {
+
+    /**
+     * Bits of a value kept exactly above the leading one, and buckets per power of two
+     */
+    private static final int SUB_BITS = 3, SUB_BUCKETS = 1 << SUB_BITS;
+    /**
+     * Number of buckets, up to the largest long
+     */
+    private static final int BUCKETS = index(Long.MAX_VALUE) + 1;
+
+    /**
+     * Number of values in every bucket
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    /**
+     * Number of values, their sum and the largest one
+     */
+    private final AtomicLong count = new AtomicLong(), sum = new AtomicLong(), max = new AtomicLong();
+
+    /**
+     * Returns the bucket of a value.
+     *
+     * @param value A value, 0 or more.
+     * @return The index of its bucket.
+     */
+    static int index(long value) {
+        if (value < 2 * SUB_BUCKETS)
+            return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    /**
+     * @param index A bucket.
+     * @return The smallest value counted in it.
+     */
+    static long lowestValue(int index) {
+        if (index < 2 * SUB_BUCKETS)
+            return index;
+        int shift = index / SUB_BUCKETS - 1;
+        return (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+    }
+
+    /**
+     * @param index A bucket.
+     * @return The largest value counted in it.
+     */
+    static long highestValue(int index) {
+        return index + 1 < BUCKETS ? lowestValue(index + 1) - 1 : Long.MAX_VALUE;
+    }
+
+    /**
+     * Counts a value. Negative values (a clock going backwards) count as 0.
+     *
+     * @param value The value.
+     */
+    public void record(long value) {
+        if (value < 0)
+            value = 0;
+        counts.incrementAndGet(index(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long largest = max.get();
+        while (value > largest && !max.compareAndSet(largest, value))
+            largest = max.get();
+    }
+
+    /**
+     * Forgets every value.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++)
+            counts.set(i, 0);
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * @return The number of values counted.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return The largest value counted, or 0.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return The average of the values counted, or 0.
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Returns a value at least as large as a given share of the values counted, within
+     * the precision of the buckets.
+     *
+     * @param percentile The share, from 0 to 100.
+     * @return The largest value of the bucket reaching the share (at most the largest
+     * value counted), or 0 if nothing was counted.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            total += counts.get(i);
+        if (total == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, percentile) / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank)
+                return Math.min(highestValue(i), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * Appends the statistics and the non-empty buckets as a JSON object:
+     * {"count", "mean", "max", "p50", "p90", "p99", "p999", "buckets": [[lowest value, count], ...]}.
+     *
+     * @param json The text to append to.
+     */
+    public void appendJson(StringBuilder json) {
+        json.append("{\"count\":").append(getCount())
+                .append(",\"mean\":").append(String.format(Locale.ROOT, "%.1f", getMean()))
+                .append(",\"max\":").append(getMax())
+                .append(",\"p50\":").append(getValueAtPercentile(50))
+                .append(",\"p90\":").append(getValueAtPercentile(90))
+                .append(",\"p99\":").append(getValueAtPercentile(99))
+                .append(",\"p999\":").append(getValueAtPercentile(99.9))
+                .append(",\"buckets\":[");
+        boolean first = true;
+        for (int i = 0; i < BUCKETS; i++) {
+            long n = counts.get(i);
+            if (n == 0)
+                continue;
+            if (!first)
+                json.append(',');
+            json.append('[').append(lowestValue(i)).append(',').append(n).append(']');
+            first = false;
+        }
+        json.append("]}");
+    }
+}
@@ -82,6 +82,13 @@ public class LoginActivity extends AppCompatActivity {
          */
         firestoreAccess = new FirestoreAccess();
 
+        /**
+         * The activity was recreated while playing: show the maze again,
+         * which resumes the saved game when its view state is restored
+         */
+        if (GameScreen.restore(this, savedInstanceState, authentication, firestoreAccess))
+            return;
+
         /**
          * Find views by their IDs
          */
@@ -114,6 +121,28 @@ public class LoginActivity extends AppCompatActivity {
         });
     }
 
+    /**
+     * Saves the game in progress when the activity goes to the background,
+     * since the process may be killed without further notice.
+     */
+    @Override
+    protected void onPause() {
+        super.onPause();
+        GameScreen.pause(this);
+    }
+
+    /**
+     * Remembers whether the maze is being played, so it is shown again
+     * when the activity is recreated.
+     *
+     * @param outState Bundle in which to place the saved state.
+     */
+    @Override
+    protected void onSaveInstanceState(@NonNull Bundle outState) {
+        super.onSaveInstanceState(outState);
+        GameScreen.saveState(this, outState);
+    }
+
     /**
      * Logs in the user with the provided email and password
      *
@@ -161,9 +190,9 @@ public class LoginActivity extends AppCompatActivity {
                             showToast("Login successful");
 
                             /**
-                             * Navigates to Maze
+                             * Navigates to Maze, recording the final score for this player
                              */
-                            setContentView(R.layout.maze);
+                            GameScreen.show(LoginActivity.this, game);
                         }
 
                         else {
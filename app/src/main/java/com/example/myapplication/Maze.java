@@ -3,30 +3,35 @@ package com.example.myapplication;
 import android.content.Context; // Provides access to the application context
 import android.content.Intent; // Allows the creation of intents
 
-import android.graphics.Canvas; // Provides classes and methods for drawing graphics on a canvas
-import android.graphics.Color; // ontains constants for defining colors in Android
-import android.graphics.Paint; // Provides classes and methods for drawing shapes, text, etc.
+import android.os.Parcelable; // State of the view saved by the framework
 import android.util.AttributeSet; // use of attributes in XML files to customize views
+import android.util.Log; // Logs failures to save or restore the game
+import android.view.Choreographer; // Calls back once per display frame
+import android.view.GestureDetector; // Recognizes the long press toggling the statistics in debug builds
 import android.view.MotionEvent; // rovides classes and constants to handle touch events
-import android.view.View; // base class for all views
+import android.view.ScaleGestureDetector; // Recognizes the pinch that zooms the maze
+import android.view.SurfaceView; // View drawn on its own surface, from another thread
 
 import androidx.annotation.Nullable; // Provides annotations that can be used to indicate that a parameter
 
-import java.util.ArrayList; // Provides the ArrayList class for creating dynamic arrays
-import java.util.LinkedList; // creating linked lists
-import java.util.Queue; // Represents a queue data structure
-import java.util.Random; //Provides a random number generator,
-import java.util.Stack; // Represents a stack data structure,
+import java.io.File; // Represents a file on disk
+import java.io.FileOutputStream; // Writes the exported statistics to a file
+import java.io.IOException; // Thrown when reading or writing a file fails
+import java.io.OutputStreamWriter; // Encodes the exported statistics
+import java.io.Writer; // Writes text
+import java.nio.charset.StandardCharsets; // UTF-8 encoding of the JSON export
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.ForkJoinPool; // Shared pool measuring candidate mazes and building pyramids
 
 /**
  * @author Vanessa and Noor
  *
  * The MazeView class represents the view for the maze game.
- * It handles drawing the maze, player, enemy, and other game elements,
- * as well as user input for controlling the player.
+ * It handles the game logic and user input for controlling the player, and publishes
+ * every change as a GameFrame, which MazeRenderer draws from its own thread.
  */
 
-public class Maze extends View {
+public class Maze extends SurfaceView {
 
     /**
      * Enum for directions
@@ -36,61 +41,160 @@ public class Maze extends View {
     }
 
     /**
-     * 2D array representing the maze cells
+     * Tag used for log messages
      */
-    private Cell[][] cells;
+    private static final String TAG = "Maze";
     /**
-     * Cell representing player and exit
+     * File of the app storage the statistics are exported to in debug builds
      */
-    private Cell player, exit;
+    private static final String STATS_FILE = "frame_stats.json";
+
+    /**
+     * Grid holding the wall bitmask of every maze cell
+     */
+    private MazeGrid grid;
     /**
-     * Number of columns and rows in the maze
+     * Cell index of the player and exit
+     */
+    private int player, exit;
+    /**
+     * Default number of columns and rows in the maze
      */
     private static final int COLS = 15, ROWS = 15;
-    private static final float WALL_THICKNESS = 10;
     /**
-     * Size of each cell in pixels
-     * Horizontal margin for centering the maze
-     * Vertical margin for centering the maze
+     * Number of columns and rows of the current maze
      */
-    private float cellSize, hMargin, vMargin;
+    private int cols = COLS, rows = ROWS;
     /**
-     * Paint object for walls, player, maze exit
+     * Part of the maze shown and size of the cells, which follows the player and
+     * can be panned and zoomed
      */
-    private Paint wallPaint, playerPaint, exitPaint; // last 2 = part 5
+    private final Camera camera = new Camera();
     /**
-     * Random object for generating random numbers
+     * Recognizes the two-finger pinch and pan
      */
-    private Random random;
+    private final ScaleGestureDetector scaleDetector;
     /**
-     * Cell representing the enemy's position
+     * Focus point of the pinch at the last scale event
      */
-    private Cell enemy;
+    private float lastFocusX, lastFocusY;
     /**
-     * Paint object for enemy
+     * Recognizes the long press showing the statistics, or null in release builds
      */
-    private Paint enemyPaint;
+    private final GestureDetector debugGestures;
     /**
-     * Time when the enemy last moved
+     * True while the statistics overlay is shown
      */
-    private long lastMoveTime = 0;
+    private boolean statsOverlay;
     /**
-     * Delay between enemy moves
+     * Draws the published frames on the surface, from its own thread
      */
-    private long moveDelay = 400;
-
+    private final MazeRenderer renderer = new MazeRenderer();
+    /**
+     * Copy of the current maze, shared by the frames published
+     */
+    private MazeGrid walls;
+    /**
+     * Level of detail pyramid of the copy, built in the background
+     */
+    private MazePyramid pyramid;
+    /**
+     * True if the walls changed since the last frame was published
+     */
+    private boolean wallsDirty = true;
+    /**
+     * Random object for generating the seeds of new mazes
+     */
+    private SplittableRandom random;
+    /**
+     * Generated mazes shared by the supplies of every maze size
+     */
+    private final MazeCache cache = new MazeCache(MazeSupply.DEFAULT_CACHE_CELLS);
+    /**
+     * Algorithm used to carve new mazes
+     */
+    private MazeGenerator generator = new DepthFirstMazeGenerator();
+    /**
+     * Carves the next maze in the background while the current one is played
+     */
+    private MazeSupply supply;
+    /**
+     * Picks upcoming mazes inside a difficulty band, or null for any maze
+     */
+    private MazeSelector selector;
+    /**
+     * Streaming maze used in endless mode, or null for regular levels
+     */
+    private EndlessMaze endless;
+    /**
+     * Cells of the enemies chasing the player
+     */
+    private final EnemyManager enemies = new EnemyManager();
+    /**
+     * Number of enemies placed on each maze
+     */
+    private int enemyCount = 1;
+    /**
+     * Spanning tree of the current maze, answering path queries without searching
+     */
+    private final MazeTree tree = new MazeTree();
+    /**
+     * Player cell the enemies last stepped toward
+     */
+    private int trailTarget;
+    /**
+     * Last frame handed to the renderer
+     */
+    private GameFrame published;
+    /**
+     * Player the final score is recorded for, or null if nobody is logged in
+     */
+    private Game game;
+    /**
+     * Timings of the game, recorded while enabled
+     */
+    private final FrameStats stats = FrameStats.getInstance();
+    /**
+     * Enemy speed, lives and scoring
+     */
+    private GameRules rules = GameRules.DEFAULT;
+    /**
+     * Runs one enemy move per move delay of frame time, independently of drawing
+     */
+    private final FixedStepLoop loop = new FixedStepLoop(rules.getMoveDelay() * 1_000_000,
+            FixedStepLoop.DEFAULT_MAX_CATCH_UP);
+    /**
+     * True while the frame callback is posted
+     */
+    private boolean running;
     /**
-     * Time when the game started (ms)
+     * Simulation tick run by the loop
      */
-    private long startTime = 0;
+    private final FixedStepLoop.Tick tick = new FixedStepLoop.Tick() {
+        @Override
+        public void tick() {
+            long start = System.nanoTime();
+            moveEnemyTowardsPlayer();
+            stats.recordSince(FrameStats.Metric.TICK, start);
+        }
+    };
     /**
-     * Delay before the enemy starts moving
+     * Advances the simulation on every display frame, and publishes the moves
      */
-    private long startDelay = 0;
+    private final Choreographer.FrameCallback frame = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            if (!running)
+                return;
+            if (loop.advance(frameTimeNanos, tick) > 0)
+                publishFrame();
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    };
     /**
      * player starts with 3 lives
      */
-    private int playerLives = 3;
+    private int playerLives = rules.getLives();
     /**
      * Number of mazes played
      */
@@ -99,6 +203,10 @@ public class Maze extends View {
      * Player's score
      */
     private int score = 0;
+    /**
+     * True once the game ended, so it is not saved to be resumed anymore
+     */
+    private boolean over;
 
     /**
      * Constructor for Maze class.
@@ -108,293 +216,635 @@ public class Maze extends View {
      */
     public Maze(Context context, @Nullable AttributeSet attrs) {
         super(context, attrs);
+        getHolder().addCallback(renderer);
+        scaleDetector = new ScaleGestureDetector(context, new ScaleGestureDetector.SimpleOnScaleGestureListener() {
+            @Override
+            public boolean onScaleBegin(ScaleGestureDetector detector) {
+                lastFocusX = detector.getFocusX();
+                lastFocusY = detector.getFocusY();
+                return true;
+            }
 
-        /**
-         * Initialize a new paint for the walls
-         */
-        wallPaint = new Paint();
-        wallPaint.setColor(Color.rgb(21,66,57));
-        wallPaint.setStrokeWidth(WALL_THICKNESS);
+            @Override
+            public boolean onScale(ScaleGestureDetector detector) {
+                /**
+                 * Zoom around the fingers, and pan by as much as they moved together
+                 */
+                float focusX = detector.getFocusX(), focusY = detector.getFocusY();
+                camera.zoom(detector.getScaleFactor(), focusX, focusY);
+                camera.pan(focusX - lastFocusX, focusY - lastFocusY);
+                lastFocusX = focusX;
+                lastFocusY = focusY;
+                publishFrame();
+                return true;
+            }
+        });
 
         /**
-         * Initialize a new paint for the player (squirrel)
+         * Debug builds show the statistics on a long press, and export them on the next one
          */
-        playerPaint = new Paint();
-        playerPaint.setColor(Color.rgb(139, 69, 19));
-        exitPaint = new Paint();
-        exitPaint.setColor(Color.rgb(151, 192, 133));
+        if (BuildConfig.DEBUG) {
+            debugGestures = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+                @Override
+                public void onLongPress(MotionEvent event) {
+                    toggleStats();
+                }
+            });
+        }
+        else {
+            debugGestures = null;
+        }
 
         /**
-         * Randomly generated maze
+         * Randomly generated mazes; the first one is only carved once the view is
+         * attached, as a game restored from a snapshot does not need it
          */
-        random = new Random();
-        createMaze();
+        random = new SplittableRandom();
+        supply = new MazeSupply(cols, rows, generator, random.nextLong(), cache);
     }
 
     /**
-     * Returns a neighbor cell of the given cell that has not been visited yet.
+     * Sets the algorithm used to carve upcoming mazes. The maze already
+     * pre-generated in the background keeps the previous algorithm.
      *
-     * @param cell The cell for which to find a neighbor.
-     * @return A neighbor cell that has not been visited, or null if all neighbors have been visited.
+     * @param generator The maze generator to use.
      */
-    private Cell getNeighbor(Cell cell){
-        ArrayList<Cell> neighbors = new ArrayList<>();
+    public void setGenerator(MazeGenerator generator) {
+        this.generator = generator;
+        supply.setGenerator(generator);
+        selector = null;
+        supply.setSelector(null, 0, 0);
+    }
 
+    /**
+     * Sets the rules the game is played by, for example values tuned with GameSimulator.
+     * The lives and score of the game in progress are kept.
+     *
+     * @param rules The rules of the game.
+     */
+    public void setRules(GameRules rules) {
+        this.rules = rules;
+        loop.setStep(rules.getMoveDelay() * 1_000_000);
+    }
+
+    /**
+     * Sets the search used to move a single enemy on mazes with loops and in
+     * endless mode; perfect mazes are answered by their spanning tree.
+     *
+     * @param pathfinder The pathfinder to use.
+     */
+    public void setPathfinder(Pathfinder pathfinder) {
+        enemies.setPathfinder(pathfinder);
+    }
 
-        //left neighbor
-        if(cell.col > 0){
-            if(!cells[cell.col-1][cell.row].visited)
-                neighbors.add(cells[cell.col-1][cell.row]);
+    /**
+     * Sets the number of enemies chasing the player, and places them again.
+     * Every enemy steps along one flow field shared by all of them.
+     *
+     * @param count Number of enemies, at least 1.
+     */
+    public void setEnemyCount(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Invalid enemy count: " + count);
         }
+        enemyCount = count;
+        if (grid == null)
+            return;
+        placeEnemies();
+        publishFrame();
+    }
 
+    /**
+     * Places the enemies spread over the maze, the first one in the top left cell.
+     */
+    private void placeEnemies() {
+        enemies.clear();
+        int size = grid.size();
+        for (int i = 0; i < enemyCount; i++)
+            enemies.add((int) ((long) i * size / enemyCount));
+    }
 
-        //right neighbor
-        if(cell.col < COLS-1){
-            if(!cells[cell.col+1][cell.row].visited)
-                neighbors.add(cells[cell.col+1][cell.row]);
-        }
+    /**
+     * Makes upcoming mazes fall inside a difficulty band, measured as the fraction of
+     * the maze the path from the player to the exit passes through. Candidates are
+     * measured in parallel in the background, within one frame of time per maze.
+     *
+     * @param algorithm     The algorithm used to carve the mazes.
+     * @param minDifficulty Lowest accepted difficulty, from 0 to 1.
+     * @param maxDifficulty Highest accepted difficulty, from 0 to 1.
+     */
+    public void setDifficulty(MazeGenerator.Algorithm algorithm, double minDifficulty, double maxDifficulty) {
+        setGenerator(algorithm.create());
+        selector = new MazeSelector(ForkJoinPool.commonPool(), algorithm,
+                minDifficulty, maxDifficulty, MazeSelector.DEFAULT_BUDGET_NANOS);
+        applySelector();
+    }
 
+    /**
+     * Hands the difficulty selector to the maze supply, measuring between
+     * the cells where the player and the exit are placed.
+     */
+    private void applySelector() {
+        supply.setSelector(selector, (rows - 1) * cols + Math.min(1, cols - 1), rows * cols - 1);
+    }
 
-        //top neighbor
-        if(cell.row > 0){
-            if(!cells[cell.col][cell.row-1].visited)
-                neighbors.add(cells[cell.col][cell.row-1]);
+    /**
+     * Changes the size of the maze, for example per level or per difficulty,
+     * and starts a new maze of that size.
+     *
+     * @param cols Number of columns, at most MazeGrid.MAX_SIZE.
+     * @param rows Number of rows, at most MazeGrid.MAX_SIZE.
+     */
+    public void setMazeSize(int cols, int rows) {
+        if (cols <= 0 || rows <= 0 || cols > MazeGrid.MAX_SIZE || rows > MazeGrid.MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid maze size: " + cols + "x" + rows);
         }
+        if (cols == this.cols && rows == this.rows)
+            return;
 
+        resize(cols, rows);
+        createMaze();
+        publishFrame();
+    }
 
-        //bottom neighbor
-        if(cell.row < ROWS-1){
-            if(!cells[cell.col][cell.row+1].visited)
-                neighbors.add(cells[cell.col][cell.row+1]);
+    /**
+     * Switches the maze supply (and the endless stream) to a new size.
+     *
+     * @param cols Number of columns.
+     * @param rows Number of rows.
+     */
+    private void resize(int cols, int rows) {
+        this.cols = cols;
+        this.rows = rows;
+        supply.close();
+        supply = new MazeSupply(cols, rows, generator, random.nextLong(), cache);
+        applySelector();
+        grid = null;
+        if (endless != null)
+            endless = new EndlessMaze(cols, rows, random.nextLong());
+    }
+
+    /**
+     * Saves the current maze in the compact binary maze format.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void saveMaze(File file) throws IOException {
+        ensureMaze();
+        MazeFile.write(grid, file);
+    }
+
+    /**
+     * Sets the player the final score is recorded for, with the seed of its maze.
+     *
+     * @param game The logged in player's game.
+     */
+    public void setGame(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Shows or hides the overlay with the frame and game loop timings. Showing it
+     * turns the recording of the timings on; it stays on when the overlay is hidden,
+     * until FrameStats is disabled.
+     *
+     * @param show True to show the overlay.
+     */
+    public void setStatsOverlay(boolean show) {
+        statsOverlay = show;
+        if (show)
+            stats.setEnabled(true);
+        renderer.setStatsOverlay(show);
+    }
+
+    /**
+     * Writes the timings recorded so far as JSON (see FrameStats.toJson()).
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void exportStats(File file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(stats.toJson());
         }
+    }
 
-        /**
-         * Check if there are unvisited neighbors
-         */
-        if(neighbors.size() > 0) {
-            /**
-             * Choose a random unvisited neighbor
-             */
-            int index = random.nextInt(neighbors.size());
-            return neighbors.get(index);
+    /**
+     * Shows the statistics overlay, or hides it and exports the timings recorded to
+     * the app storage, where they can be pulled from a debug build.
+     */
+    private void toggleStats() {
+        if (!statsOverlay) {
+            setStatsOverlay(true);
+            return;
         }
+        setStatsOverlay(false);
+        File file = new File(getContext().getFilesDir(), STATS_FILE);
+        try {
+            exportStats(file);
+            Log.i(TAG, "Frame statistics exported to " + file);
+        } catch (IOException e) {
+            Log.w(TAG, "Error exporting frame statistics", e);
+        }
+    }
 
+    /**
+     * Loads a maze saved with {@link #saveMaze(File)} and starts playing it,
+     * leaving the endless mode if needed.
+     *
+     * @param file The file to read.
+     * @throws IOException If the file cannot be read or is not a maze file.
+     */
+    public void loadMaze(File file) throws IOException {
+        MazeFile mazeFile = MazeFile.open(file);
+        endless = null;
+        if (mazeFile.getCols() != cols || mazeFile.getRows() != rows)
+            resize(mazeFile.getCols(), mazeFile.getRows());
+        if (grid == null)
+            grid = new MazeGrid(cols, rows);
+        mazeFile.readInto(grid);
+        tree.build(grid);
+        startMaze();
+        publishFrame();
+    }
 
-        return null;
+    /**
+     * Writes the game in progress to app-private storage, so it can be resumed with
+     * {@link #restoreSnapshot()} after the activity is recreated or the process killed.
+     * Nothing is saved before the first maze or once the game ended.
+     */
+    public void saveSnapshot() {
+        if (grid == null || over)
+            return;
+        GameSnapshot snapshot = endless != null
+                ? new GameSnapshot(endless, player, enemies, playerLives, score, mazesPlayed)
+                : new GameSnapshot(grid, player, exit, enemies, playerLives, score, mazesPlayed);
+        try {
+            snapshot.write(getContext().getFilesDir());
+        } catch (IOException e) {
+            Log.w(TAG, "Error saving game snapshot", e);
+        }
     }
 
     /**
-     * Removes the wall between the current cell and the next cell.
+     * Resumes the game saved by {@link #saveSnapshot()}. The stored maze is decoded
+     * instead of being carved again.
      *
-     * @param current The current cell.
-     * @param next    The next cell.
-     */
-    private void removeWall(Cell current, Cell next){
-        // Remove top wall of current cell and bottom wall of next cell
-        if(current.col == next.col && current.row == next.row+1){
-            current.topWall = false;
-            next.bottomWall = false;
+     * @return True if a saved game was resumed.
+     */
+    public boolean restoreSnapshot() {
+        GameSnapshot snapshot;
+        try {
+            snapshot = GameSnapshot.read(getContext().getFilesDir());
+        } catch (IOException e) {
+            Log.w(TAG, "Error reading game snapshot", e);
+            return false;
         }
 
-        // Remove bottom wall of current cell and top wall of next cell
-        if(current.col == next.col && current.row == next.row-1){
-            current.bottomWall = false;
-            next.topWall = false;
+        if (snapshot.getCols() != cols || snapshot.getRows() != rows)
+            resize(snapshot.getCols(), snapshot.getRows());
+        endless = snapshot.toEndlessMaze();
+        if (endless != null) {
+            if (grid == null)
+                grid = new MazeGrid(cols, rows);
+            endless.copyTo(grid);
         }
-
-        // Remove left wall of current cell and right wall of next cell
-        if(current.col == next.col+1 && current.row == next.row){
-            current.leftWall = false;
-            next.rightWall = false;
+        else {
+            grid = snapshot.getGrid();
+            tree.build(grid);
         }
 
-        // Remove right wall of current cell and left wall of next cell
-        if(current.col == next.col-1 && current.row == next.row){
-            current.rightWall = false;
-            next.leftWall = false;
+        player = snapshot.getPlayer();
+        exit = snapshot.getExit();
+        int[] saved = snapshot.getEnemies();
+        enemies.clear();
+        for (int cell : saved)
+            enemies.add(cell);
+        playerLives = snapshot.getLives();
+        score = snapshot.getScore();
+        mazesPlayed = snapshot.getMazesPlayed();
+        over = false;
+        resetTrail();
+
+        /**
+         * Restart the enemy move timers
+         */
+        loop.reset();
+        publishFrame();
+        return true;
+    }
+
+    /**
+     * Resumes the saved game when the view is recreated. The game is saved by the
+     * activity when it pauses (see GameScreen), not with the view state, so the
+     * snapshot is written once each time the app goes to the background.
+     *
+     * @param state The state saved by the superclass.
+     */
+    @Override
+    protected void onRestoreInstanceState(Parcelable state) {
+        super.onRestoreInstanceState(state);
+        restoreSnapshot();
+    }
+
+    /**
+     * Switches between regular levels and the endless vertical mode.
+     * In endless mode new rows are streamed in as the player heads down,
+     * and every row reached is worth 100 points.
+     *
+     * @param enabled True to play the endless mode.
+     */
+    public void setEndless(boolean enabled) {
+        if (enabled) {
+            endless = new EndlessMaze(cols, rows, random.nextLong());
+            startMaze();
+        }
+        else {
+            endless = null;
+            createMaze();
         }
+        publishFrame();
+    }
+
+    /**
+     * Replays the maze derived from the given seed (retry, shared maze or daily challenge).
+     * Mazes generated before are copied from the cache instead of being carved again.
+     *
+     * @param seed The seed of the maze, as returned by {@link #getSeed()}.
+     */
+    public void playSeed(long seed) {
+        if (endless != null)
+            endless.reset(seed);
+        else
+            grid = supply.load(seed, grid, tree);
+        startMaze();
+        publishFrame();
+    }
+
+    /**
+     * Returns the seed of the maze being played, to be recorded with the score.
+     *
+     * @return The seed of the current maze.
+     */
+    public long getSeed() {
+        ensureMaze();
+        return endless != null ? endless.getSeed() : grid.getSeed();
+    }
+
+    /**
+     * Records the final score with the seed of the maze the game ended on, forgets the
+     * saved game so a finished game is never resumed, and goes to the LeaderboardActivity.
+     */
+    void endGame() {
+        if (game != null)
+            game.recordScore(score, getSeed());
+        over = true;
+        GameSnapshot.delete(getContext().getFilesDir());
+        Intent intent = new Intent(Maze.this.getContext(), LeaderboardActivity.class);
+        getContext().startActivity(intent);
     }
 
     /**
-     * Creates the maze using a depth-first search algorithm.
+     * Creates the maze using the selected maze generator (depth-first search by default).
      * If the player reaches the exit, the score is incremented by 1000 and a new maze is created.
      * If the player completes 3 mazes, the game ends and goes to the LeaderboardActivity.
      */
     private void createMaze() {
+        long start = System.nanoTime();
+
         /**
          * Game no longer in progress, go to Leaderboard screen
          */
-        if (mazesPlayed == 3) {
-            Intent intent = new Intent(Maze.this.getContext(), LeaderboardActivity.class);
-            getContext().startActivity(intent);
+        if (mazesPlayed == rules.getMazesPerGame()) {
+            endGame();
         }
 
         /**
-         * Creates a new stack to store cells and initializes the current and next cells.
-         */
-        Stack<Cell> stack = new Stack<>();
-        Cell current, next;
-
-        /**
-         * Initialize cells
+         * Take the maze pre-generated in the background, handing back the finished one
+         * (endless mode starts a fresh stream instead)
          */
-        cells = new Cell[COLS][ROWS];
-        for(int x=0; x<COLS; x++){
-            for(int y=0; y<ROWS; y++){
-                cells[x][y] = new Cell(x, y);
-            }
-        }
+        if (endless != null)
+            endless.reset(random.nextLong());
+        else
+            grid = supply.swap(grid, tree);
+        startMaze();
+        stats.recordSince(FrameStats.Metric.MAZE, start);
+    }
 
+    /**
+     * Carves the first maze if no game was started or restored yet.
+     */
+    private void ensureMaze() {
+        if (grid == null)
+            createMaze();
+    }
 
+    /**
+     * Places the player, exit and enemy on the maze that was just loaded, and restarts
+     * the delay before the enemies move.
+     */
+    private void startMaze() {
         /**
-         * Initialize player and exit positions
+         * Restart the enemy move timers, so the start delay counts from this maze
          */
-        player = cells[1][14];
-        exit = cells[COLS-1][ROWS-1];
+        loop.reset();
 
-
-        /**
-         * Initialize enemy at the starting position
-         */
-        enemy = cells[0][0];
-        enemyPaint = new Paint();
         /**
-         * Orange color for enemy (slime)
+         * Endless mode shows the streamed window with the player at the top and no exit
          */
-        enemyPaint.setColor(Color.rgb(255, 165, 0));
+        if (endless != null) {
+            if (grid == null)
+                grid = new MazeGrid(cols, rows);
+            endless.copyTo(grid);
+            player = grid.index(cols/2, 0);
+            exit = -1;
+            placeEnemies();
+            resetTrail();
+            return;
+        }
 
         /**
-         * Create maze
+         * Initialize player and exit positions
          */
-        current = cells[0][0];
-        current.visited = true;
+        player = grid.index(1, rows-1);
+        exit = grid.index(cols-1, rows-1);
 
 
-        do {
-            next = getNeighbor(current);
-            if (next != null) {
-                removeWall(current, next);
-                stack.push(current);
-                current = next;
-                current.visited = true;
-            }
-            else
-                current = stack.pop();
-        }while(!stack.empty());
+        /**
+         * Initialize the enemies, the first one at the starting position
+         */
+        placeEnemies();
 
+        resetTrail();
     }
 
     /**
-     * Draws the maze on the canvas.
-     *
-     * @param canvas The canvas on which to draw the maze.
+     * Prepares the enemies' path queries and the camera for the maze just placed.
+     * Regular levels are perfect mazes and are answered by their spanning tree, built
+     * along with the maze (in the background for the supplied ones); the endless window
+     * (or a loaded maze with loops) is searched instead.
      */
-    @Override
-    protected void onDraw(Canvas canvas) {
-
-        int width = getWidth();
-        int height = getHeight();
-
-        /**
-         * Draw maze walls
-         */
-        canvas.drawColor(Color.rgb(151, 192, 133));;
-
-        /**
-         * Calculate cell size based on view dimensions
-         */
-        if(width/height < COLS/ROWS)
-        {
-            cellSize = width/(COLS+1);
-        }
-        else{
-            cellSize = height/(ROWS+1);
-        }
+    private void resetTrail() {
+        wallsDirty = true;
+        trailTarget = player;
+        if (endless != null)
+            tree.clear();
 
         /**
-         * Translates the canvas by the horizontal and vertical margins to center the maze.
+         * Grids are recycled, so the flow field cannot tell the new maze apart
          */
-        hMargin = (width-COLS*cellSize)/2;
-        vMargin = (height-ROWS*cellSize)/2;
-        canvas.translate(hMargin, vMargin);
-
+        enemies.invalidate();
         /**
-         * Draws each wall with wall paint
+         * Show the new maze around the player
          */
-        for(int x=0; x<COLS; x++){
-            for(int y=0; y<ROWS; y++){
-                if(cells[x][y].topWall)
-                    canvas.drawLine(x*cellSize, y*cellSize, (x+1)*cellSize, y*cellSize, wallPaint
-                    );
-
+        camera.setMaze(cols, rows);
+        camera.setFollowing(true);
+        camera.center(grid.col(player), grid.row(player));
+    }
 
-                if(cells[x][y].leftWall)
-                    canvas.drawLine(x*cellSize, y*cellSize, x*cellSize, (y+1)*cellSize, wallPaint
-                    );
 
+    /**
+     * Runs the simulation only while the view is visible.
+     *
+     * @param visibility The new visibility of the window.
+     */
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        if (visibility == VISIBLE)
+            startLoop();
+        else
+            stopLoop();
+    }
 
-                if(cells[x][y].bottomWall)
-                    canvas.drawLine(x*cellSize, (y+1)*cellSize, (x+1)*cellSize, (y+1)*cellSize, wallPaint
-                    );
+    /**
+     * Starts calling the simulation loop on every display frame. The time spent
+     * stopped is not simulated.
+     */
+    private void startLoop() {
+        if (running)
+            return;
+        running = true;
+        loop.reset();
+        Choreographer.getInstance().postFrameCallback(frame);
+    }
 
+    /**
+     * Stops the simulation loop.
+     */
+    private void stopLoop() {
+        running = false;
+        Choreographer.getInstance().removeFrameCallback(frame);
+    }
 
-                if(cells[x][y].rightWall)
-                    canvas.drawLine((x+1)*cellSize, y*cellSize, (x+1)*cellSize, (y+1)*cellSize, wallPaint
-                    );
-            }
+    /**
+     * Carves the first maze when the view is shown, unless a saved game was
+     * restored before. A view attached again after being detached gets a new
+     * background worker, as detaching stopped the previous one.
+     */
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        if (supply.isClosed()) {
+            supply = new MazeSupply(cols, rows, generator, random.nextLong(), cache);
+            applySelector();
         }
-        /**
-         * Moves the enemy towards the player's position.
-         * If the player is in a neighboring cell, the enemy moves directly towards the player.
-         * If the player is not in a neighboring cell, the enemy moves closer to the player's last known position.
-         */
-        moveEnemyTowardsPlayer();
-
-        /**
-         * Draws the player(squirrel)
-         */
-        float margin = cellSize/10;
-        canvas.drawRect((player.col)*cellSize+margin, (player.row)*cellSize+margin, (player.col+1)*cellSize-margin, (player.row+1)*cellSize-margin, playerPaint);
+        ensureMaze();
+        publishFrame();
+    }
 
-        /**
-         * Draws the exit(acorn)
-         */
-        canvas.drawRect((exit.col)*cellSize+margin, (exit.row)*cellSize+margin, (exit.col+1)*cellSize-margin, (exit.row+1)*cellSize-margin, exitPaint);
+    /**
+     * Stops the simulation, the render thread and the background maze generation
+     * when the view goes away. They start again if the view is attached again.
+     */
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        stopLoop();
+        renderer.quit();
+        supply.close();
 
         /**
-         * Draws the enemy (slime)
+         * Stop building the pyramid, and build it again if the view comes back
          */
-        float enemyCircleRadius = cellSize / 3; // Adjust the size as needed
-        canvas.drawCircle((enemy.col + 0.5f) * cellSize, (enemy.row + 0.5f) * cellSize, enemyCircleRadius, enemyPaint);
+        if (pyramid != null)
+            pyramid.cancel();
+        wallsDirty = true;
+    }
 
+    /**
+     * Publishes the state of the game for the renderer to draw. The walls are
+     * copied only when they changed since the last frame, into the pyramid the
+     * renderer handed back when it can (so two copies alternate), and the pyramid
+     * is then built again in the background (the renderer uses its levels as
+     * they are done).
+     */
+    private void publishFrame() {
         /**
-         * Draw player lives
+         * Nothing to draw before the first maze is carved or restored
          */
-        Paint textPaint = new Paint();
-        textPaint.setColor(Color.WHITE);
-        textPaint.setTextSize(cellSize / 2+10);
+        if (grid == null)
+            return;
+        if (wallsDirty) {
+            wallsDirty = false;
+            if (pyramid != null)
+                pyramid.cancel();
+            MazePyramid spare = renderer.takeReleased(cols, rows);
+            if (spare != null) {
+                spare.reset(grid);
+            }
+            else {
+                MazeGrid copy = new MazeGrid(cols, rows);
+                copy.copyFrom(grid);
+                spare = new MazePyramid(copy);
+            }
+            walls = spare.getWalls();
 
-        /**
-         * Draw player score
-         */
-        Paint scoreTextPaint = new Paint();
-        textPaint.setColor(Color.WHITE);
-        textPaint.setTextSize(cellSize / 2 + 10);
+            final MazePyramid building = spare;
+            ForkJoinPool.commonPool().execute(new Runnable() {
+                @Override
+                public void run() {
+                    building.build();
+                }
+            });
+            pyramid = building;
+        }
 
         /**
-         * Display the score
+         * Only publish when something on screen changed, in a frame the renderer handed back if any
          */
-        String scoreText = "Score: " + score;
-        float scoreTextWidth = textPaint.measureText(scoreText);
-        canvas.drawText(scoreText, getWidth() - scoreTextWidth - hMargin-50, vMargin - scoreTextPaint.getTextSize()+50, textPaint);
+        long tick = loop.getLastTickNanos(), step = loop.getStep();
+        if (published != null && published.matches(walls, pyramid, camera, player, exit, enemies, score,
+                playerLives, tick, step))
+            return;
+        GameFrame frame = renderer.takeReleasedFrame();
+        if (frame != null)
+            frame.set(walls, pyramid, camera, player, exit, enemies, score, playerLives, tick, step);
+        else
+            frame = new GameFrame(walls, pyramid, camera, player, exit, enemies, score, playerLives, tick, step);
+        published = frame;
+        renderer.publish(frame);
+    }
 
-        /**
-         * Display the lives
-         */
-        String livesText = "Lives: " + playerLives;
-        float textWidth = textPaint.measureText(livesText);
-        canvas.drawText(livesText, getWidth() - textWidth - hMargin-50, vMargin - textPaint.getTextSize()+150, textPaint);
+    /**
+     * @return The last frame handed to the renderer, or null before the first maze.
+     */
+    GameFrame getPublishedFrame() {
+        return published;
+    }
 
+    /**
+     * Fits the camera to the view again when the view is resized, keeping the zoom,
+     * and the part of the maze shown if the player panned away.
+     */
+    @Override
+    protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+        super.onSizeChanged(width, height, oldWidth, oldHeight);
+        camera.setViewport(width, height);
+        if (camera.isFollowing())
+            camera.center(grid.col(player), grid.row(player));
+        publishFrame();
     }
 
     /**
@@ -405,29 +855,60 @@ public class Maze extends View {
     private void movePlayer(Direction direction){
         switch (direction){
             case UP:
-                if(!player.topWall)
-                    player = cells[player.col][player.row-1];
+                if(!grid.hasWall(player, MazeGrid.TOP))
+                    player -= cols;
                 break;
             case DOWN:
-                if(!player.bottomWall)
-                    player = cells[player.col][player.row+1];
+                if(!grid.hasWall(player, MazeGrid.BOTTOM))
+                    player += cols;
                 break;
             case LEFT:
-                if(!player.leftWall)
-                    player = cells[player.col-1][player.row];
+                if(!grid.hasWall(player, MazeGrid.LEFT))
+                    player--;
                 break;
             case RIGHT:
-                if(!player.rightWall)
-                    player = cells[player.col+1][player.row];
+                if(!grid.hasWall(player, MazeGrid.RIGHT))
+                    player++;
         }
 
         /**
-         * Check if player is at the exit
+         * Check if player is at the exit (or stream in new rows in endless mode)
          *
          * Redraw
          */
-        checkExit();
-        invalidate();
+        if (endless != null)
+            scrollEndless();
+        else
+            checkExit();
+
+        /**
+         * Bring the player back in view if the maze was panned away
+         */
+        camera.setFollowing(true);
+        camera.follow(grid.col(player), grid.row(player));
+        publishFrame();
+    }
+
+    /**
+     * Scrolls the endless maze while the player is below the middle row,
+     * keeping the player and enemy on the same maze cells.
+     */
+    private void scrollEndless() {
+        boolean scrolled = false;
+        while (grid.row(player) > rows/2) {
+            endless.advance();
+            player -= cols;
+            /**
+             * Enemies on the top row are dragged along with the window
+             */
+            enemies.scroll(cols);
+            score += 100;
+            scrolled = true;
+        }
+        if (scrolled) {
+            endless.copyTo(grid);
+            wallsDirty = true;
+        }
     }
 
 
@@ -437,7 +918,7 @@ public class Maze extends View {
      */
     public void checkExit(){
         if (player == exit) {
-            score += 1000;
+            score += rules.getExitPoints();
             mazesPlayed++;
             createMaze();
         }
@@ -456,6 +937,15 @@ public class Maze extends View {
          * Move the enemy towards the player's trail
          */
         followPlayerTrail();
+
+        /**
+         * Two fingers pinch to zoom and drag to pan, instead of steering the player
+         */
+        scaleDetector.onTouchEvent(event);
+        if (debugGestures != null)
+            debugGestures.onTouchEvent(event);
+        if (event.getPointerCount() > 1 || scaleDetector.isInProgress())
+            return true;
         if(event.getAction() == MotionEvent.ACTION_DOWN)
             return true;
 
@@ -474,8 +964,9 @@ public class Maze extends View {
              * Calculates the center coordinates of the player's cell and computes the distance between
              * the touch event coordinates and the player's center.
              */
-            float playerCenterX = hMargin + (player.col+0.5f)*cellSize;
-            float playerCenterY = vMargin + (player.row+0.5f)*cellSize;
+            float playerCenterX = camera.toScreenX(grid.col(player)+0.5f);
+            float playerCenterY = camera.toScreenY(grid.row(player)+0.5f);
+            float cellSize = camera.getCellSize();
 
 
             float dx = x - playerCenterX;
@@ -527,81 +1018,23 @@ public class Maze extends View {
     }
 
     /**
-     * Represents a cell in the maze.
-     */
-    private class Cell{
-        /**
-         * All walls initialized to true
-         */
-        boolean
-                topWall = true,
-                leftWall = true,
-                bottomWall = true,
-                rightWall = true,
-                visited = false;
-        /**
-         * column and row index of cell
-         */
-        int col, row;
-
-        /**
-         * Constructs a new Cell object with the specified column and row.
-         *
-         * @param col The column index of the cell.
-         * @param row The row index of the cell.
-         */
-        public Cell(int col, int row) {
-            this.col = col;
-            this.row = row;
-        }
-    }
-
-    /**
-     * Moves the enemy towards the player's position.
+     * Moves the enemy towards the player's position, once per simulation tick.
      * If the enemy reaches the player, the player loses a life and a new maze is created.
      * If the player loses all lives, the game ends.
      */
     private void moveEnemyTowardsPlayer() {
-        long currentTime = System.currentTimeMillis();
-
-        if (startTime == 0) {
-            startTime = currentTime;
-        }
-
         /**
          * Delayed start, do not move yet
          */
-        if (currentTime - startTime < startDelay) {
-            return; // Delayed start, do not move yet
-        }
-
-        /**
-         * Delay between moves, do not move yet
-         */
-        if (currentTime - lastMoveTime < moveDelay) {
+        if (!rules.isStarted(loop.getTicks())) {
             return;
         }
 
-        lastMoveTime = currentTime;
-
-
         /**
-         * Move the enemy towards the player, ignoring walls
+         * Move every enemy one step along the shortest path to the player
          */
-        if (player.col < enemy.col) {
-            enemy = cells[enemy.col - 1][enemy.row]; // Move left
-        } else if (player.col > enemy.col) {
-            enemy = cells[enemy.col + 1][enemy.row]; // Move right
-        } else if (player.row < enemy.row) {
-            enemy = cells[enemy.col][enemy.row - 1]; // Move up
-        } else if (player.row > enemy.row) {
-            enemy = cells[enemy.col][enemy.row + 1]; // Move down
-        }
-
-        /**
-         * Redraw the view
-         */
-        invalidate();
+        stepEnemies();
+        checkCaught();
     }
 
     /**
@@ -609,93 +1042,50 @@ public class Maze extends View {
      * If the enemy catches the player, the player loses a life and a new maze is created.
      */
     private void followPlayerTrail() {
+        long start = System.nanoTime();
+
         /**
-         * Create a map of distances from the enemy to each cell
+         * Each time the player changed cell, every enemy takes one step along the
+         * shortest path (one flow field from the player is shared by all of them)
          */
-        int[][] distanceMap = new int[COLS][ROWS];
-        for (int x = 0; x < COLS; x++) {
-            for (int y = 0; y < ROWS; y++) {
-                distanceMap[x][y] = Integer.MAX_VALUE;
-            }
+        if (player != trailTarget) {
+            trailTarget = player;
+            stepEnemies();
         }
+        checkCaught();
 
         /**
-         * Queue for Dijkstra's algorithm
+         * Redraw the view
          */
-        Queue<Cell> queue = new LinkedList<>();
-        queue.add(enemy);
-        distanceMap[enemy.col][enemy.row] = 0;
-
-
-        while (!queue.isEmpty()) {
-            Cell current = queue.poll();
-            int distance = distanceMap[current.col][current.row] + 1;
-
-
-            if (current == player) {
-                /**
-                 * Found the player, backtrack to find the shortest path
-                 */
-                while (current != enemy) {
-                    Cell next = current;
-                    if (current.col > 0 && distanceMap[current.col - 1][current.row] == distance - 1) {
-                        next = cells[current.col - 1][current.row];
-                    } else if (current.col < COLS - 1 && distanceMap[current.col + 1][current.row] == distance - 1) {
-                        next = cells[current.col + 1][current.row];
-                    } else if (current.row > 0 && distanceMap[current.col][current.row - 1] == distance - 1) {
-                        next = cells[current.col][current.row - 1];
-                    } else if (current.row < ROWS - 1 && distanceMap[current.col][current.row + 1] == distance - 1) {
-                        next = cells[current.col][current.row + 1];
-                    }
-                    /**
-                     * Move the enemy along the shortest path
-                     */
-                    current = next;
-                    distance--;
-                }
-                /**
-                 * Move the enemy along the shortest path
-                 */
-                enemy = current;
-                break;
-            }
-
+        publishFrame();
+        stats.recordSince(FrameStats.Metric.TRAIL, start);
+    }
 
-            /**
-             * Check neighborss
-             */
-            if (current.col > 0 && !current.leftWall && distance < distanceMap[current.col - 1][current.row]) {
-                distanceMap[current.col - 1][current.row] = distance;
-                queue.add(cells[current.col - 1][current.row]);
-            }
-            if (current.col < COLS - 1 && !current.rightWall && distance < distanceMap[current.col + 1][current.row]) {
-                distanceMap[current.col + 1][current.row] = distance;
-                queue.add(cells[current.col + 1][current.row]);
-            }
-            if (current.row > 0 && !current.topWall && distance < distanceMap[current.col][current.row - 1]) {
-                distanceMap[current.col][current.row - 1] = distance;
-                queue.add(cells[current.col][current.row - 1]);
-            }
-            if (current.row < ROWS - 1 && !current.bottomWall && distance < distanceMap[current.col][current.row + 1]) {
-                distanceMap[current.col][current.row + 1] = distance;
-                queue.add(cells[current.col][current.row + 1]);
-            }
-        }
+    /**
+     * Moves every enemy one step along the shortest path to the player, timing the
+     * path searches.
+     */
+    private void stepEnemies() {
+        long start = System.nanoTime();
+        enemies.step(grid, tree, player);
+        stats.recordSince(FrameStats.Metric.PATH, start);
+    }
 
-        /**
-         * Check if enemy caught the player
-         */
-        if (player == enemy) {
+    /**
+     * Checks if an enemy caught the player.
+     * If so, the player loses a life and a new maze is created.
+     */
+    private void checkCaught() {
+        if (enemies.occupies(player)) {
             playerLives--; // Decrement player lives
             mazesPlayed++; // Increment mazes played
 
             /**
              * If player lost all their lives, show leaderboard
              */
-            if(playerLives == 3)
+            if(playerLives == 0)
             {
-                Intent intent = new Intent(Maze.this.getContext(), LeaderboardActivity.class);
-                getContext().startActivity(intent);
+                endGame();
             }
             else{
                 /**
@@ -704,14 +1094,10 @@ public class Maze extends View {
                  * Redraw
                  */
                 createMaze();
-                invalidate();
+                publishFrame();
             }
 
         }
-        /**
-         * Redraw the view
-         */
-        invalidate();
     }
 
 
@@ -0,0 +1,120 @@
+package com.example.myapplication;
+
+import java.util.Iterator; // Walks the cache entries in LRU order
+import java.util.LinkedHashMap; // Hash map that can keep entries in access order
+import java.util.Map; // Represents a collection of key-value pairs
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeCache keeps recently generated mazes keyed by seed, size and generator id, so a
+ * retry, replay or daily challenge can reuse a grid instead of carving it again.
+ * Entries are private copies and the least recently used ones are evicted once the
+ * total number of cached cells exceeds the budget. All methods are thread-safe.
+ */
+
+public class MazeCache {
+
+    /**
+     * Entries in least recently used order
+     */
+    private final LinkedHashMap<Key, MazeGrid> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /**
+     * Maximum number of cells kept across all entries
+     */
+    private final int maxCells;
+    /**
+     * Number of cells currently kept
+     */
+    private int cells;
+
+    /**
+     * Constructs a cache holding at most the given number of maze cells.
+     *
+     * @param maxCells The cell budget.
+     */
+    public MazeCache(int maxCells) {
+        this.maxCells = maxCells;
+    }
+
+    /**
+     * Copies a cached maze into the target grid.
+     *
+     * @param seed      The seed of the maze.
+     * @param generator The algorithm that carved the maze.
+     * @param target    The grid to fill; its size is part of the key.
+     * @return True if the maze was cached and copied.
+     */
+    public synchronized boolean copyTo(long seed, MazeGenerator generator, MazeGrid target) {
+        MazeGrid cached = entries.get(new Key(seed, target.getCols(), target.getRows(), generator.id()));
+        if (cached == null)
+            return false;
+        target.copyFrom(cached);
+        return true;
+    }
+
+    /**
+     * Stores a copy of a generated maze, evicting the least recently used ones if needed.
+     *
+     * @param generator The algorithm that carved the maze.
+     * @param grid      The maze to store; its seed is part of the key.
+     */
+    public synchronized void put(MazeGenerator generator, MazeGrid grid) {
+        if (grid.size() > maxCells)
+            return;
+        Key key = new Key(grid.getSeed(), grid.getCols(), grid.getRows(), generator.id());
+        if (entries.containsKey(key))
+            return;
+
+        MazeGrid copy = new MazeGrid(grid.getCols(), grid.getRows());
+        copy.copyFrom(grid);
+        entries.put(key, copy);
+        cells += copy.size();
+
+        Iterator<Map.Entry<Key, MazeGrid>> eldest = entries.entrySet().iterator();
+        while (cells > maxCells && eldest.hasNext()) {
+            cells -= eldest.next().getValue().size();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * @return The number of cached mazes.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Identifies a maze by seed, size and the id of its generator.
+     */
+    private static final class Key {
+        final long seed;
+        final int cols, rows;
+        final String algorithm;
+
+        Key(long seed, int cols, int rows, String algorithm) {
+            this.seed = seed;
+            this.cols = cols;
+            this.rows = rows;
+            this.algorithm = algorithm;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key))
+                return false;
+            Key other = (Key) o;
+            return seed == other.seed && cols == other.cols && rows == other.rows
+                    && algorithm.equals(other.algorithm);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = (int) (seed ^ (seed >>> 32));
+            hash = 31 * hash + cols;
+            hash = 31 * hash + rows;
+            return 31 * hash + algorithm.hashCode();
+        }
+    }
+}
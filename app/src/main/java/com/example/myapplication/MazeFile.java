@@ -0,0 +1,247 @@
+package com.example.myapplication;
+
+import java.io.File; // Represents a file on disk
+import java.io.IOException; // Thrown when reading or writing fails
+import java.io.RandomAccessFile; // Opens a file for mapping
+import java.nio.ByteOrder; // Byte order of the header fields
+import java.nio.MappedByteBuffer; // Memory-mapped file contents
+import java.nio.channels.FileChannel; // Maps a file into memory
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeFile reads and writes mazes in a compact, versioned binary format through
+ * memory-mapped files. Only the right and bottom wall of each cell are stored, as
+ * 2 bits per cell; the top and left walls follow from the neighbors and the outer
+ * border. A 1000x1000 maze takes about 250 KB.
+ *
+ * Layout (big-endian):
+ * <pre>
+ *   int   magic   'MAZE'
+ *   short version 1
+ *   short flags   0 (reserved)
+ *   int   cols
+ *   int   rows
+ *   long  seed
+ *   byte[(cols * rows + 3) / 4] walls, cell i at bits 2 * (i % 4): bit 0 right, bit 1 bottom
+ * </pre>
+ *
+ * Opening a file only maps it and checks the header, so walls can be read straight
+ * from the mapping without parsing; {@link #toGrid()} decodes it into a playable grid.
+ */
+
+public class MazeFile {
+
+    /**
+     * Identifies a maze file ("MAZE" in ASCII)
+     */
+    static final int MAGIC = 0x4D415A45;
+    /**
+     * Current version of the format
+     */
+    static final short VERSION = 1;
+    /**
+     * Size of the header in bytes
+     */
+    static final int HEADER_SIZE = 24;
+    /**
+     * Stored bits of a cell
+     */
+    private static final int RIGHT_BIT = 1, BOTTOM_BIT = 2;
+
+    /**
+     * Number of columns and rows of the stored maze
+     */
+    private final int cols, rows;
+    /**
+     * Seed of the stored maze
+     */
+    private final long seed;
+    /**
+     * Mapped file contents
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * Constructs a view over a mapped file whose header has been checked.
+     */
+    private MazeFile(int cols, int rows, long seed, MappedByteBuffer buffer) {
+        this.cols = cols;
+        this.rows = rows;
+        this.seed = seed;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Writes a maze to a file, replacing its contents.
+     *
+     * @param grid The maze to write.
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public static void write(MazeGrid grid, File file) throws IOException {
+        int size = grid.size();
+        int length = HEADER_SIZE + payloadSize(size);
+        RandomAccessFile out = new RandomAccessFile(file, "rw");
+        try {
+            out.setLength(length);
+            MappedByteBuffer buffer = out.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            buffer.putInt(MAGIC);
+            buffer.putShort(VERSION);
+            buffer.putShort((short) 0);
+            buffer.putInt(grid.getCols());
+            buffer.putInt(grid.getRows());
+            buffer.putLong(grid.getSeed());
+
+            /**
+             * Pack four cells per byte
+             */
+            for (int base = 0; base < size; base += 4) {
+                int packed = 0;
+                int end = Math.min(base + 4, size);
+                for (int cell = base; cell < end; cell++) {
+                    int bits = 0;
+                    if (grid.hasWall(cell, MazeGrid.RIGHT))
+                        bits |= RIGHT_BIT;
+                    if (grid.hasWall(cell, MazeGrid.BOTTOM))
+                        bits |= BOTTOM_BIT;
+                    packed |= bits << ((cell - base) * 2);
+                }
+                buffer.put((byte) packed);
+            }
+            buffer.force();
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Maps a maze file and checks its header.
+     *
+     * @param file The file to open.
+     * @return A view of the stored maze.
+     * @throws IOException If the file cannot be read or is not a valid maze file.
+     */
+    public static MazeFile open(File file) throws IOException {
+        RandomAccessFile in = new RandomAccessFile(file, "r");
+        try {
+            long length = in.length();
+            if (length < HEADER_SIZE) {
+                throw new IOException("Not a maze file: " + file);
+            }
+            MappedByteBuffer buffer = in.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not a maze file: " + file);
+            }
+            short version = buffer.getShort(4);
+            if (version != VERSION) {
+                throw new IOException("Unsupported maze file version " + version + ": " + file);
+            }
+            int cols = buffer.getInt(8);
+            int rows = buffer.getInt(12);
+            long seed = buffer.getLong(16);
+            if (cols <= 0 || rows <= 0 || cols > MazeGrid.MAX_SIZE || rows > MazeGrid.MAX_SIZE
+                    || length < HEADER_SIZE + payloadSize(cols * rows)) {
+                throw new IOException("Corrupt maze file: " + file);
+            }
+            return new MazeFile(cols, rows, seed, buffer);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * @return The number of columns.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The seed of the stored maze.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Reads the walls of one cell straight from the mapped file.
+     *
+     * @param index The index of the cell (row * cols + col).
+     * @return A combination of the MazeGrid wall bits.
+     */
+    public int getWalls(int index) {
+        int walls = 0;
+        int bits = stored(index);
+        if ((bits & RIGHT_BIT) != 0 || index % cols == cols - 1)
+            walls |= MazeGrid.RIGHT;
+        if ((bits & BOTTOM_BIT) != 0 || index >= (rows - 1) * cols)
+            walls |= MazeGrid.BOTTOM;
+        if (index % cols == 0 || (stored(index - 1) & RIGHT_BIT) != 0)
+            walls |= MazeGrid.LEFT;
+        if (index < cols || (stored(index - cols) & BOTTOM_BIT) != 0)
+            walls |= MazeGrid.TOP;
+        return walls;
+    }
+
+    /**
+     * Decodes the stored maze into a new grid.
+     *
+     * @return The decoded grid.
+     */
+    public MazeGrid toGrid() {
+        MazeGrid grid = new MazeGrid(cols, rows);
+        readInto(grid);
+        return grid;
+    }
+
+    /**
+     * Decodes the stored maze into a grid of the same size.
+     *
+     * @param grid The grid to fill.
+     */
+    public void readInto(MazeGrid grid) {
+        if (grid.getCols() != cols || grid.getRows() != rows) {
+            throw new IllegalArgumentException("Grid size does not match the file");
+        }
+        grid.reset();
+        int size = cols * rows;
+        for (int cell = 0; cell < size; cell++) {
+            int bits = stored(cell);
+            if ((bits & RIGHT_BIT) == 0 && cell % cols < cols - 1)
+                grid.removeWall(cell, cell + 1);
+            if ((bits & BOTTOM_BIT) == 0 && cell + cols < size)
+                grid.removeWall(cell, cell + cols);
+        }
+        grid.setSeed(seed);
+    }
+
+    /**
+     * Returns the two stored bits of a cell.
+     *
+     * @param index The index of the cell.
+     * @return RIGHT_BIT and/or BOTTOM_BIT.
+     */
+    private int stored(int index) {
+        return (buffer.get(HEADER_SIZE + (index >> 2)) >> ((index & 3) * 2)) & 3;
+    }
+
+    /**
+     * Returns the number of payload bytes for a number of cells.
+     *
+     * @param cells The number of cells.
+     * @return The payload size in bytes.
+     */
+    private static int payloadSize(int cells) {
+        return (cells + 3) / 4;
+    }
+}
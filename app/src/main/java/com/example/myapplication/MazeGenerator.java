@@ -0,0 +1,82 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeGenerator carves a perfect maze (exactly one path between any two cells)
+ * into a MazeGrid. Implementations differ in speed, scratch memory and the
+ * texture of the mazes they produce, so the Maze view can pick one at runtime.
+ */
+
+public interface MazeGenerator {
+
+    /**
+     * Carves a maze into the grid. The grid is expected to have every wall in place.
+     *
+     * @param grid   The grid to carve.
+     * @param random The random number generator driving the algorithm.
+     */
+    void generate(MazeGrid grid, SplittableRandom random);
+
+    /**
+     * Identifies the mazes the generator carves: two generators with the same id carve
+     * the same maze from the same seed. Used to key cached mazes.
+     *
+     * @return The id, including any parameter that changes the mazes.
+     */
+    String id();
+
+    /**
+     * The available maze generation algorithms.
+     */
+    enum Algorithm {
+        /**
+         * Recursive backtracker: fastest, long winding corridors, O(n) stack
+         */
+        DEPTH_FIRST,
+        /**
+         * Randomized Kruskal with union-find: many short dead ends, O(n) edges and sets
+         */
+        KRUSKAL,
+        /**
+         * Randomized Prim: radial texture with many short branches, O(n) frontier
+         */
+        PRIM,
+        /**
+         * Wilson's loop-erased random walk: unbiased uniform spanning tree, slowest start
+         */
+        WILSON,
+        /**
+         * Eller's row-by-row algorithm: only O(cols) scratch memory
+         */
+        ELLER,
+        /**
+         * Tiles carved in parallel and stitched together: fastest on very large grids
+         */
+        PARALLEL;
+
+        /**
+         * Creates a new generator for this algorithm.
+         *
+         * @return A new MazeGenerator instance.
+         */
+        public MazeGenerator create() {
+            switch (this) {
+                case KRUSKAL:
+                    return new KruskalMazeGenerator();
+                case PRIM:
+                    return new PrimMazeGenerator();
+                case WILSON:
+                    return new WilsonMazeGenerator();
+                case ELLER:
+                    return new EllerMazeGenerator();
+                case PARALLEL:
+                    return new ParallelMazeGenerator();
+                default:
+                    return new DepthFirstMazeGenerator();
+            }
+        }
+    }
+}
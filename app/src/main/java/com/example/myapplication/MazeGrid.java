@@ -0,0 +1,246 @@
+package com.example.myapplication;
+
+import java.util.Arrays; // Provides fast bulk fill of the wall array
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeGrid stores the walls of every maze cell as a bitmask in a single byte array.
+ * Cells are addressed by a linear index (row * cols + col), so the grid holds no
+ * per-cell objects and can be walked with plain int arithmetic. At the largest
+ * supported size of 1000x1000 the array takes 1 MB.
+ */
+
+public class MazeGrid {
+
+    /**
+     * Wall bits stored for each cell
+     */
+    public static final int TOP = 1, LEFT = 2, BOTTOM = 4, RIGHT = 8;
+    /**
+     * Mask with every wall of a cell set
+     */
+    public static final int ALL_WALLS = TOP | LEFT | BOTTOM | RIGHT;
+    /**
+     * Marks a cell that has been reached while carving the maze
+     */
+    static final int VISITED = 16;
+    /**
+     * Largest supported number of columns or rows
+     */
+    public static final int MAX_SIZE = 1000;
+
+    /**
+     * Number of columns and rows in the grid
+     */
+    private final int cols, rows;
+    /**
+     * Number of cells in the grid
+     */
+    private final int size;
+    /**
+     * Wall bitmask of every cell, indexed by row * cols + col
+     */
+    private final byte[] walls;
+    /**
+     * Seed the maze was generated from
+     */
+    private long seed;
+
+    /**
+     * Constructs a grid of the given size with every wall in place.
+     *
+     * @param cols Number of columns.
+     * @param rows Number of rows.
+     */
+    public MazeGrid(int cols, int rows) {
+        if (cols <= 0 || rows <= 0 || cols > MAX_SIZE || rows > MAX_SIZE) {
+            throw new IllegalArgumentException("Invalid maze size: " + cols + "x" + rows);
+        }
+        this.cols = cols;
+        this.rows = rows;
+        this.size = cols * rows;
+        this.walls = new byte[size];
+        reset();
+    }
+
+    /**
+     * Puts every wall back and clears the visited marks.
+     */
+    public void reset() {
+        Arrays.fill(walls, (byte) ALL_WALLS);
+    }
+
+    /**
+     * Copies the walls and seed of another grid of the same size into this one.
+     *
+     * @param other The grid to copy.
+     */
+    public void copyFrom(MazeGrid other) {
+        if (other.cols != cols || other.rows != rows) {
+            throw new IllegalArgumentException("Grid sizes differ");
+        }
+        System.arraycopy(other.walls, 0, walls, 0, walls.length);
+        seed = other.seed;
+    }
+
+    /**
+     * @return The seed the maze was generated from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Records the seed the maze was generated from.
+     *
+     * @param seed The seed.
+     */
+    void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @return The number of columns.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return The number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of cells in the grid.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the linear index of a cell.
+     *
+     * @param col The column of the cell.
+     * @param row The row of the cell.
+     * @return The index of the cell.
+     */
+    public int index(int col, int row) {
+        return row * cols + col;
+    }
+
+    /**
+     * @param index The index of a cell.
+     * @return The column of the cell.
+     */
+    public int col(int index) {
+        return index % cols;
+    }
+
+    /**
+     * @param index The index of a cell.
+     * @return The row of the cell.
+     */
+    public int row(int index) {
+        return index / cols;
+    }
+
+    /**
+     * Returns the wall bitmask of a cell (without the visited mark).
+     *
+     * @param index The index of the cell.
+     * @return A combination of TOP, LEFT, BOTTOM and RIGHT.
+     */
+    public int getWalls(int index) {
+        return walls[index] & ALL_WALLS;
+    }
+
+    /**
+     * Overwrites the wall bitmask of a cell. Callers are responsible for keeping
+     * the shared wall of the neighboring cell consistent.
+     *
+     * @param index The index of the cell.
+     * @param mask  A combination of TOP, LEFT, BOTTOM and RIGHT.
+     */
+    void setWalls(int index, int mask) {
+        walls[index] = (byte) ((walls[index] & VISITED) | (mask & ALL_WALLS));
+    }
+
+    /**
+     * Checks whether a cell has a given wall.
+     *
+     * @param index The index of the cell.
+     * @param wall  One of TOP, LEFT, BOTTOM or RIGHT.
+     * @return True if the wall is present.
+     */
+    public boolean hasWall(int index, int wall) {
+        return (walls[index] & wall) != 0;
+    }
+
+    /**
+     * Returns the index of the neighbor on the other side of a wall,
+     * or -1 if that side is the edge of the grid.
+     *
+     * @param index The index of the cell.
+     * @param wall  One of TOP, LEFT, BOTTOM or RIGHT.
+     * @return The neighbor index, or -1.
+     */
+    public int neighbor(int index, int wall) {
+        switch (wall) {
+            case TOP:
+                return index >= cols ? index - cols : -1;
+            case BOTTOM:
+                return index + cols < size ? index + cols : -1;
+            case LEFT:
+                return index % cols > 0 ? index - 1 : -1;
+            case RIGHT:
+                return index % cols < cols - 1 ? index + 1 : -1;
+            default:
+                throw new IllegalArgumentException("Unknown wall: " + wall);
+        }
+    }
+
+    /**
+     * Removes the wall between two adjacent cells, on both sides.
+     *
+     * @param current The index of the first cell.
+     * @param next    The index of the adjacent cell.
+     */
+    public void removeWall(int current, int next) {
+        if (next == current - cols) {
+            walls[current] &= ~TOP;
+            walls[next] &= ~BOTTOM;
+        } else if (next == current + cols) {
+            walls[current] &= ~BOTTOM;
+            walls[next] &= ~TOP;
+        } else if (next == current - 1 && current % cols > 0) {
+            walls[current] &= ~LEFT;
+            walls[next] &= ~RIGHT;
+        } else if (next == current + 1 && next % cols > 0) {
+            walls[current] &= ~RIGHT;
+            walls[next] &= ~LEFT;
+        } else {
+            throw new IllegalArgumentException("Cells " + current + " and " + next + " are not adjacent");
+        }
+    }
+
+    /**
+     * @param index The index of the cell.
+     * @return True if the cell has been reached while carving.
+     */
+    boolean isVisited(int index) {
+        return (walls[index] & VISITED) != 0;
+    }
+
+    /**
+     * Marks a cell as reached while carving.
+     *
+     * @param index The index of the cell.
+     */
+    void markVisited(int index) {
+        walls[index] |= VISITED;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.myapplication;
+
+import java.util.Arrays; // Provides fast bulk fill of the distance array
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeMetrics measures how hard a maze is in a single breadth-first traversal from
+ * the player's start cell. While walking the grid it records the distance to every
+ * cell and the number of open sides of each cell, from which it derives:
+ * <ul>
+ *   <li>the solution length from the start to the exit,</li>
+ *   <li>the number of dead ends (cells with one opening),</li>
+ *   <li>the number of junctions (cells with three or four openings),</li>
+ *   <li>the average corridor length, in passages between two cells that are not
+ *       plain corridor cells (dead ends, junctions).</li>
+ * </ul>
+ * The distance and queue arrays are kept between calls, so analyzing many mazes
+ * of the same size does not allocate.
+ */
+
+public class MazeMetrics {
+
+    /**
+     * Distance of every cell from the start, and the cell queue of the search
+     */
+    private int[] distance = new int[0], queue = new int[0];
+    /**
+     * Number of cells in the last analyzed maze
+     */
+    private int size;
+    /**
+     * Number of steps from the start to the exit, or -1 if the exit cannot be reached
+     */
+    private int solutionLength;
+    /**
+     * Number of dead ends and junctions reachable from the start
+     */
+    private int deadEnds, junctions;
+    /**
+     * Number of open passages and of corridors reachable from the start
+     */
+    private int passages, corridors;
+
+    /**
+     * Analyzes a maze.
+     *
+     * @param grid  The maze to analyze.
+     * @param start The index of the player's start cell.
+     * @param goal  The index of the exit cell.
+     */
+    public void analyze(MazeGrid grid, int start, int goal) {
+        size = grid.size();
+        if (distance.length < size) {
+            distance = new int[size];
+            queue = new int[size];
+        }
+        Arrays.fill(distance, 0, size, -1);
+
+        int cols = grid.getCols();
+        int head = 0, tail = 0;
+        int degreeSum = 0, endpointDegreeSum = 0;
+        deadEnds = 0;
+        junctions = 0;
+
+        queue[tail++] = start;
+        distance[start] = 0;
+        while (head < tail) {
+            int cell = queue[head++];
+            int walls = grid.getWalls(cell);
+            int next = distance[cell] + 1;
+            int degree = 0;
+
+            /**
+             * Grid edges always have their wall set, so an open side has a neighbor
+             */
+            if ((walls & MazeGrid.TOP) == 0) {
+                degree++;
+                tail = visit(cell - cols, next, tail);
+            }
+            if ((walls & MazeGrid.BOTTOM) == 0) {
+                degree++;
+                tail = visit(cell + cols, next, tail);
+            }
+            if ((walls & MazeGrid.LEFT) == 0) {
+                degree++;
+                tail = visit(cell - 1, next, tail);
+            }
+            if ((walls & MazeGrid.RIGHT) == 0) {
+                degree++;
+                tail = visit(cell + 1, next, tail);
+            }
+
+            degreeSum += degree;
+            if (degree == 1)
+                deadEnds++;
+            else if (degree >= 3)
+                junctions++;
+            if (degree != 2)
+                endpointDegreeSum += degree;
+        }
+
+        /**
+         * Every passage is seen from both of its cells, and every corridor
+         * starts and ends at a cell that is not a plain corridor cell
+         */
+        passages = degreeSum / 2;
+        corridors = endpointDegreeSum / 2;
+        solutionLength = distance[goal];
+    }
+
+    /**
+     * Queues a cell that has not been reached yet.
+     *
+     * @param cell     The index of the cell.
+     * @param distance Its distance from the start.
+     * @param tail     The end of the queue.
+     * @return The new end of the queue.
+     */
+    private int visit(int cell, int distance, int tail) {
+        if (this.distance[cell] == -1) {
+            this.distance[cell] = distance;
+            queue[tail++] = cell;
+        }
+        return tail;
+    }
+
+    /**
+     * @return The number of steps from the start to the exit, or -1 if unreachable.
+     */
+    public int getSolutionLength() {
+        return solutionLength;
+    }
+
+    /**
+     * @return The number of dead ends.
+     */
+    public int getDeadEnds() {
+        return deadEnds;
+    }
+
+    /**
+     * @return The number of junctions.
+     */
+    public int getJunctions() {
+        return junctions;
+    }
+
+    /**
+     * @return The average number of passages per corridor.
+     */
+    public double getAverageCorridorLength() {
+        if (corridors == 0)
+            return passages;
+        return (double) passages / corridors;
+    }
+
+    /**
+     * Returns the difficulty of the maze, as the fraction of its cells the solution
+     * passes through: 0 when the exit is next to the start, close to 1 when the path
+     * winds through the whole maze.
+     *
+     * @return The difficulty between 0 and 1.
+     */
+    public double getDifficulty() {
+        if (size <= 1 || solutionLength < 0)
+            return 0;
+        return (double) solutionLength / (size - 1);
+    }
+}
@@ -0,0 +1,274 @@
+package com.example.myapplication;
+
+import java.util.Arrays; // Clears reused pixels
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazePyramid is a level of detail pyramid of the maze, for drawing it when the camera
+ * is zoomed so far out that single walls are thinner than a pixel. Level 0 is an image
+ * of the maze with two pixels per cell: the odd pixels are cell interiors, the even
+ * ones the walls and corners between them, and each pixel holds how much of it is wall
+ * (0 open, 255 wall). Every next level halves the image by averaging blocks of 2x2
+ * pixels, so a far away maze is shown as shades instead of flickering walls, like the
+ * mipmaps of a texture.
+ *
+ * The pyramid is built from a copy of the maze that is not modified while it is in use,
+ * on a background thread, one level at a time; each level can be used by the render
+ * thread as soon as it is published, while the next ones are still being built. Once
+ * the renderer no longer draws a pyramid, {@link #reset(MazeGrid)} reuses its copy of
+ * the walls and its pixels for the next maze of the same size.
+ *
+ * Pixel i of level 0 is centered on maze coordinate i / 2, so the image starts at -0.25;
+ * a pixel of level l is 2^l / 2 cells wide.
+ */
+
+public class MazePyramid {
+
+    /**
+     * Coverage of a wall pixel
+     */
+    public static final int WALL = 255;
+    /**
+     * Cell size in pixels at which one pixel of level 0 covers one pixel of the screen
+     */
+    private static final float LEVEL_0_CELL_SIZE = 2;
+
+    /**
+     * Copy of the maze, only modified by reset
+     */
+    private final MazeGrid walls;
+    /**
+     * Pixels of every level, written before the level is published
+     */
+    private final byte[][] levels;
+    /**
+     * Width and height of every level
+     */
+    private final int[] widths, heights;
+    /**
+     * Number of levels published so far
+     */
+    private volatile int ready;
+    /**
+     * True once the build should stop
+     */
+    private volatile boolean cancelled;
+    /**
+     * True once the last build returned, so nothing reads the walls anymore
+     */
+    private volatile boolean finished;
+
+    /**
+     * Constructs an empty pyramid of a maze.
+     *
+     * @param walls The maze, which must not be modified by the caller anymore.
+     */
+    public MazePyramid(MazeGrid walls) {
+        this.walls = walls;
+        int count = 1;
+        for (int w = 2 * walls.getCols() + 1, h = 2 * walls.getRows() + 1; w > 1 || h > 1; count++) {
+            w = (w + 1) / 2;
+            h = (h + 1) / 2;
+        }
+        levels = new byte[count][];
+        widths = new int[count];
+        heights = new int[count];
+        widths[0] = 2 * walls.getCols() + 1;
+        heights[0] = 2 * walls.getRows() + 1;
+        for (int i = 1; i < count; i++) {
+            widths[i] = (widths[i - 1] + 1) / 2;
+            heights[i] = (heights[i - 1] + 1) / 2;
+        }
+    }
+
+    /**
+     * Returns the level to draw a maze with at a cell size: the most detailed one
+     * whose pixels are not smaller than the screen's.
+     *
+     * @param cellSize Size of a cell in pixels.
+     * @return The level, 0 or more.
+     */
+    public static int levelFor(float cellSize) {
+        int level = 0;
+        for (float pixel = cellSize / LEVEL_0_CELL_SIZE; pixel < 1 && level < 30; pixel *= 2)
+            level++;
+        return level;
+    }
+
+    /**
+     * Builds every level, publishing each one when it is done. Stops early if
+     * {@link #cancel()} is called.
+     */
+    public void build() {
+        try {
+            for (int level = ready; level < levels.length && !cancelled; level++) {
+                levels[level] = level == 0 ? buildBase() : downsample(level);
+                ready = level + 1;
+            }
+        } finally {
+            finished = true;
+        }
+    }
+
+    /**
+     * Starts the pyramid over for another maze of the same size, copying its walls and
+     * keeping the pixels of the levels to overwrite. Only allowed once the renderer
+     * released the pyramid and {@link #isFinished()}.
+     *
+     * @param grid The new maze.
+     */
+    public void reset(MazeGrid grid) {
+        if (!finished) {
+            throw new IllegalStateException("Pyramid still being built");
+        }
+        walls.copyFrom(grid);
+        ready = 0;
+        cancelled = false;
+        finished = false;
+    }
+
+    /**
+     * @return True once the last build returned, finished or cancelled.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Stops the build after the current level, when the maze changed.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Draws the walls and corners of the maze into level 0.
+     */
+    private byte[] buildBase() {
+        int cols = walls.getCols(), rows = walls.getRows();
+        int width = widths[0];
+        byte[] pixels = levels[0];
+        if (pixels == null)
+            pixels = new byte[width * heights[0]];
+        else
+            Arrays.fill(pixels, (byte) 0);
+
+        /**
+         * Corners, always wall
+         */
+        for (int y = 0; y <= rows; y++) {
+            for (int x = 0; x <= cols; x++)
+                pixels[2 * y * width + 2 * x] = (byte) WALL;
+        }
+
+        /**
+         * Top walls of every cell, and the bottom edge of the maze
+         */
+        for (int y = 0; y <= rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                boolean wall = y < rows
+                        ? walls.hasWall(walls.index(x, y), MazeGrid.TOP)
+                        : walls.hasWall(walls.index(x, rows - 1), MazeGrid.BOTTOM);
+                if (wall)
+                    pixels[2 * y * width + 2 * x + 1] = (byte) WALL;
+            }
+        }
+
+        /**
+         * Left walls of every cell, and the right edge of the maze
+         */
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x <= cols; x++) {
+                boolean wall = x < cols
+                        ? walls.hasWall(walls.index(x, y), MazeGrid.LEFT)
+                        : walls.hasWall(walls.index(cols - 1, y), MazeGrid.RIGHT);
+                if (wall)
+                    pixels[(2 * y + 1) * width + 2 * x] = (byte) WALL;
+            }
+        }
+        return pixels;
+    }
+
+    /**
+     * Averages blocks of 2x2 pixels of the level above into a level. Blocks cut by the
+     * edge of an odd sized level average the pixels they have.
+     */
+    private byte[] downsample(int level) {
+        byte[] source = levels[level - 1];
+        int sourceWidth = widths[level - 1], sourceHeight = heights[level - 1];
+        int width = widths[level], height = heights[level];
+        byte[] pixels = levels[level] != null ? levels[level] : new byte[width * height];
+        for (int y = 0; y < height; y++) {
+            int y0 = 2 * y, y1 = Math.min(y0 + 1, sourceHeight - 1);
+            for (int x = 0; x < width; x++) {
+                int x0 = 2 * x, x1 = Math.min(x0 + 1, sourceWidth - 1);
+                int sum = 0, count = 0;
+                for (int sy = y0; sy <= y1; sy++) {
+                    for (int sx = x0; sx <= x1; sx++) {
+                        sum += source[sy * sourceWidth + sx] & 0xFF;
+                        count++;
+                    }
+                }
+                pixels[y * width + x] = (byte) ((sum + count / 2) / count);
+            }
+        }
+        return pixels;
+    }
+
+    /**
+     * @return The maze the pyramid is built from.
+     */
+    public MazeGrid getWalls() {
+        return walls;
+    }
+
+    /**
+     * @return The number of levels built so far.
+     */
+    public int getReadyLevels() {
+        return ready;
+    }
+
+    /**
+     * @return The number of levels once built, the last one being 1x1.
+     */
+    public int getLevelCount() {
+        return levels.length;
+    }
+
+    /**
+     * @param level A level already built.
+     * @return Its pixels, row by row, 0 for open to 255 for wall; must not be modified.
+     */
+    public byte[] getPixels(int level) {
+        if (level >= ready) {
+            throw new IllegalStateException("Level not built: " + level);
+        }
+        return levels[level];
+    }
+
+    /**
+     * @param level A level.
+     * @return Its width in pixels.
+     */
+    public int getWidth(int level) {
+        return widths[level];
+    }
+
+    /**
+     * @param level A level.
+     * @return Its height in pixels.
+     */
+    public int getHeight(int level) {
+        return heights[level];
+    }
+
+    /**
+     * @param level A level.
+     * @return The size of one of its pixels in cells.
+     */
+    public static float getPixelCells(int level) {
+        return (1 << level) / LEVEL_0_CELL_SIZE;
+    }
+}
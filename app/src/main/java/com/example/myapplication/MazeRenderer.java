@@ -0,0 +1,994 @@
+package com.example.myapplication;
+
+import android.graphics.Bitmap; // Offscreen image holding the walls of the maze
+import android.graphics.Canvas; // Provides classes and methods for drawing graphics on a canvas
+import android.graphics.Color; // Contains constants for defining colors in Android
+import android.graphics.Paint; // Provides classes and methods for drawing shapes, text, etc.
+import android.graphics.Rect; // Area of the surface to redraw
+import android.graphics.RectF; // Area of the surface a tile is drawn on
+import android.os.Handler; // Posts work to the render thread
+import android.os.HandlerThread; // Thread with a message loop, running the renderer
+import android.os.Process; // Thread priorities
+import android.view.Choreographer; // Calls back once per display frame (vsync)
+import android.view.SurfaceHolder; // Gives access to the surface of a SurfaceView
+
+import java.util.ArrayDeque; // Evicted tile bitmaps waiting to be reused
+import java.util.Iterator; // Walks the released pyramids
+import java.util.concurrent.ConcurrentLinkedQueue; // Pyramids handed back to the game thread
+import java.util.concurrent.CountDownLatch; // Waits for the render thread to release the surface
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeRenderer draws the game on the surface of the Maze view from its own thread, so
+ * drawing never competes with input handling and game logic on the UI thread. The
+ * render thread has its own Choreographer and draws once per vsync from the latest
+ * GameFrame published by the game; the frames are not modified while they may be
+ * drawn, so nothing is locked.
+ * Frames are only drawn when a new game frame arrived or enemies are still moving
+ * between cells, and then only the area that changed (the cells the player and
+ * enemies left and entered, and the score and lives when they change) is locked
+ * and redrawn; the rest of the surface keeps its pixels.
+ *
+ * The background and walls are drawn from square tiles of TILE_PIXELS pixels, each
+ * covering a block of cells at a power of two cell size close to the camera's, and
+ * scaled to the camera's cell size when blitted. Only the tiles in view are drawn, and
+ * the most recently used ones are kept in a TileCache, so scrolling or zooming through
+ * a large maze costs in proportion to the screen and not to the maze. The tiles are
+ * dropped when the walls change.
+ *
+ * The walls of a frame belong to its pyramid. When the render thread moves on to the
+ * pyramid of another maze, it hands the previous one back with
+ * {@link #takeReleased(int, int)}, so the game alternates between two copies of the
+ * walls instead of allocating one per maze. Frames are handed back the same way.
+ *
+ * Zoomed so far out that the walls would be thinner than a pixel, the maze is drawn
+ * from a level of the frame's MazePyramid instead, with shades for the blocks of
+ * cells. When the maze does not fit on the screen, a minimap drawn from a small level
+ * of the same pyramid shows where the view and the player are.
+ *
+ * The time taken by every frame drawn is recorded in FrameStats while it is enabled;
+ * the 99th percentile of every metric can be shown as an overlay in the bottom left
+ * corner, whose own drawing is left out of the frame times.
+ *
+ * Everything but {@link #publish(GameFrame)} and the surface callbacks runs on the
+ * render thread, which owns the paints and the tiles.
+ */
+
+public class MazeRenderer implements SurfaceHolder.Callback, Choreographer.FrameCallback {
+
+    /**
+     * Thickness of the walls in pixels
+     */
+    private static final float WALL_THICKNESS = 10;
+    /**
+     * Width and height of a tile in pixels
+     */
+    private static final int TILE_PIXELS = 256;
+    /**
+     * Largest zoom level, where a cell is 2^MAX_LEVEL pixels in the tiles
+     */
+    private static final int MAX_LEVEL = 8;
+    /**
+     * Number of evicted tile bitmaps kept for reuse
+     */
+    private static final int SPARE_TILES = 8;
+    /**
+     * Text size of a new Paint, which the score was positioned with
+     */
+    private static final float DEFAULT_TEXT_SIZE = 12;
+    /**
+     * Color of the background and of the walls
+     */
+    private static final int BACKGROUND = Color.rgb(151, 192, 133), WALL_COLOR = Color.rgb(21,66,57);
+    /**
+     * Cell size (pixels) below which the maze is drawn from the pyramid
+     */
+    private static final float OVERVIEW_CELL_SIZE = 4;
+    /**
+     * Minimap size as a fraction of the shorter side of the surface, and its distance
+     * from the corner
+     */
+    private static final int MINIMAP_FRACTION = 4, MINIMAP_MARGIN = 20;
+    /**
+     * Text size of the statistics overlay, and its distance from the corner
+     */
+    private static final float STATS_TEXT_SIZE = 28, STATS_MARGIN = 20;
+
+    /**
+     * Latest frame published by the game
+     */
+    private volatile GameFrame frame;
+    /**
+     * Thread drawing the frames, and its handler (UI thread side)
+     */
+    private HandlerThread thread;
+    private Handler handler;
+
+    /**
+     * Surface being drawn on, or null when there is none
+     */
+    private SurfaceHolder holder;
+    /**
+     * True while a frame callback is posted
+     */
+    private boolean running;
+    /**
+     * Size of the surface
+     */
+    private int width, height;
+    /**
+     * Maze size and starting cell size the text was laid out for
+     */
+    private int layoutCols, layoutRows;
+    private float layoutCellSize;
+    /**
+     * Distance of the text from the top of the surface, the margin the maze had
+     * when shown whole
+     */
+    private float textMargin;
+    /**
+     * Last frame drawn, and whether enemies were still moving in it
+     */
+    private GameFrame drawn;
+    private boolean drawnMoving;
+    /**
+     * Cells changed since the last frame drawn
+     */
+    private final DirtyRegion region = new DirtyRegion();
+    /**
+     * Area of the surface redrawn by the next frame
+     */
+    private final Rect dirty = new Rect();
+
+    /**
+     * Paint object for walls, player, maze exit, enemy and text
+     */
+    private final Paint wallPaint = new Paint(), playerPaint = new Paint(), exitPaint = new Paint(),
+            enemyPaint = new Paint(), textPaint = new Paint();
+    /**
+     * Score and lives shown on screen, rebuilt only when they change
+     */
+    private final HudText scoreText = new HudText("Score: "), livesText = new HudText("Lives: ");
+    /**
+     * Width of the score and lives text
+     */
+    private float scoreTextWidth, livesTextWidth;
+    /**
+     * Tiles drawn recently, sized to the surface
+     */
+    private TileCache<Bitmap> tiles;
+    /**
+     * Evicted tile bitmaps, reused for the next tiles
+     */
+    private final ArrayDeque<Bitmap> spareTiles = new ArrayDeque<>();
+    /**
+     * Takes the bitmaps of evicted tiles back
+     */
+    private final TileCache.Evictor<Bitmap> evictor = new TileCache.Evictor<Bitmap>() {
+        @Override
+        public void evicted(Bitmap tile) {
+            if (spareTiles.size() < SPARE_TILES)
+                spareTiles.push(tile);
+            else
+                tile.recycle();
+        }
+    };
+    /**
+     * Maze the cached tiles were drawn from
+     */
+    private MazeGrid tileWalls;
+    /**
+     * Canvas drawing into a tile, and the walls of the cells it covers
+     */
+    private final Canvas tileCanvas = new Canvas();
+    private final WallGeometry tileGeometry = new WallGeometry();
+    /**
+     * Area of a tile, and where it goes on the surface
+     */
+    private final Rect tileSource = new Rect(0, 0, TILE_PIXELS, TILE_PIXELS);
+    private final RectF tileTarget = new RectF();
+    /**
+     * Paint blending the pixels of scaled tiles
+     */
+    private final Paint tilePaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    /**
+     * Levels of the pyramid drawn as the overview and the minimap
+     */
+    private final LevelImage overview = new LevelImage(), minimap = new LevelImage();
+    /**
+     * Pyramid of the last frame handled, and the ones no longer drawn
+     */
+    private MazePyramid held;
+    private final ConcurrentLinkedQueue<MazePyramid> released = new ConcurrentLinkedQueue<>();
+    /**
+     * Last frame handled, and the ones no longer drawn
+     */
+    private GameFrame heldFrame;
+    private final ConcurrentLinkedQueue<GameFrame> releasedFrames = new ConcurrentLinkedQueue<>();
+    /**
+     * Levels of the pyramid that were built when the last frame was drawn
+     */
+    private int drawnLevels;
+    /**
+     * Colors of the pyramid's wall coverages, and a row of pixels being converted
+     */
+    private final int[] palette = new int[MazePyramid.WALL + 1];
+    private int[] levelRow = new int[0];
+    /**
+     * Area of the minimap on the surface
+     */
+    private final RectF minimapBounds = new RectF();
+    /**
+     * Paints for the minimap background and the outline of the view
+     */
+    private final Paint minimapPaint = new Paint(), viewPaint = new Paint();
+    /**
+     * Timings of the game, recorded while enabled
+     */
+    private final FrameStats stats = FrameStats.getInstance();
+    /**
+     * True if the statistics overlay is shown, and if it was in the last frame drawn
+     */
+    private volatile boolean showStats;
+    private boolean drawnStats;
+    /**
+     * One line of the overlay per metric, with its 99th percentile
+     */
+    private final HudText[] statsText = new HudText[FrameStats.Metric.values().length];
+    /**
+     * Paint for the statistics overlay
+     */
+    private final Paint statsPaint = new Paint();
+
+    /**
+     * Constructs a renderer.
+     */
+    public MazeRenderer() {
+        /**
+         * Initialize the paint for the walls
+         */
+        wallPaint.setColor(WALL_COLOR);
+        wallPaint.setStrokeWidth(WALL_THICKNESS);
+
+        /**
+         * Initialize the minimap, with a white outline of the view
+         */
+        minimapPaint.setColor(BACKGROUND);
+        viewPaint.setColor(Color.WHITE);
+        viewPaint.setStyle(Paint.Style.STROKE);
+        viewPaint.setStrokeWidth(2);
+        for (int coverage = 0; coverage <= MazePyramid.WALL; coverage++)
+            palette[coverage] = blend(BACKGROUND, WALL_COLOR, coverage);
+
+        /**
+         * Initialize the statistics overlay, durations in microseconds
+         */
+        statsPaint.setColor(Color.WHITE);
+        statsPaint.setTextSize(STATS_TEXT_SIZE);
+        for (FrameStats.Metric metric : FrameStats.Metric.values()) {
+            boolean nanos = metric.getUnit().equals("ns");
+            statsText[metric.ordinal()] = new HudText(metric.getKey() + (nanos ? " p99 us: " : " p99: "));
+        }
+
+        /**
+         * Initialize the paint for the player (squirrel) and exit
+         */
+        playerPaint.setColor(Color.rgb(139, 69, 19));
+        exitPaint.setColor(Color.rgb(151, 192, 133));
+
+        /**
+         * Initialize the paint for the enemy
+         * Orange color for enemy (slime)
+         */
+        enemyPaint.setColor(Color.rgb(255, 165, 0));
+
+        /**
+         * Initialize the paint for the score and lives
+         */
+        textPaint.setColor(Color.WHITE);
+    }
+
+    /**
+     * Shows or hides the statistics overlay. Can be called from any thread.
+     *
+     * @param show True to show the overlay.
+     */
+    public void setStatsOverlay(boolean show) {
+        showStats = show;
+    }
+
+    /**
+     * Hands a new frame to the render thread. Can be called from any thread.
+     *
+     * @param frame The frame to draw from now on.
+     */
+    public void publish(GameFrame frame) {
+        this.frame = frame;
+    }
+
+    /**
+     * Returns a frame the render thread no longer draws, to be refilled with
+     * {@link GameFrame#set}. Can be called from any thread.
+     *
+     * @return The frame, or null if none was handed back.
+     */
+    public GameFrame takeReleasedFrame() {
+        return releasedFrames.poll();
+    }
+
+    /**
+     * Returns a pyramid the render thread no longer draws and whose build finished,
+     * so its walls and pixels can be reused for a maze of the same size. Can be
+     * called from any thread.
+     *
+     * @param cols Number of columns of the maze.
+     * @param rows Number of rows of the maze.
+     * @return The pyramid, or null if none can be reused yet.
+     */
+    public MazePyramid takeReleased(int cols, int rows) {
+        for (Iterator<MazePyramid> i = released.iterator(); i.hasNext(); ) {
+            MazePyramid pyramid = i.next();
+            MazeGrid walls = pyramid.getWalls();
+            if (walls.getCols() != cols || walls.getRows() != rows) {
+                i.remove();
+            }
+            else if (pyramid.isFinished()) {
+                i.remove();
+                return pyramid;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Starts the render thread when the surface is created.
+     */
+    @Override
+    public void surfaceCreated(final SurfaceHolder holder) {
+        if (thread == null) {
+            thread = new HandlerThread("MazeRenderer", Process.THREAD_PRIORITY_DISPLAY);
+            thread.start();
+            handler = new Handler(thread.getLooper());
+        }
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                MazeRenderer.this.holder = holder;
+            }
+        });
+    }
+
+    /**
+     * Lays the maze out for the new surface size and starts drawing.
+     */
+    @Override
+    public void surfaceChanged(SurfaceHolder holder, int format, final int width, final int height) {
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                resize(width, height);
+                if (!running) {
+                    running = true;
+                    Choreographer.getInstance().postFrameCallback(MazeRenderer.this);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stops drawing, and waits until the render thread no longer uses the surface,
+     * as the surface is destroyed when this returns.
+     */
+    @Override
+    public void surfaceDestroyed(SurfaceHolder holder) {
+        final CountDownLatch stopped = new CountDownLatch(1);
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                running = false;
+                Choreographer.getInstance().removeFrameCallback(MazeRenderer.this);
+                MazeRenderer.this.holder = null;
+                stopped.countDown();
+            }
+        });
+        Uninterruptibles.await(stopped);
+    }
+
+    /**
+     * Frees the tiles and ends the render thread, when the view goes away.
+     */
+    public void quit() {
+        if (thread == null)
+            return;
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (tiles != null)
+                    tiles.clear();
+                for (Bitmap tile : spareTiles)
+                    tile.recycle();
+                spareTiles.clear();
+                tileWalls = null;
+                overview.recycle();
+                minimap.recycle();
+                held = null;
+                released.clear();
+                heldFrame = null;
+                releasedFrames.clear();
+            }
+        });
+        thread.quitSafely();
+        thread = null;
+        handler = null;
+    }
+
+    /**
+     * Draws the latest frame on every vsync, unless nothing changed on screen.
+     *
+     * @param frameTimeNanos Time the frame started rendering (ns).
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!running)
+            return;
+        GameFrame latest = frame;
+        int levels = latest == null ? 0 : latest.getPyramid().getReadyLevels();
+        boolean overlay = showStats;
+        if (latest != null && holder != null && width > 0 && height > 0 && latest.getCellSize() > 0
+                && (latest != drawn || drawnMoving || levels != drawnLevels || overlay != drawnStats)) {
+            boolean moving = latest.isMoving(frameTimeNanos);
+            if (!updateDirty(latest, moving, levels != drawnLevels || overlay != drawnStats)) {
+                drawn = latest;
+                drawnMoving = moving;
+                drawnLevels = levels;
+            }
+            else {
+                long start = System.nanoTime(), overlayNanos = 0;
+
+                /**
+                 * The surface may grow the dirty area, and clips the canvas to it
+                 */
+                Canvas canvas = holder.lockCanvas(dirty);
+                if (canvas != null) {
+                    try {
+                        draw(canvas, latest, frameTimeNanos);
+                        if (overlay) {
+                            long overlayStart = System.nanoTime();
+                            drawStats(canvas);
+                            overlayNanos = System.nanoTime() - overlayStart;
+                        }
+                    } finally {
+                        holder.unlockCanvasAndPost(canvas);
+                    }
+                    drawn = latest;
+                    drawnMoving = moving;
+                    drawnLevels = levels;
+                    drawnStats = overlay;
+
+                    /**
+                     * The overlay is left out, so showing it does not change what it shows
+                     */
+                    stats.record(FrameStats.Metric.DRAW, System.nanoTime() - start - overlayNanos);
+                }
+                else {
+                    /**
+                     * Nothing was drawn, so redraw everything next time
+                     */
+                    drawn = null;
+                }
+            }
+            hold(latest.getPyramid());
+            if (latest != heldFrame) {
+                if (heldFrame != null)
+                    releasedFrames.offer(heldFrame);
+                heldFrame = latest;
+            }
+        }
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    /**
+     * Keeps the pyramid of the frame just handled, and hands back the previous one
+     * once nothing drawn from it is cached anymore.
+     *
+     * @param pyramid The pyramid of the frame.
+     */
+    private void hold(MazePyramid pyramid) {
+        if (pyramid == held)
+            return;
+        if (held != null) {
+            if (tileWalls == held.getWalls()) {
+                tiles.clear();
+                tileWalls = null;
+            }
+            overview.forget(held);
+            minimap.forget(held);
+            released.offer(held);
+        }
+        held = pyramid;
+    }
+
+    /**
+     * Works out the area of the surface the next frame changes. The text of the
+     * score and lives is brought up to date here, as its width changes with them.
+     *
+     * @param latest    The frame to draw.
+     * @param moving    True if enemies are between cells in it.
+     * @param redrawAll True if everything must be redrawn anyway, as levels of the
+     *                  pyramid were built or the overlay was shown or hidden.
+     * @return True if anything must be redrawn.
+     */
+    private boolean updateDirty(GameFrame latest, boolean moving, boolean redrawAll) {
+        region.clear();
+        if (latest.getCols() != layoutCols || latest.getRows() != layoutRows
+                || latest.getBaseCellSize() != layoutCellSize) {
+            updateLayout(latest);
+            region.setFull();
+        }
+        else if (redrawAll) {
+            region.setFull();
+        }
+        else {
+            region.addChanges(drawn, drawnMoving, latest, moving);
+        }
+
+        float oldScoreWidth = scoreTextWidth, oldLivesWidth = livesTextWidth;
+        boolean hudChanged = false;
+        if (scoreText.setValue(latest.getScore())) {
+            scoreTextWidth = textPaint.measureText(scoreText.getChars(), 0, scoreText.getLength());
+            hudChanged = true;
+        }
+        if (livesText.setValue(latest.getLives())) {
+            livesTextWidth = textPaint.measureText(livesText.getChars(), 0, livesText.getLength());
+            hudChanged = true;
+        }
+
+        if (region.isFull()) {
+            dirty.set(0, 0, width, height);
+            return true;
+        }
+        dirty.setEmpty();
+        if (!region.isEmpty()) {
+            /**
+             * Cells grown by half a wall, which sticks out of the cells it borders; the
+             * tiles are scaled by less than 1.5, so the walls are thinner than a full one
+             */
+            float cellSize = latest.getCellSize();
+            float pad = WALL_THICKNESS + 1;
+            dirty.set((int) Math.floor((region.getLeft() - latest.getLeft()) * cellSize - pad),
+                    (int) Math.floor((region.getTop() - latest.getTop()) * cellSize - pad),
+                    (int) Math.ceil((region.getRight() + 1 - latest.getLeft()) * cellSize + pad),
+                    (int) Math.ceil((region.getBottom() + 1 - latest.getTop()) * cellSize + pad));
+
+            /**
+             * The player may have moved on the minimap
+             */
+            if (updateMinimapBounds(latest)) {
+                dirty.union((int) Math.floor(minimapBounds.left) - 2, (int) Math.floor(minimapBounds.top) - 2,
+                        (int) Math.ceil(minimapBounds.right) + 2, (int) Math.ceil(minimapBounds.bottom) + 2);
+            }
+        }
+        if (hudChanged) {
+            /**
+             * Both texts end 50 pixels from the right of the view (see draw); the old
+             * text may have been wider
+             */
+            float textWidth = Math.max(Math.max(oldScoreWidth, scoreTextWidth), Math.max(oldLivesWidth, livesTextWidth));
+            float scoreBaseline = 2 * textMargin - DEFAULT_TEXT_SIZE + 50;
+            float livesBaseline = 2 * textMargin - textPaint.getTextSize() + 150;
+            float textSize = textPaint.getTextSize();
+            dirty.union((int) Math.floor(width - textWidth - 50 - 1),
+                    (int) Math.floor(Math.min(scoreBaseline, livesBaseline) - textSize),
+                    (int) Math.ceil(width - 50 + 1),
+                    (int) Math.ceil(Math.max(scoreBaseline, livesBaseline) + textSize / 2));
+        }
+
+        /**
+         * The overlay is brought up to date whenever anything else is drawn
+         */
+        if (showStats && !dirty.isEmpty()) {
+            dirty.union(0, (int) Math.floor(statsTop()), width, height);
+        }
+        return !dirty.isEmpty();
+    }
+
+    /**
+     * Sizes the tile cache to the surface: the tiles covering it, whatever the zoom,
+     * and a ring around them for scrolling back and forth.
+     *
+     * @param width  Width of the surface.
+     * @param height Height of the surface.
+     */
+    private void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+        layoutCols = 0;
+        drawn = null;
+        if (width == 0 || height == 0)
+            return;
+
+        /**
+         * A tile is drawn at least 0.7 times its size (levels are powers of two)
+         */
+        int minTile = TILE_PIXELS * 7 / 10;
+        int across = width / minTile + 2, down = height / minTile + 2;
+        if (tiles != null)
+            tiles.clear();
+        tiles = new TileCache<>(across * down + across + down, evictor);
+        tileWalls = null;
+    }
+
+    /**
+     * Sizes the text for the maze size and starting cell size, when either changes.
+     *
+     * @param frame The frame to draw.
+     */
+    private void updateLayout(GameFrame frame) {
+        layoutCols = frame.getCols();
+        layoutRows = frame.getRows();
+        layoutCellSize = frame.getBaseCellSize();
+        textMargin = Math.max(layoutCellSize / 2, (height - layoutRows * layoutCellSize) / 2);
+
+        /**
+         * The text size follows the cell size, so the text is measured again
+         */
+        textPaint.setTextSize(layoutCellSize / 2 + 10);
+        scoreTextWidth = textPaint.measureText(scoreText.getChars(), 0, scoreText.getLength());
+        livesTextWidth = textPaint.measureText(livesText.getChars(), 0, livesText.getLength());
+    }
+
+    /**
+     * Draws a frame.
+     *
+     * @param canvas     The canvas of the surface.
+     * @param frame      The frame to draw.
+     * @param frameNanos Time of the frame (ns), to place the moving enemies.
+     */
+    private void draw(Canvas canvas, GameFrame frame, long frameNanos) {
+        int cols = frame.getCols();
+        float cellSize = frame.getCellSize();
+        float left = frame.getLeft(), top = frame.getTop();
+
+        /**
+         * Blit the background and walls from the pyramid when zoomed far out (if its
+         * level is built yet), or from the tiles in view
+         */
+        if (cellSize >= OVERVIEW_CELL_SIZE || !drawOverview(canvas, frame))
+            drawTiles(canvas, frame);
+
+        /**
+         * Translates the canvas so the camera's corner is at the origin
+         */
+        canvas.save();
+        canvas.translate(-left * cellSize, -top * cellSize);
+
+        /**
+         * Draws the player(squirrel)
+         */
+        float margin = cellSize/10;
+        int player = frame.getPlayer();
+        int playerCol = player % cols, playerRow = player / cols;
+        if (inView(frame, playerCol, playerRow))
+            canvas.drawRect((playerCol)*cellSize+margin, (playerRow)*cellSize+margin, (playerCol+1)*cellSize-margin, (playerRow+1)*cellSize-margin, playerPaint);
+
+        /**
+         * Draws the exit(acorn)
+         */
+        int exit = frame.getExit();
+        if (exit != -1) {
+            int exitCol = exit % cols, exitRow = exit / cols;
+            if (inView(frame, exitCol, exitRow))
+                canvas.drawRect((exitCol)*cellSize+margin, (exitRow)*cellSize+margin, (exitCol+1)*cellSize-margin, (exitRow+1)*cellSize-margin, exitPaint);
+        }
+
+        /**
+         * Draws the enemy (slime), between its last two cells as far as the
+         * simulation is into the next tick
+         */
+        float enemyCircleRadius = cellSize / 3;
+        float alpha = frame.getAlpha(frameNanos);
+        for (int i = 0; i < frame.getEnemyCount(); i++) {
+            int from = frame.getPrevious(i), to = frame.getEnemy(i);
+            float col = from % cols + (to % cols - from % cols) * alpha;
+            float row = from / cols + (to / cols - from / cols) * alpha;
+            if (inView(frame, col, row))
+                canvas.drawCircle((col + 0.5f) * cellSize, (row + 0.5f) * cellSize, enemyCircleRadius, enemyPaint);
+        }
+        canvas.restore();
+        drawMinimap(canvas, frame);
+
+        /**
+         * Display the score and lives, brought up to date by updateDirty
+         */
+        canvas.drawText(scoreText.getChars(), 0, scoreText.getLength(),
+                width - scoreTextWidth - 50, 2 * textMargin - DEFAULT_TEXT_SIZE+50, textPaint);
+        canvas.drawText(livesText.getChars(), 0, livesText.getLength(),
+                width - livesTextWidth - 50, 2 * textMargin - textPaint.getTextSize()+150, textPaint);
+    }
+
+    /**
+     * @return True if any part of the cell at a position is on the surface.
+     */
+    private boolean inView(GameFrame frame, float col, float row) {
+        float cellSize = frame.getCellSize();
+        return col + 1 >= frame.getLeft() && (col - frame.getLeft()) * cellSize <= width
+                && row + 1 >= frame.getTop() && (row - frame.getTop()) * cellSize <= height;
+    }
+
+    /**
+     * Draws the tiles covering the area of the surface being redrawn, drawing the
+     * missing ones. The tiles one cell past the edges of the maze are included, as
+     * the outer walls stick out into them.
+     *
+     * @param canvas The canvas of the surface.
+     * @param frame  The frame to draw.
+     */
+    private void drawTiles(Canvas canvas, GameFrame frame) {
+        if (frame.getWalls() != tileWalls) {
+            tiles.clear();
+            tileWalls = frame.getWalls();
+        }
+        canvas.drawColor(BACKGROUND);
+
+        /**
+         * Zoom level with the power of two cell size closest to the camera's
+         */
+        float cellSize = frame.getCellSize();
+        int level = Math.max(0, Math.min(MAX_LEVEL, Math.round((float) (Math.log(cellSize) / Math.log(2)))));
+        int tileCells = TILE_PIXELS >> level;
+        float tileSize = tileCells * cellSize;
+
+        /**
+         * Tiles overlapping both the view and the area redrawn
+         */
+        float left = frame.getLeft(), top = frame.getTop();
+        int firstX = tile(Math.max(-1, left + dirty.left / cellSize), tileCells);
+        int lastX = tile(Math.min(frame.getCols(), left + dirty.right / cellSize), tileCells);
+        int firstY = tile(Math.max(-1, top + dirty.top / cellSize), tileCells);
+        int lastY = tile(Math.min(frame.getRows(), top + dirty.bottom / cellSize), tileCells);
+        for (int y = firstY; y <= lastY; y++) {
+            for (int x = firstX; x <= lastX; x++) {
+                Bitmap tile = tile(frame.getWalls(), level, x, y);
+                float tileLeft = (x * tileCells - left) * cellSize, tileTop = (y * tileCells - top) * cellSize;
+                tileTarget.set(tileLeft, tileTop, tileLeft + tileSize, tileTop + tileSize);
+                canvas.drawBitmap(tile, tileSource, tileTarget, tilePaint);
+            }
+        }
+    }
+
+    /**
+     * @return The tile covering a cell position, in columns or rows of tiles.
+     */
+    private static int tile(float cell, int tileCells) {
+        return (int) Math.floor(cell / tileCells);
+    }
+
+    /**
+     * Returns a tile, drawing its background and walls if it is not cached.
+     *
+     * @param walls The maze.
+     * @param level The zoom level; a cell is 2^level pixels in the tile.
+     * @param x     The column of the tile.
+     * @param y     The row of the tile.
+     * @return The bitmap of the tile.
+     */
+    private Bitmap tile(MazeGrid walls, int level, int x, int y) {
+        long key = TileCache.key(level, x, y);
+        Bitmap tile = tiles.get(key);
+        if (tile != null)
+            return tile;
+
+        tile = spareTiles.poll();
+        if (tile == null)
+            tile = Bitmap.createBitmap(TILE_PIXELS, TILE_PIXELS, Bitmap.Config.RGB_565);
+        tileCanvas.setBitmap(tile);
+        tileCanvas.drawColor(BACKGROUND);
+
+        /**
+         * The walls of the cells around the tile too, as they stick into it
+         */
+        int levelCell = 1 << level, tileCells = TILE_PIXELS >> level;
+        tileGeometry.build(walls, x * tileCells - 1, y * tileCells - 1, tileCells + 2, tileCells + 2, levelCell);
+        wallPaint.setStrokeWidth(Math.min(WALL_THICKNESS, levelCell / 4f));
+        tileCanvas.save();
+        tileCanvas.translate(-levelCell, -levelCell);
+        tileCanvas.drawLines(tileGeometry.getLines(), 0, tileGeometry.getLength(), wallPaint);
+        tileCanvas.restore();
+        tileCanvas.setBitmap(null);
+
+        tiles.put(key, tile);
+        return tile;
+    }
+
+    /**
+     * @return The top of the statistics overlay, one line per metric above the bottom margin.
+     */
+    private float statsTop() {
+        return height - STATS_MARGIN - (statsText.length + 1) * STATS_TEXT_SIZE;
+    }
+
+    /**
+     * Draws the 99th percentile of every metric, durations in microseconds, in the
+     * bottom left corner.
+     *
+     * @param canvas The canvas of the surface.
+     */
+    private void drawStats(Canvas canvas) {
+        float baseline = statsTop() + STATS_TEXT_SIZE;
+        for (FrameStats.Metric metric : FrameStats.Metric.values()) {
+            long value = stats.get(metric).getValueAtPercentile(99);
+            if (metric.getUnit().equals("ns"))
+                value /= 1000;
+            HudText text = statsText[metric.ordinal()];
+            text.setValue((int) Math.min(Integer.MAX_VALUE, value));
+            canvas.drawText(text.getChars(), 0, text.getLength(), STATS_MARGIN, baseline, statsPaint);
+            baseline += STATS_TEXT_SIZE;
+        }
+    }
+
+    /**
+     * Draws the maze from the level of the pyramid matching the cell size.
+     *
+     * @param canvas The canvas of the surface.
+     * @param frame  The frame to draw.
+     * @return False if the level is not built yet.
+     */
+    private boolean drawOverview(Canvas canvas, GameFrame frame) {
+        MazePyramid pyramid = frame.getPyramid();
+        int level = Math.min(MazePyramid.levelFor(frame.getCellSize()), pyramid.getLevelCount() - 1);
+        if (level >= pyramid.getReadyLevels())
+            return false;
+
+        Bitmap image = overview.update(pyramid, level);
+        float cellSize = frame.getCellSize();
+        float pixelSize = MazePyramid.getPixelCells(level) * cellSize;
+        float imageLeft = (-0.25f - frame.getLeft()) * cellSize, imageTop = (-0.25f - frame.getTop()) * cellSize;
+        canvas.drawColor(BACKGROUND);
+        tileTarget.set(imageLeft, imageTop, imageLeft + pyramid.getWidth(level) * pixelSize,
+                imageTop + pyramid.getHeight(level) * pixelSize);
+        canvas.drawBitmap(image, null, tileTarget, tilePaint);
+        return true;
+    }
+
+    /**
+     * Works out where the minimap goes: in the top left corner, sized to a fraction
+     * of the surface, when the maze does not fit on the screen.
+     *
+     * @param frame The frame to draw.
+     * @return True if the minimap is shown.
+     */
+    private boolean updateMinimapBounds(GameFrame frame) {
+        int cols = frame.getCols(), rows = frame.getRows();
+        float cellSize = frame.getCellSize();
+        if (cols * cellSize <= width && rows * cellSize <= height)
+            return false;
+        float scale = (float) Math.min(width, height) / MINIMAP_FRACTION / Math.max(cols + 1, rows + 1);
+        minimapBounds.set(MINIMAP_MARGIN, MINIMAP_MARGIN,
+                MINIMAP_MARGIN + (cols + 1) * scale, MINIMAP_MARGIN + (rows + 1) * scale);
+        return true;
+    }
+
+    /**
+     * Draws the minimap, from the most detailed level of the pyramid that is not
+     * larger than it, with the outline of the view and the player.
+     *
+     * @param canvas The canvas of the surface.
+     * @param frame  The frame to draw.
+     */
+    private void drawMinimap(Canvas canvas, GameFrame frame) {
+        if (!updateMinimapBounds(frame))
+            return;
+        int cols = frame.getCols();
+        float scale = minimapBounds.width() / (cols + 1);
+        canvas.drawRect(minimapBounds, minimapPaint);
+
+        /**
+         * The maze starts half a cell into the minimap
+         */
+        float originX = minimapBounds.left + 0.5f * scale, originY = minimapBounds.top + 0.5f * scale;
+        MazePyramid pyramid = frame.getPyramid();
+        int level = 0;
+        while (level < pyramid.getLevelCount() - 1
+                && Math.max(pyramid.getWidth(level), pyramid.getHeight(level)) > minimapBounds.width())
+            level++;
+        if (level < pyramid.getReadyLevels()) {
+            Bitmap image = minimap.update(pyramid, level);
+            float pixelSize = MazePyramid.getPixelCells(level) * scale;
+            float imageLeft = originX - 0.25f * scale, imageTop = originY - 0.25f * scale;
+            tileTarget.set(imageLeft, imageTop, imageLeft + pyramid.getWidth(level) * pixelSize,
+                    imageTop + pyramid.getHeight(level) * pixelSize);
+            canvas.drawBitmap(image, null, tileTarget, tilePaint);
+        }
+
+        /**
+         * Outline of the part of the maze on screen, and the player
+         */
+        float viewCols = width / frame.getCellSize(), viewRows = height / frame.getCellSize();
+        canvas.drawRect(originX + frame.getLeft() * scale, originY + frame.getTop() * scale,
+                originX + (frame.getLeft() + viewCols) * scale, originY + (frame.getTop() + viewRows) * scale, viewPaint);
+        int player = frame.getPlayer();
+        canvas.drawCircle(originX + (player % cols + 0.5f) * scale, originY + (player / cols + 0.5f) * scale,
+                Math.max(3, scale), playerPaint);
+    }
+
+    /**
+     * Mixes two colors.
+     *
+     * @param from     The color at 0.
+     * @param to       The color at 255.
+     * @param coverage How much of the second color, from 0 to 255.
+     * @return The mixed color, opaque.
+     */
+    private static int blend(int from, int to, int coverage) {
+        int red = Color.red(from) + (Color.red(to) - Color.red(from)) * coverage / MazePyramid.WALL;
+        int green = Color.green(from) + (Color.green(to) - Color.green(from)) * coverage / MazePyramid.WALL;
+        int blue = Color.blue(from) + (Color.blue(to) - Color.blue(from)) * coverage / MazePyramid.WALL;
+        return Color.rgb(red, green, blue);
+    }
+
+    /**
+     * A level of a pyramid turned into a bitmap, converted again only when another
+     * level or pyramid is asked for.
+     */
+    private final class LevelImage {
+        /**
+         * Pyramid and level in the bitmap, or null
+         */
+        private MazePyramid pyramid;
+        private int level;
+        private Bitmap bitmap;
+
+        /**
+         * Returns the bitmap of a level that is built, converting its wall coverage
+         * into the colors of the walls and background.
+         *
+         * @param pyramid The pyramid.
+         * @param level   The level.
+         * @return The bitmap.
+         */
+        Bitmap update(MazePyramid pyramid, int level) {
+            if (pyramid == this.pyramid && level == this.level)
+                return bitmap;
+            int width = pyramid.getWidth(level), height = pyramid.getHeight(level);
+            if (bitmap == null || bitmap.getWidth() != width || bitmap.getHeight() != height) {
+                if (bitmap != null)
+                    bitmap.recycle();
+                bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
+            }
+
+            byte[] pixels = pyramid.getPixels(level);
+            if (levelRow.length < width)
+                levelRow = new int[width];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++)
+                    levelRow[x] = palette[pixels[y * width + x] & 0xFF];
+                bitmap.setPixels(levelRow, 0, width, 0, y, width, 1);
+            }
+            this.pyramid = pyramid;
+            this.level = level;
+            return bitmap;
+        }
+
+        /**
+         * Converts the bitmap again next time, if it shows a level of a pyramid
+         * that is going to be reused.
+         *
+         * @param pyramid The pyramid.
+         */
+        void forget(MazePyramid pyramid) {
+            if (this.pyramid == pyramid)
+                this.pyramid = null;
+        }
+
+        /**
+         * Frees the bitmap.
+         */
+        void recycle() {
+            if (bitmap != null)
+                bitmap.recycle();
+            bitmap = null;
+            pyramid = null;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.myapplication;
+
+import java.util.ArrayList; // Holds the pending candidates of a batch
+import java.util.List; // List of pending candidates
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.Callable; // Task that returns a result
+import java.util.concurrent.ForkJoinPool; // Work-stealing thread pool
+import java.util.concurrent.Future; // Result of a candidate task
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeSelector picks mazes inside a target difficulty band. Candidate mazes are
+ * carved and measured with MazeMetrics in parallel, one batch per round with as
+ * many candidates as the pool has threads, and the first candidate (in seed order)
+ * inside the band is kept. Candidates are only measured, not stored: the winning
+ * seed is carved again into the caller's grid.
+ *
+ * The time per batch is measured, and no new batch is started once it would
+ * overrun the time budget; the candidate closest to the band is kept instead.
+ *
+ * Every candidate of a batch has its own scratch generator, analyzer and grid, owned
+ * by the selector and reused by the candidate in the same place of later batches, so
+ * the memory goes away with the selector rather than staying with the pool threads.
+ */
+
+public class MazeSelector {
+
+    /**
+     * Default time budget of one selection: one frame at 60 frames per second
+     */
+    public static final long DEFAULT_BUDGET_NANOS = 16_000_000L;
+
+    /**
+     * Pool measuring the candidates
+     */
+    private final ForkJoinPool pool;
+    /**
+     * Algorithm used to carve the candidates
+     */
+    private final MazeGenerator.Algorithm algorithm;
+    /**
+     * Bounds of the difficulty band
+     */
+    private final double minDifficulty, maxDifficulty;
+    /**
+     * Time budget of one selection, in nanoseconds
+     */
+    private final long budgetNanos;
+    /**
+     * Generator, analyzer and grid of each candidate of a batch
+     */
+    private Worker[] workers = new Worker[0];
+    /**
+     * Total number of candidates measured and time spent selecting
+     */
+    private long candidates, elapsedNanos;
+
+    /**
+     * Constructs a selector.
+     *
+     * @param pool          The pool measuring the candidates.
+     * @param algorithm     The algorithm used to carve the mazes.
+     * @param minDifficulty Lowest accepted difficulty (see {@link MazeMetrics#getDifficulty()}).
+     * @param maxDifficulty Highest accepted difficulty.
+     * @param budgetNanos   Time after which no new batch of candidates is started.
+     */
+    public MazeSelector(ForkJoinPool pool, MazeGenerator.Algorithm algorithm,
+                        double minDifficulty, double maxDifficulty, long budgetNanos) {
+        if (minDifficulty > maxDifficulty) {
+            throw new IllegalArgumentException("Invalid difficulty band: " + minDifficulty + "-" + maxDifficulty);
+        }
+        this.pool = pool;
+        this.algorithm = algorithm;
+        this.minDifficulty = minDifficulty;
+        this.maxDifficulty = maxDifficulty;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * @return The algorithm used to carve the mazes.
+     */
+    public MazeGenerator.Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Carves into the grid the first candidate maze inside the difficulty band.
+     * The grid is expected to have every wall in place, and ends up with the seed
+     * of the chosen maze, so it can be carved again from that seed alone.
+     *
+     * @param grid  The grid to carve.
+     * @param start The index of the player's start cell.
+     * @param goal  The index of the exit cell.
+     * @param seeds Source of the candidate seeds.
+     * @return True if the maze is inside the band, false if the budget ran out first.
+     */
+    public synchronized boolean select(MazeGrid grid, final int start, final int goal, SplittableRandom seeds) {
+        final int cols = grid.getCols(), rows = grid.getRows();
+        int batch = Math.max(1, pool.getParallelism());
+        if (workers.length != batch) {
+            workers = new Worker[batch];
+            for (int i = 0; i < batch; i++)
+                workers[i] = new Worker();
+        }
+        List<Future<Double>> pending = new ArrayList<>(batch);
+        long[] batchSeeds = new long[batch];
+
+        long begin = System.nanoTime();
+        long bestSeed = 0;
+        double bestDistance = Double.MAX_VALUE;
+        while (true) {
+            long batchStart = System.nanoTime();
+            pending.clear();
+            for (int i = 0; i < batch; i++) {
+                final long seed = seeds.nextLong();
+                final Worker worker = workers[i];
+                batchSeeds[i] = seed;
+                pending.add(pool.submit(new Callable<Double>() {
+                    @Override
+                    public Double call() {
+                        return worker.measure(cols, rows, seed, start, goal);
+                    }
+                }));
+            }
+
+            /**
+             * Keep the first candidate in seed order, so the result does not
+             * depend on which thread finished first; every candidate is waited
+             * for, as its scratch state is used again by the next batch
+             */
+            for (int i = 0; i < batch; i++) {
+                double distance = distance(Uninterruptibles.get(pending.get(i), "Maze selection failed"));
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestSeed = batchSeeds[i];
+                }
+            }
+
+            long now = System.nanoTime();
+            candidates += batch;
+            if (bestDistance == 0 || now - begin + (now - batchStart) > budgetNanos)
+                break;
+        }
+        elapsedNanos += System.nanoTime() - begin;
+
+        workers[0].generator.generate(grid, new SplittableRandom(bestSeed));
+        grid.setSeed(bestSeed);
+        return bestDistance == 0;
+    }
+
+    /**
+     * Returns how far a difficulty lies outside the band.
+     *
+     * @param difficulty The difficulty of a candidate.
+     * @return 0 inside the band, otherwise the distance to the nearest bound.
+     */
+    private double distance(double difficulty) {
+        if (difficulty < minDifficulty)
+            return minDifficulty - difficulty;
+        if (difficulty > maxDifficulty)
+            return difficulty - maxDifficulty;
+        return 0;
+    }
+
+    /**
+     * @return The number of candidates measured per second so far.
+     */
+    public synchronized double getThroughput() {
+        if (elapsedNanos == 0)
+            return 0;
+        return candidates * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * @return The number of candidates measured so far.
+     */
+    public synchronized long getCandidates() {
+        return candidates;
+    }
+
+    /**
+     * Scratch state of one candidate of a batch, used by one task at a time.
+     */
+    private class Worker {
+        /**
+         * Generator carving the candidates
+         */
+        final MazeGenerator generator = algorithm.create();
+        /**
+         * Analyzer measuring the candidates
+         */
+        final MazeMetrics metrics = new MazeMetrics();
+        /**
+         * Grid reused for candidates of the same size
+         */
+        MazeGrid grid;
+
+        /**
+         * Carves and measures one candidate.
+         *
+         * @return The difficulty of the candidate.
+         */
+        double measure(int cols, int rows, long seed, int start, int goal) {
+            if (grid == null || grid.getCols() != cols || grid.getRows() != rows)
+                grid = new MazeGrid(cols, rows);
+            else
+                grid.reset();
+            generator.generate(grid, new SplittableRandom(seed));
+            metrics.analyze(grid, start, goal);
+            return metrics.getDifficulty();
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.Callable; // Task that returns a result
+import java.util.concurrent.ExecutorService; // Runs tasks on a worker thread
+import java.util.concurrent.Executors; // Factory for executor services
+import java.util.concurrent.Future; // Result of a background task
+import java.util.concurrent.FutureTask; // Result of a task run on the calling thread
+import java.util.concurrent.RejectedExecutionException; // Thrown when the worker has been stopped
+import java.util.concurrent.ThreadFactory; // Creates the worker thread
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeSupply double-buffers maze generation. While one grid is being played, the next
+ * one is carved on a background worker thread, along with its MazeTree, so switching
+ * levels only swaps grids and trees instead of generating on the UI thread.
+ *
+ * Every maze is derived from a 64-bit seed, and generated mazes are kept in a MazeCache
+ * so that loading a seed again (retry, replay, daily challenge) copies the cached grid.
+ *
+ * With a MazeSelector set, upcoming mazes are picked inside its difficulty band
+ * instead of being the first maze carved.
+ */
+
+public class MazeSupply {
+
+    /**
+     * Default number of cells kept in the maze cache (about a megabyte)
+     */
+    public static final int DEFAULT_CACHE_CELLS = 1 << 20;
+    /**
+     * Message of the exception thrown when carving a maze failed
+     */
+    private static final String GENERATION_FAILED = "Maze generation failed";
+
+    /**
+     * Number of columns and rows of the supplied grids
+     */
+    private final int cols, rows;
+    /**
+     * Source of the seeds of upcoming mazes
+     */
+    private final SplittableRandom seeds;
+    /**
+     * Recently generated mazes
+     */
+    private final MazeCache cache;
+    /**
+     * Generator used for the next maze to be carved
+     */
+    private volatile MazeGenerator generator;
+    /**
+     * Picks upcoming mazes by difficulty, or null to take the first maze carved
+     */
+    private MazeSelector selector;
+    /**
+     * Indexes of the start and exit cells the difficulty is measured between
+     */
+    private int start, goal;
+    /**
+     * Single background thread carving the mazes
+     */
+    private final ExecutorService worker;
+    /**
+     * The maze being carved in the background
+     */
+    private Future<MazeGrid> pending;
+    /**
+     * Tree of the maze being carved, built by the worker
+     */
+    private MazeTree pendingTree = new MazeTree();
+
+    /**
+     * Constructs a supply and starts carving the first maze in the background.
+     *
+     * @param cols      Number of columns.
+     * @param rows      Number of rows.
+     * @param generator The maze generator to use.
+     * @param seed      The seed the sequence of maze seeds is derived from.
+     */
+    public MazeSupply(int cols, int rows, MazeGenerator generator, long seed) {
+        this(cols, rows, generator, seed, new MazeCache(DEFAULT_CACHE_CELLS));
+    }
+
+    /**
+     * Constructs a supply sharing the given cache.
+     *
+     * @param cols      Number of columns.
+     * @param rows      Number of rows.
+     * @param generator The maze generator to use.
+     * @param seed      The seed the sequence of maze seeds is derived from.
+     * @param cache     The cache of generated mazes.
+     */
+    public MazeSupply(int cols, int rows, MazeGenerator generator, long seed, MazeCache cache) {
+        this.cols = cols;
+        this.rows = rows;
+        this.generator = generator;
+        this.seeds = new SplittableRandom(seed);
+        this.cache = cache;
+        this.worker = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, "MazeSupply");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        });
+        pending = schedule(new MazeGrid(cols, rows), seeds.nextLong(), false, pendingTree);
+    }
+
+    /**
+     * Sets the generator used for mazes carved from now on. A maze already being
+     * carved in the background keeps the previous generator.
+     *
+     * @param generator The maze generator to use.
+     */
+    public void setGenerator(MazeGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Sets the selector picking upcoming mazes by difficulty. The generator should
+     * be of the selector's algorithm, so that selected mazes replay from their seed.
+     * The maze already being carved in the background is not affected.
+     *
+     * @param selector The selector to use, or null to take the first maze carved.
+     * @param start    The index of the player's start cell.
+     * @param goal     The index of the exit cell.
+     */
+    public synchronized void setSelector(MazeSelector selector, int start, int goal) {
+        this.selector = selector;
+        this.start = start;
+        this.goal = goal;
+    }
+
+    /**
+     * Hands back the grid that has been played and returns the next maze. The returned
+     * grid is normally ready already; the finished one is recycled to carve the maze after.
+     *
+     * @param finished The grid that is no longer used, or null on the first call.
+     *                 Grids of another size are not recycled.
+     * @return A freshly carved grid.
+     */
+    public MazeGrid swap(MazeGrid finished) {
+        return swap(finished, null);
+    }
+
+    /**
+     * Hands back the grid that has been played and returns the next maze, along with
+     * its tree built in the background.
+     *
+     * @param finished The grid that is no longer used, or null on the first call.
+     * @param tree     Receives the tree of the returned maze (its previous contents are
+     *                 recycled), or null.
+     * @return A freshly carved grid.
+     */
+    public synchronized MazeGrid swap(MazeGrid finished, MazeTree tree) {
+        MazeGrid next = Uninterruptibles.get(pending, GENERATION_FAILED);
+        if (tree != null)
+            tree.swap(pendingTree);
+        MazeGrid spare = fits(finished) && finished != next ? finished : new MazeGrid(cols, rows);
+        pending = schedule(spare, seeds.nextLong(), selector != null, pendingTree);
+        return next;
+    }
+
+    /**
+     * Returns the maze for a given seed, copied from the cache when it has been
+     * generated before. The maze pre-generated in the background is kept for later.
+     *
+     * @param seed     The seed of the maze.
+     * @param finished The grid that is no longer used, or null.
+     * @return The grid of the requested maze.
+     */
+    public MazeGrid load(long seed, MazeGrid finished) {
+        return load(seed, finished, null);
+    }
+
+    /**
+     * Returns the maze for a given seed along with its tree.
+     *
+     * @param seed     The seed of the maze.
+     * @param finished The grid that is no longer used, or null.
+     * @param tree     Receives the tree of the returned maze, or null.
+     * @return The grid of the requested maze.
+     */
+    public synchronized MazeGrid load(long seed, MazeGrid finished, MazeTree tree) {
+        MazeGrid grid = fits(finished) ? finished : new MazeGrid(cols, rows);
+        if (cache.copyTo(seed, generator, grid)) {
+            if (tree != null)
+                tree.build(grid);
+            return grid;
+        }
+        return Uninterruptibles.get(schedule(grid, seed, false, tree), GENERATION_FAILED);
+    }
+
+    /**
+     * Checks whether a handed back grid can be recycled for this supply.
+     *
+     * @param grid The grid, or null.
+     * @return True if the grid has the size of the supplied mazes.
+     */
+    private boolean fits(MazeGrid grid) {
+        return grid != null && grid.getCols() == cols && grid.getRows() == rows;
+    }
+
+    /**
+     * @return The cache of generated mazes.
+     */
+    public MazeCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Stops the background worker, waiting for the maze it is carving so the
+     * generator can safely be used elsewhere. Later swaps carve on the calling thread.
+     */
+    public synchronized void close() {
+        worker.shutdown();
+        Uninterruptibles.awaitTermination(worker);
+    }
+
+    /**
+     * @return True once {@link #close()} stopped the background worker.
+     */
+    public boolean isClosed() {
+        return worker.isShutdown();
+    }
+
+    /**
+     * Starts carving a maze into the given grid, on the worker when it is running.
+     *
+     * @param grid   The grid to carve.
+     * @param seed   The seed of the maze, or of the candidates when selecting.
+     * @param select True to pick the maze with the selector.
+     * @param tree   Receives the tree of the maze, or null.
+     * @return The pending result.
+     */
+    private Future<MazeGrid> schedule(final MazeGrid grid, final long seed, boolean select, final MazeTree tree) {
+        final MazeGenerator algorithm = generator;
+        final MazeSelector picker = select ? selector : null;
+        final int from = start, to = goal;
+        Callable<MazeGrid> task = new Callable<MazeGrid>() {
+            @Override
+            public MazeGrid call() {
+                if (picker != null) {
+                    grid.reset();
+                    picker.select(grid, from, to, new SplittableRandom(seed));
+                    cache.put(algorithm, grid);
+                }
+                else if (!cache.copyTo(seed, algorithm, grid)) {
+                    grid.reset();
+                    algorithm.generate(grid, new SplittableRandom(seed));
+                    grid.setSeed(seed);
+                    cache.put(algorithm, grid);
+                }
+                if (tree != null)
+                    tree.build(grid);
+                return grid;
+            }
+        };
+        if (!worker.isShutdown()) {
+            try {
+                return worker.submit(task);
+            } catch (RejectedExecutionException e) {
+                // closed in the meantime, carve below
+            }
+        }
+
+        /**
+         * The generator is not thread-safe: let the worker finish before carving here
+         */
+        Uninterruptibles.awaitTermination(worker);
+        FutureTask<MazeGrid> now = new FutureTask<>(task);
+        now.run();
+        return now;
+    }
+}
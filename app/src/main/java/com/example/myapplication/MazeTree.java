@@ -0,0 +1,243 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeTree answers shortest-path queries on a perfect maze without searching. A perfect
+ * maze is a spanning tree of the grid, so the path between two cells is unique and
+ * runs through their lowest common ancestor. The tree is rooted at the first cell and
+ * split into heavy paths (heavy-light decomposition), which answers "distance from A
+ * to B" and "next cell from A toward B" in O(log n) with seven int arrays of O(n).
+ *
+ * Building takes one linear pass over the maze and is done once per maze. Mazes with
+ * loops or unreachable cells are rejected, and callers fall back to a DistanceField.
+ */
+
+public class MazeTree {
+
+    /**
+     * Parent of every cell (-1 for the root) and its depth below the root
+     */
+    private int[] parent = new int[0], depth = new int[0];
+    /**
+     * Child with the largest subtree of every cell, or -1 for leaves
+     */
+    private int[] heavy = new int[0];
+    /**
+     * Top cell of the heavy path of every cell
+     */
+    private int[] head = new int[0];
+    /**
+     * Position of every cell in an order where each heavy path is contiguous, and its inverse
+     */
+    private int[] pos = new int[0], order = new int[0];
+    /**
+     * Subtree sizes while building, then the stack of heavy paths to lay out
+     */
+    private int[] scratch = new int[0];
+    /**
+     * True if the arrays describe the last maze given to build
+     */
+    private boolean built;
+
+    /**
+     * Builds the tree of a maze.
+     *
+     * @param grid The maze.
+     * @return True if the maze is perfect and can be queried, false otherwise.
+     */
+    public boolean build(MazeGrid grid) {
+        int size = grid.size();
+        if (parent.length < size) {
+            parent = new int[size];
+            depth = new int[size];
+            heavy = new int[size];
+            head = new int[size];
+            pos = new int[size];
+            order = new int[size];
+            scratch = new int[size];
+        }
+
+        /**
+         * Breadth-first walk from the root, queueing the cells in the order array
+         */
+        int cols = grid.getCols();
+        int tail = 0, passages = 0;
+        order[tail++] = 0;
+        parent[0] = -1;
+        depth[0] = 0;
+        for (int i = 0; i < tail; i++) {
+            int cell = order[i];
+            int walls = grid.getWalls(cell);
+            heavy[cell] = -1;
+            scratch[cell] = 1;
+            for (int wall = MazeGrid.TOP; wall <= MazeGrid.RIGHT; wall <<= 1) {
+                if ((walls & wall) != 0)
+                    continue;
+                passages++;
+                int next = step(cell, wall, cols);
+                if (next == parent[cell])
+                    continue;
+                if (tail == size) {
+                    built = false;
+                    return false;
+                }
+                parent[next] = cell;
+                depth[next] = depth[cell] + 1;
+                order[tail++] = next;
+            }
+        }
+
+        /**
+         * A tree reaches every cell with exactly size - 1 passages (each seen twice)
+         */
+        if (tail != size || passages != 2 * (size - 1)) {
+            built = false;
+            return false;
+        }
+
+        /**
+         * Subtree sizes, children before parents, picking the heaviest child
+         */
+        for (int i = size - 1; i > 0; i--) {
+            int cell = order[i];
+            int up = parent[cell];
+            scratch[up] += scratch[cell];
+            if (heavy[up] == -1 || scratch[cell] > scratch[heavy[up]])
+                heavy[up] = cell;
+        }
+
+        /**
+         * Lay out each heavy path contiguously, stacking the light children
+         */
+        int next = 0, top = 0;
+        scratch[top++] = 0;
+        while (top > 0) {
+            int start = scratch[--top];
+            for (int cell = start; cell != -1; cell = heavy[cell]) {
+                head[cell] = start;
+                pos[cell] = next;
+                order[next++] = cell;
+                int walls = grid.getWalls(cell);
+                for (int wall = MazeGrid.TOP; wall <= MazeGrid.RIGHT; wall <<= 1) {
+                    if ((walls & wall) != 0)
+                        continue;
+                    int child = step(cell, wall, cols);
+                    if (child != parent[cell] && child != heavy[cell])
+                        scratch[top++] = child;
+                }
+            }
+        }
+        built = true;
+        return true;
+    }
+
+    /**
+     * Forgets the last maze, so that {@link #isBuilt()} is false until the next build.
+     */
+    public void clear() {
+        built = false;
+    }
+
+    /**
+     * Exchanges the contents of two trees, so a tree built on another thread can be
+     * handed over without copying its arrays.
+     *
+     * @param other The other tree.
+     */
+    public void swap(MazeTree other) {
+        int[][] mine = {parent, depth, heavy, head, pos, order, scratch};
+        parent = other.parent;
+        depth = other.depth;
+        heavy = other.heavy;
+        head = other.head;
+        pos = other.pos;
+        order = other.order;
+        scratch = other.scratch;
+        other.parent = mine[0];
+        other.depth = mine[1];
+        other.heavy = mine[2];
+        other.head = mine[3];
+        other.pos = mine[4];
+        other.order = mine[5];
+        other.scratch = mine[6];
+
+        boolean wasBuilt = built;
+        built = other.built;
+        other.built = wasBuilt;
+    }
+
+    /**
+     * @return True if the tree can be queried.
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Returns the lowest common ancestor of two cells.
+     *
+     * @param a The index of the first cell.
+     * @param b The index of the second cell.
+     * @return The index of the deepest cell above both.
+     */
+    public int lca(int a, int b) {
+        while (head[a] != head[b]) {
+            if (depth[head[a]] > depth[head[b]])
+                a = parent[head[a]];
+            else
+                b = parent[head[b]];
+        }
+        return depth[a] < depth[b] ? a : b;
+    }
+
+    /**
+     * @param a The index of the first cell.
+     * @param b The index of the second cell.
+     * @return The number of steps between the cells.
+     */
+    public int distance(int a, int b) {
+        return depth[a] + depth[b] - 2 * depth[lca(a, b)];
+    }
+
+    /**
+     * Returns the next cell on the path from one cell toward another.
+     *
+     * @param from The index of the current cell.
+     * @param to   The index of the destination.
+     * @return The index of the next cell, or from itself if both are the same.
+     */
+    public int nextStep(int from, int to) {
+        if (from == to)
+            return from;
+        /**
+         * Going up unless the destination lies in the subtree of the current cell
+         */
+        if (lca(from, to) != from)
+            return parent[from];
+
+        /**
+         * Otherwise the next cell is the ancestor of the destination one level below
+         */
+        int level = depth[from] + 1;
+        while (depth[head[to]] > level)
+            to = parent[head[to]];
+        return order[pos[to] - (depth[to] - level)];
+    }
+
+    /**
+     * Returns the cell on the other side of an open wall.
+     */
+    private static int step(int cell, int wall, int cols) {
+        switch (wall) {
+            case MazeGrid.TOP:
+                return cell - cols;
+            case MazeGrid.BOTTOM:
+                return cell + cols;
+            case MazeGrid.LEFT:
+                return cell - 1;
+            default:
+                return cell + 1;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.myapplication;
+
+import java.util.Arrays; // Grows the heap arrays
+
+/**
+ * @author Vanessa and Noor
+ *
+ * NodeHeap is the open list of the A* searches: a binary min-heap of cell indexes
+ * ordered by long keys, stored in two primitive arrays that grow as needed and are
+ * kept between searches. Decreasing a key is done by pushing the cell again; the
+ * searches skip stale entries when they are popped.
+ */
+
+class NodeHeap {
+
+    /**
+     * Cell index and key of every entry, in heap order
+     */
+    private int[] nodes = new int[16];
+    private long[] keys = new long[16];
+    /**
+     * Number of entries
+     */
+    private int size;
+
+    /**
+     * Removes every entry.
+     */
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * @return True if the heap has no entries.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Adds an entry.
+     *
+     * @param node The cell index.
+     * @param key  The key; smaller keys are popped first.
+     */
+    void push(int node, long key) {
+        if (size == nodes.length) {
+            nodes = Arrays.copyOf(nodes, size * 2);
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+
+        /**
+         * Sift the hole up from the end
+         */
+        int i = size++;
+        while (i > 0) {
+            int up = (i - 1) >> 1;
+            if (keys[up] <= key)
+                break;
+            nodes[i] = nodes[up];
+            keys[i] = keys[up];
+            i = up;
+        }
+        nodes[i] = node;
+        keys[i] = key;
+    }
+
+    /**
+     * Removes the entry with the smallest key.
+     *
+     * @return Its cell index.
+     */
+    int pop() {
+        int top = nodes[0];
+        int node = nodes[--size];
+        long key = keys[size];
+
+        /**
+         * Sift the last entry down from the root
+         */
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size)
+                break;
+            if (child + 1 < size && keys[child + 1] < keys[child])
+                child++;
+            if (key <= keys[child])
+                break;
+            nodes[i] = nodes[child];
+            keys[i] = keys[child];
+            i = child;
+        }
+        nodes[i] = node;
+        keys[i] = key;
+        return top;
+    }
+}
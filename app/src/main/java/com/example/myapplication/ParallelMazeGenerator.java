@@ -0,0 +1,241 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.ForkJoinPool; // Work-stealing thread pool
+import java.util.concurrent.RecursiveAction; // Fork/join task without a result
+
+/**
+ * @author Vanessa and Noor
+ *
+ * ParallelMazeGenerator carves very large mazes on several cores. The grid is split
+ * into square tiles and every tile is carved as its own perfect maze with a depth-first
+ * search, in parallel on a ForkJoinPool. The tiles are then joined along a random
+ * spanning tree of the tile grid, opening exactly one wall on each tree edge, so the
+ * whole grid is still a perfect maze.
+ *
+ * Each tile gets its own random generator split from the one passed in, in tile order,
+ * so a seed always produces the same maze whatever the number of threads.
+ */
+
+public class ParallelMazeGenerator implements MazeGenerator {
+
+    /**
+     * Default side length of a tile, in cells
+     */
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    /**
+     * Pool running the tile tasks
+     */
+    private final ForkJoinPool pool;
+    /**
+     * Side length of a tile, in cells
+     */
+    private final int tileSize;
+
+    /**
+     * Constructs a generator using the common pool and the default tile size.
+     */
+    public ParallelMazeGenerator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * Constructs a generator.
+     *
+     * @param pool     The pool running the tile tasks.
+     * @param tileSize The side length of a tile, in cells.
+     */
+    public ParallelMazeGenerator(ForkJoinPool pool, int tileSize) {
+        if (tileSize <= 0) {
+            throw new IllegalArgumentException("Invalid tile size: " + tileSize);
+        }
+        this.pool = pool;
+        this.tileSize = tileSize;
+    }
+
+    /**
+     * Carves a maze into the grid.
+     *
+     * @param grid   The grid to carve.
+     * @param random The random number generator.
+     */
+    @Override
+    public void generate(MazeGrid grid, SplittableRandom random) {
+        int tileCols = (grid.getCols() + tileSize - 1) / tileSize;
+        int tileRows = (grid.getRows() + tileSize - 1) / tileSize;
+        int tiles = tileCols * tileRows;
+
+        /**
+         * Split the random generators in tile order so the result does not depend on scheduling
+         */
+        SplittableRandom[] randoms = new SplittableRandom[tiles];
+        for (int t = 0; t < tiles; t++) {
+            randoms[t] = random.split();
+        }
+
+        pool.invoke(new CarveTiles(grid, tileCols, randoms, 0, tiles));
+        stitch(grid, tileCols, tileRows, random);
+    }
+
+    /**
+     * Identifies the generator along with its tile size, which changes the mazes carved.
+     *
+     * @return The algorithm name and tile size.
+     */
+    @Override
+    public String id() {
+        return Algorithm.PARALLEL.name() + "/" + tileSize;
+    }
+
+    /**
+     * Joins the carved tiles along a random spanning tree of the tile grid, built with a
+     * depth-first search over the tiles. One random wall is opened on each tree edge.
+     *
+     * @param grid     The grid being carved.
+     * @param tileCols Number of tile columns.
+     * @param tileRows Number of tile rows.
+     * @param random   The random number generator.
+     */
+    private void stitch(MazeGrid grid, int tileCols, int tileRows, SplittableRandom random) {
+        int tiles = tileCols * tileRows;
+        boolean[] joined = new boolean[tiles];
+        int[] stack = new int[tiles];
+        int[] neighbors = new int[4];
+        int top = 0;
+        stack[top++] = 0;
+        joined[0] = true;
+
+        while (top > 0) {
+            int tile = stack[top - 1];
+            int tx = tile % tileCols, ty = tile / tileCols;
+            int count = 0;
+            if (tx > 0 && !joined[tile - 1])
+                neighbors[count++] = tile - 1;
+            if (tx < tileCols - 1 && !joined[tile + 1])
+                neighbors[count++] = tile + 1;
+            if (ty > 0 && !joined[tile - tileCols])
+                neighbors[count++] = tile - tileCols;
+            if (ty < tileRows - 1 && !joined[tile + tileCols])
+                neighbors[count++] = tile + tileCols;
+            if (count == 0) {
+                top--;
+                continue;
+            }
+
+            int next = neighbors[random.nextInt(count)];
+            boolean vertical = next == tile - 1 && tx > 0 || next == tile + 1 && tx < tileCols - 1;
+            openBorder(grid, Math.min(tile, next), vertical, tileCols, random);
+            joined[next] = true;
+            stack[top++] = next;
+        }
+    }
+
+    /**
+     * Opens one random wall on the border between two adjacent tiles.
+     *
+     * @param grid     The grid being carved.
+     * @param first    The tile to the left of or above the other one.
+     * @param vertical True if the other tile is to the right of the first one, false
+     *                 if it is below. Tile indices alone cannot tell when there is a
+     *                 single tile column.
+     * @param tileCols Number of tile columns.
+     * @param random   The random number generator.
+     */
+    private void openBorder(MazeGrid grid, int first, boolean vertical, int tileCols, SplittableRandom random) {
+        int x0 = (first % tileCols) * tileSize, y0 = (first / tileCols) * tileSize;
+        if (vertical) {
+            /**
+             * Vertical border: pick a row shared by both tiles
+             */
+            int height = Math.min(tileSize, grid.getRows() - y0);
+            int col = x0 + tileSize - 1;
+            int row = y0 + random.nextInt(height);
+            grid.removeWall(grid.index(col, row), grid.index(col + 1, row));
+        } else {
+            /**
+             * Horizontal border: pick a column shared by both tiles
+             */
+            int width = Math.min(tileSize, grid.getCols() - x0);
+            int col = x0 + random.nextInt(width);
+            int row = y0 + tileSize - 1;
+            grid.removeWall(grid.index(col, row), grid.index(col, row + 1));
+        }
+    }
+
+    /**
+     * Fork/join task carving a range of tiles, split in halves until one tile is left.
+     */
+    private final class CarveTiles extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final MazeGrid grid;
+        private final int tileCols;
+        private final SplittableRandom[] randoms;
+        private final int from, to;
+
+        CarveTiles(MazeGrid grid, int tileCols, SplittableRandom[] randoms, int from, int to) {
+            this.grid = grid;
+            this.tileCols = tileCols;
+            this.randoms = randoms;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CarveTiles(grid, tileCols, randoms, from, middle),
+                        new CarveTiles(grid, tileCols, randoms, middle, to));
+                return;
+            }
+            int x0 = (from % tileCols) * tileSize, y0 = (from / tileCols) * tileSize;
+            carveTile(grid, x0, y0, Math.min(x0 + tileSize, grid.getCols()),
+                    Math.min(y0 + tileSize, grid.getRows()), randoms[from]);
+        }
+    }
+
+    /**
+     * Carves a perfect maze inside one tile with an iterative depth-first search
+     * that never leaves the tile.
+     *
+     * @param grid   The grid being carved.
+     * @param x0     First column of the tile.
+     * @param y0     First row of the tile.
+     * @param x1     Column after the last one of the tile.
+     * @param y1     Row after the last one of the tile.
+     * @param random The random number generator of the tile.
+     */
+    private static void carveTile(MazeGrid grid, int x0, int y0, int x1, int y1, SplittableRandom random) {
+        int cols = grid.getCols();
+        int[] stack = new int[(x1 - x0) * (y1 - y0)];
+        int[] neighbors = new int[4];
+        int top = 0;
+        int start = grid.index(x0, y0);
+        stack[top++] = start;
+        grid.markVisited(start);
+
+        while (top > 0) {
+            int cell = stack[top - 1];
+            int col = cell % cols, row = cell / cols;
+            int count = 0;
+            if (col > x0 && !grid.isVisited(cell - 1))
+                neighbors[count++] = cell - 1;
+            if (col < x1 - 1 && !grid.isVisited(cell + 1))
+                neighbors[count++] = cell + 1;
+            if (row > y0 && !grid.isVisited(cell - cols))
+                neighbors[count++] = cell - cols;
+            if (row < y1 - 1 && !grid.isVisited(cell + cols))
+                neighbors[count++] = cell + cols;
+            if (count == 0) {
+                top--;
+                continue;
+            }
+
+            int next = neighbors[random.nextInt(count)];
+            grid.removeWall(cell, next);
+            grid.markVisited(next);
+            stack[top++] = next;
+        }
+    }
+}
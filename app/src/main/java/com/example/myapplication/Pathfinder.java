@@ -0,0 +1,31 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Pathfinder finds a shortest path between two cells of a maze, walking through open
+ * walls. Unlike MazeTree it also works on mazes with loops (braided mazes), and unlike
+ * DistanceField it only searches toward one goal. Implementations keep their scratch
+ * arrays between searches and are not thread-safe.
+ */
+
+public interface Pathfinder {
+
+    /**
+     * Finds a shortest path and writes its cells, from the start to the goal, into
+     * the path array.
+     *
+     * @param grid  The maze to search.
+     * @param start The index of the start cell.
+     * @param goal  The index of the goal cell.
+     * @param path  Receives the cells of the path; must hold at least grid.size() cells.
+     * @return The number of cells written (1 if start and goal are the same),
+     *         or 0 if the goal cannot be reached.
+     */
+    int findPath(MazeGrid grid, int start, int goal, int[] path);
+
+    /**
+     * @return The number of nodes expanded by the last search.
+     */
+    int getExpanded();
+}
@@ -0,0 +1,96 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * PrimMazeGenerator carves a perfect maze with randomized Prim's algorithm.
+ * The maze grows from one cell by repeatedly picking a random frontier cell
+ * and connecting it to a random neighbor that is already part of the maze.
+ */
+
+public class PrimMazeGenerator implements MazeGenerator {
+
+    /**
+     * Cells next to the maze that have not been carved yet
+     */
+    private int[] frontier = new int[0];
+    /**
+     * Marks cells that are currently in the frontier
+     */
+    private boolean[] inFrontier = new boolean[0];
+    /**
+     * Scratch space for the carved neighbors of a frontier cell
+     */
+    private final int[] neighbors = new int[4];
+
+    /**
+     * Carves a maze into the grid.
+     *
+     * @param grid   The grid to carve.
+     * @param random The random number generator used to pick frontier cells.
+     */
+    @Override
+    public void generate(MazeGrid grid, SplittableRandom random) {
+        int size = grid.size();
+        if (frontier.length < size) {
+            frontier = new int[size];
+            inFrontier = new boolean[size];
+        }
+
+        int start = random.nextInt(size);
+        grid.markVisited(start);
+        int count = addFrontier(grid, start, 0);
+
+        while (count > 0) {
+            /**
+             * Take a random frontier cell, swapping the last one into its slot
+             */
+            int slot = random.nextInt(count);
+            int cell = frontier[slot];
+            frontier[slot] = frontier[--count];
+            inFrontier[cell] = false;
+
+            /**
+             * Connect it to a random carved neighbor
+             */
+            int carved = 0;
+            for (int wall = MazeGrid.TOP; wall <= MazeGrid.RIGHT; wall <<= 1) {
+                int next = grid.neighbor(cell, wall);
+                if (next != -1 && grid.isVisited(next))
+                    neighbors[carved++] = next;
+            }
+            grid.removeWall(cell, neighbors[random.nextInt(carved)]);
+            grid.markVisited(cell);
+            count = addFrontier(grid, cell, count);
+        }
+    }
+
+    /**
+     * @return The name of the algorithm.
+     */
+    @Override
+    public String id() {
+        return Algorithm.PRIM.name();
+    }
+
+    /**
+     * Adds the uncarved neighbors of a cell to the frontier.
+     *
+     * @param grid  The grid being carved.
+     * @param cell  The cell that was just carved.
+     * @param count The current size of the frontier.
+     * @return The new size of the frontier.
+     */
+    private int addFrontier(MazeGrid grid, int cell, int count) {
+        for (int wall = MazeGrid.TOP; wall <= MazeGrid.RIGHT; wall <<= 1) {
+            int next = grid.neighbor(cell, wall);
+            if (next != -1 && !grid.isVisited(next) && !inFrontier[next]) {
+                inFrontier[next] = true;
+                frontier[count++] = next;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.myapplication;
+
+import java.util.Arrays; // Grows and sorts the recorded samples
+import java.util.Locale; // Formats the summary independently of the device language
+
+/**
+ * @author Vanessa and Noor
+ *
+ * SimulationReport collects the outcomes of simulated games: how often the player is
+ * caught, how long escaping a maze takes and how the final scores are spread. Every
+ * sample is kept, so any percentile can be read back. A report is filled by one
+ * thread; GameSimulator merges the reports of its threads.
+ */
+
+public class SimulationReport implements GameSimulation.Listener {
+
+    /**
+     * Number of games and of mazes played
+     */
+    private int games, mazes;
+    /**
+     * Number of mazes where the player was caught, and abandoned ones
+     */
+    private int caught, timedOut;
+    /**
+     * Simulated time of every escaped maze (ms), and the number recorded
+     */
+    private long[] completionMillis = new long[16];
+    private int completions;
+    /**
+     * Final score of every game
+     */
+    private int[] scores = new int[16];
+    /**
+     * True once the samples are sorted for percentiles
+     */
+    private boolean sorted = true;
+
+    /**
+     * Records the end of a maze.
+     */
+    @Override
+    public void mazeEnded(boolean caught, boolean escaped, long millis) {
+        mazes++;
+        if (caught)
+            this.caught++;
+        else if (escaped)
+            addCompletion(millis);
+        else
+            timedOut++;
+    }
+
+    /**
+     * Records the end of a game.
+     */
+    @Override
+    public void gameEnded(int score) {
+        if (games == scores.length)
+            scores = Arrays.copyOf(scores, games * 2);
+        scores[games++] = score;
+        sorted = false;
+    }
+
+    /**
+     * Records the time taken to escape a maze.
+     *
+     * @param millis Simulated time (ms).
+     */
+    private void addCompletion(long millis) {
+        if (completions == completionMillis.length)
+            completionMillis = Arrays.copyOf(completionMillis, completions * 2);
+        completionMillis[completions++] = millis;
+        sorted = false;
+    }
+
+    /**
+     * Adds the outcomes recorded by another report.
+     *
+     * @param other The report to add.
+     */
+    public void merge(SimulationReport other) {
+        mazes += other.mazes;
+        caught += other.caught;
+        timedOut += other.timedOut;
+        for (int i = 0; i < other.completions; i++)
+            addCompletion(other.completionMillis[i]);
+        for (int i = 0; i < other.games; i++)
+            gameEnded(other.scores[i]);
+    }
+
+    /**
+     * @return The number of games played.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * @return The number of mazes played.
+     */
+    public int getMazes() {
+        return mazes;
+    }
+
+    /**
+     * @return The fraction of mazes where the player was caught.
+     */
+    public double getCatchRate() {
+        return mazes == 0 ? 0 : (double) caught / mazes;
+    }
+
+    /**
+     * @return The fraction of mazes abandoned before the player escaped or was caught.
+     */
+    public double getTimeoutRate() {
+        return mazes == 0 ? 0 : (double) timedOut / mazes;
+    }
+
+    /**
+     * Returns a percentile of the time taken to escape a maze.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The simulated time (ms), or 0 if no maze was escaped.
+     */
+    public long getCompletionPercentile(double percentile) {
+        sort();
+        return completions == 0 ? 0 : completionMillis[rank(percentile, completions)];
+    }
+
+    /**
+     * Returns a percentile of the final scores.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The score, or 0 if no game was played.
+     */
+    public int getScorePercentile(double percentile) {
+        sort();
+        return games == 0 ? 0 : scores[rank(percentile, games)];
+    }
+
+    /**
+     * @return The average final score.
+     */
+    public double getAverageScore() {
+        long sum = 0;
+        for (int i = 0; i < games; i++)
+            sum += scores[i];
+        return games == 0 ? 0 : (double) sum / games;
+    }
+
+    /**
+     * Counts the games per range of final scores, starting from 0.
+     *
+     * @param step    Width of a bucket of scores.
+     * @param buckets Number of buckets; higher scores fall in the last one.
+     * @return The number of games in every bucket.
+     */
+    public int[] getScoreHistogram(int step, int buckets) {
+        int[] histogram = new int[buckets];
+        for (int i = 0; i < games; i++)
+            histogram[Math.min(buckets - 1, Math.max(0, scores[i] / step))]++;
+        return histogram;
+    }
+
+    /**
+     * Sorts the samples, once after they change.
+     */
+    private void sort() {
+        if (!sorted) {
+            Arrays.sort(completionMillis, 0, completions);
+            Arrays.sort(scores, 0, games);
+            sorted = true;
+        }
+    }
+
+    /**
+     * Returns the nearest-rank index of a percentile.
+     */
+    private static int rank(double percentile, int count) {
+        int rank = (int) Math.ceil(percentile / 100 * count) - 1;
+        return Math.min(count - 1, Math.max(0, rank));
+    }
+
+    /**
+     * @return A one-line summary of the report.
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%d games, %d mazes, caught %.1f%%, timed out %.1f%%, escape p50 %d ms p90 %d ms, "
+                        + "score mean %.0f p10 %d p50 %d p90 %d",
+                games, mazes, getCatchRate() * 100, getTimeoutRate() * 100,
+                getCompletionPercentile(50), getCompletionPercentile(90),
+                getAverageScore(), getScorePercentile(10), getScorePercentile(50), getScorePercentile(90));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * SolverBot is a simulated player that walks the shortest path to the exit, read
+ * from the spanning tree of the maze, but makes a mistake (a move in a random open
+ * direction) with a given probability. A mistake rate of 0 plays perfectly and a
+ * rate of 1 wanders at random, which brackets real players.
+ */
+
+public class SolverBot implements GameSimulation.Bot {
+
+    /**
+     * Probability of a random move instead of the best one
+     */
+    private final double mistakeRate;
+
+    /**
+     * Constructs a bot.
+     *
+     * @param mistakeRate Probability of a random move, from 0 to 1.
+     */
+    public SolverBot(double mistakeRate) {
+        if (!(mistakeRate >= 0 && mistakeRate <= 1)) {
+            throw new IllegalArgumentException("Invalid mistake rate: " + mistakeRate);
+        }
+        this.mistakeRate = mistakeRate;
+    }
+
+    /**
+     * Chooses the next cell on the shortest path, or a random open neighbor.
+     *
+     * @param game   The game being played.
+     * @param random Source of the mistakes.
+     * @return The index of the next cell.
+     */
+    @Override
+    public int nextCell(GameSimulation game, SplittableRandom random) {
+        MazeGrid grid = game.getGrid();
+        int player = game.getPlayer();
+        if (mistakeRate > 0 && random.nextDouble() < mistakeRate) {
+            int walls = grid.getWalls(player);
+            int open = 4 - Integer.bitCount(walls & 0xF);
+            if (open > 0) {
+                int pick = random.nextInt(open);
+                for (int wall = MazeGrid.TOP; wall <= MazeGrid.RIGHT; wall <<= 1) {
+                    if ((walls & wall) == 0 && pick-- == 0)
+                        return grid.neighbor(player, wall);
+                }
+            }
+        }
+        return game.getTree().nextStep(player, game.getExit());
+    }
+
+    /**
+     * @return The probability of a random move.
+     */
+    public double getMistakeRate() {
+        return mistakeRate;
+    }
+}
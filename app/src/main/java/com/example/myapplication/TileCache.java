@@ -0,0 +1,154 @@
+package com.example.myapplication;
+
+import java.util.Iterator; // Walks the cache entries in LRU order
+import java.util.LinkedHashMap; // Hash map that can keep entries in access order
+import java.util.Map; // Represents a collection of key-value pairs
+
+/**
+ * @author Vanessa and Noor
+ *
+ * TileCache keeps the most recently drawn tiles of the maze, keyed by a long packing
+ * their zoom level and position, and evicts the least recently used ones beyond a
+ * fixed number. Evicted tiles are handed to a listener so their bitmaps can be reused
+ * for the next tiles instead of allocated again. Lookups go through a reusable key, so
+ * finding a cached tile allocates nothing while scrolling.
+ *
+ * Not thread-safe: the cache belongs to the render thread.
+ *
+ * @param <T> The type of the tiles.
+ */
+
+public class TileCache<T> {
+
+    /**
+     * Receives the tiles leaving the cache
+     *
+     * @param <T> The type of the tiles.
+     */
+    public interface Evictor<T> {
+        /**
+         * Called when a tile is evicted or the cache is cleared.
+         *
+         * @param tile The tile no longer cached.
+         */
+        void evicted(T tile);
+    }
+
+    /**
+     * Entries in least recently used order
+     */
+    private final LinkedHashMap<Key, T> entries = new LinkedHashMap<>(16, 0.75f, true);
+    /**
+     * Maximum number of tiles kept
+     */
+    private final int maxTiles;
+    /**
+     * Receives evicted tiles, or null
+     */
+    private final Evictor<T> evictor;
+    /**
+     * Key reused for lookups
+     */
+    private final Key probe = new Key();
+
+    /**
+     * Constructs a cache holding at most the given number of tiles.
+     *
+     * @param maxTiles The number of tiles kept.
+     * @param evictor  Receives the evicted tiles, or null.
+     */
+    public TileCache(int maxTiles, Evictor<T> evictor) {
+        if (maxTiles < 1) {
+            throw new IllegalArgumentException("Invalid tile count: " + maxTiles);
+        }
+        this.maxTiles = maxTiles;
+        this.evictor = evictor;
+    }
+
+    /**
+     * Packs a zoom level and tile position into a key.
+     *
+     * @param level The zoom level, from 0 to 255.
+     * @param x     The column of the tile, from -1 to 2^24 - 2.
+     * @param y     The row of the tile, from -1 to 2^24 - 2.
+     * @return The key.
+     */
+    public static long key(int level, int x, int y) {
+        return ((long) level << 48) | ((long) (x + 1) << 24) | (y + 1);
+    }
+
+    /**
+     * Returns a cached tile, marking it as the most recently used.
+     *
+     * @param key The key of the tile.
+     * @return The tile, or null if it is not cached.
+     */
+    public T get(long key) {
+        probe.value = key;
+        return entries.get(probe);
+    }
+
+    /**
+     * Stores a tile, evicting the least recently used ones if needed.
+     *
+     * @param key  The key of the tile.
+     * @param tile The tile.
+     */
+    public void put(long key, T tile) {
+        Key stored = new Key();
+        stored.value = key;
+        T old = entries.put(stored, tile);
+        if (old != null && old != tile && evictor != null)
+            evictor.evicted(old);
+
+        Iterator<Map.Entry<Key, T>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxTiles && eldest.hasNext()) {
+            T evicted = eldest.next().getValue();
+            eldest.remove();
+            if (evictor != null)
+                evictor.evicted(evicted);
+        }
+    }
+
+    /**
+     * Evicts every tile.
+     */
+    public void clear() {
+        if (evictor != null) {
+            for (T tile : entries.values())
+                evictor.evicted(tile);
+        }
+        entries.clear();
+    }
+
+    /**
+     * @return The number of cached tiles.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return The maximum number of tiles kept.
+     */
+    public int getMaxTiles() {
+        return maxTiles;
+    }
+
+    /**
+     * Key of a tile, mutable so lookups can reuse one
+     */
+    private static final class Key {
+        long value;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && ((Key) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (value ^ (value >>> 32));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.myapplication;
+
+import java.util.concurrent.CountDownLatch; // Signal waited for by the render thread's callers
+import java.util.concurrent.ExecutionException; // Thrown when a background task fails
+import java.util.concurrent.ExecutorService; // Worker waited for until it stops
+import java.util.concurrent.Future; // Result of a background task
+import java.util.concurrent.TimeUnit; // Time unit for waiting on a worker
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Uninterruptibles waits for work done on other threads even when the waiting thread
+ * is interrupted, for the callers that cannot give up: the other thread is still using
+ * shared state (a generator, a surface) until it is done. The interrupt is remembered
+ * and set again on the thread once the wait is over.
+ */
+
+class Uninterruptibles {
+
+    /**
+     * Not instantiated.
+     */
+    private Uninterruptibles() {
+    }
+
+    /**
+     * Waits for the result of a task.
+     *
+     * @param result  The pending result.
+     * @param failure Message of the exception thrown if the task failed.
+     * @param <T>     The type of the result.
+     * @return The result.
+     * @throws IllegalStateException If the task threw, with its exception as the cause.
+     */
+    static <T> T get(Future<T> result, String failure) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return result.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(failure, e.getCause());
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for a latch to count down to zero.
+     *
+     * @param latch The latch.
+     */
+    static void await(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Waits for a shut down executor to finish its last tasks.
+     *
+     * @param executor The executor, already shut down.
+     */
+    static void awaitTermination(ExecutorService executor) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (executor.awaitTermination(1, TimeUnit.SECONDS))
+                    break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+}
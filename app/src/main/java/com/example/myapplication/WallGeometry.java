@@ -0,0 +1,134 @@
+package com.example.myapplication;
+
+/**
+ * @author Vanessa and Noor
+ *
+ * WallGeometry flattens the walls of a maze into one array of line end points, in
+ * the layout Canvas.drawLines expects (x0, y0, x1, y1 per line), so all the walls are
+ * drawn with a single call. Every wall is shared by two cells (the top wall of a cell
+ * is the bottom wall of the one above), so only top and left walls are read, plus the
+ * bottom and right edges of the maze; consecutive walls on the same grid line are
+ * merged into one long line. The array is reused when the geometry is built again.
+ *
+ * A rectangle of the maze can be built alone, for the tiles the renderer draws a
+ * large maze with.
+ */
+
+public class WallGeometry {
+
+    /**
+     * End points of the lines, and the number of values used
+     */
+    private float[] lines = new float[0];
+    private int length;
+
+    /**
+     * Builds the lines of every wall of a maze.
+     *
+     * @param grid     The maze.
+     * @param cellSize Size of a cell in pixels.
+     */
+    public void build(MazeGrid grid, float cellSize) {
+        build(grid, 0, 0, grid.getCols(), grid.getRows(), cellSize);
+    }
+
+    /**
+     * Builds the lines of the walls around the cells of a rectangle of the maze, with
+     * coordinates relative to its top left corner. The rectangle is clipped to the maze.
+     *
+     * @param grid     The maze.
+     * @param left     First column.
+     * @param top      First row.
+     * @param cols     Number of columns.
+     * @param rows     Number of rows.
+     * @param cellSize Size of a cell in pixels.
+     */
+    public void build(MazeGrid grid, int left, int top, int cols, int rows, float cellSize) {
+        int x0 = Math.max(0, left), y0 = Math.max(0, top);
+        int x1 = Math.min(grid.getCols(), left + cols), y1 = Math.min(grid.getRows(), top + rows);
+        length = 0;
+        if (x0 >= x1 || y0 >= y1)
+            return;
+        int w = x1 - x0, h = y1 - y0;
+
+        /**
+         * At most every other grid segment starts a line
+         */
+        int capacity = 4 * ((h + 1) * ((w + 1) / 2) + (w + 1) * ((h + 1) / 2));
+        if (lines.length < capacity)
+            lines = new float[capacity];
+
+        /**
+         * Offsets moving the rectangle's corner to the origin
+         */
+        float dx = (x0 - left) * cellSize, dy = (y0 - top) * cellSize;
+
+        /**
+         * Horizontal grid lines, the last one below the bottom row
+         */
+        for (int y = 0; y <= h; y++) {
+            int row = y0 + y;
+            int start = -1;
+            for (int x = 0; x < w; x++) {
+                boolean wall = row < grid.getRows()
+                        ? grid.hasWall(grid.index(x0 + x, row), MazeGrid.TOP)
+                        : grid.hasWall(grid.index(x0 + x, row - 1), MazeGrid.BOTTOM);
+                if (wall && start < 0) {
+                    start = x;
+                }
+                else if (!wall && start >= 0) {
+                    add(dx + start * cellSize, dy + y * cellSize, dx + x * cellSize, dy + y * cellSize);
+                    start = -1;
+                }
+            }
+            if (start >= 0)
+                add(dx + start * cellSize, dy + y * cellSize, dx + w * cellSize, dy + y * cellSize);
+        }
+
+        /**
+         * Vertical grid lines, the last one right of the last column
+         */
+        for (int x = 0; x <= w; x++) {
+            int col = x0 + x;
+            int start = -1;
+            for (int y = 0; y < h; y++) {
+                boolean wall = col < grid.getCols()
+                        ? grid.hasWall(grid.index(col, y0 + y), MazeGrid.LEFT)
+                        : grid.hasWall(grid.index(col - 1, y0 + y), MazeGrid.RIGHT);
+                if (wall && start < 0) {
+                    start = y;
+                }
+                else if (!wall && start >= 0) {
+                    add(dx + x * cellSize, dy + start * cellSize, dx + x * cellSize, dy + y * cellSize);
+                    start = -1;
+                }
+            }
+            if (start >= 0)
+                add(dx + x * cellSize, dy + start * cellSize, dx + x * cellSize, dy + h * cellSize);
+        }
+    }
+
+    /**
+     * Appends one line.
+     */
+    private void add(float x0, float y0, float x1, float y1) {
+        lines[length++] = x0;
+        lines[length++] = y0;
+        lines[length++] = x1;
+        lines[length++] = y1;
+    }
+
+    /**
+     * @return The end points of the lines; only the first {@link #getLength()} values are used.
+     */
+    public float[] getLines() {
+        return lines;
+    }
+
+    /**
+     * @return The number of values used, four per line.
+     */
+    public int getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * WilsonMazeGenerator carves a perfect maze with Wilson's algorithm. Random walks
+ * start from every cell not yet in the maze and run until they hit the maze; the
+ * loop-erased path is then carved. The result is a uniformly random spanning tree,
+ * at the cost of slow early walks while the maze is still small.
+ */
+
+public class WilsonMazeGenerator implements MazeGenerator {
+
+    /**
+     * Wall through which the last random walk left each cell
+     */
+    private byte[] exitWall = new byte[0];
+
+    /**
+     * Carves a maze into the grid.
+     *
+     * @param grid   The grid to carve.
+     * @param random The random number generator driving the walks.
+     */
+    @Override
+    public void generate(MazeGrid grid, SplittableRandom random) {
+        int size = grid.size();
+        if (exitWall.length < size) {
+            exitWall = new byte[size];
+        }
+
+        grid.markVisited(random.nextInt(size));
+
+        for (int start = 0; start < size; start++) {
+            if (grid.isVisited(start))
+                continue;
+
+            /**
+             * Random walk until the maze is reached. Overwriting the exit of a
+             * revisited cell erases the loop that was just walked.
+             */
+            int cell = start;
+            while (!grid.isVisited(cell)) {
+                int wall, next;
+                do {
+                    wall = 1 << random.nextInt(4);
+                    next = grid.neighbor(cell, wall);
+                } while (next == -1);
+                exitWall[cell] = (byte) wall;
+                cell = next;
+            }
+
+            /**
+             * Carve the loop-erased path into the maze
+             */
+            cell = start;
+            while (!grid.isVisited(cell)) {
+                int next = grid.neighbor(cell, exitWall[cell]);
+                grid.removeWall(cell, next);
+                grid.markVisited(cell);
+                cell = next;
+            }
+        }
+    }
+
+    /**
+     * @return The name of the algorithm.
+     */
+    @Override
+    public String id() {
+        return Algorithm.WILSON.name();
+    }
+}
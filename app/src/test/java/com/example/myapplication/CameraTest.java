@@ -0,0 +1,138 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for Camera class.
+ */
+
+public class CameraTest {
+
+    /**
+     * Returns a camera on a 1000x2000 view.
+     */
+    private Camera camera(int cols, int rows) {
+        Camera camera = new Camera();
+        camera.setMaze(cols, rows);
+        camera.setViewport(1000, 2000);
+        return camera;
+    }
+
+    /**
+     * Test that a small maze is shown whole and centered, as laid out before the camera.
+     */
+    @Test
+    public void testSmallMazeFits() {
+        Camera camera = camera(15, 15);
+        float cellSize = 1000f / 16;
+        assertEquals(cellSize, camera.getCellSize(), 1e-4);
+        assertEquals((1000 - 15 * cellSize) / 2, camera.toScreenX(0), 1e-3);
+        assertEquals((2000 - 15 * cellSize) / 2, camera.toScreenY(0), 1e-3);
+
+        /**
+         * Following the player does not move a maze that fits
+         */
+        camera.follow(14, 14);
+        assertEquals((1000 - 15 * cellSize) / 2, camera.toScreenX(0), 1e-3);
+    }
+
+    /**
+     * Test that a large maze is shown at a readable size, and scrolls with the player.
+     */
+    @Test
+    public void testLargeMazeFollowsPlayer() {
+        Camera camera = camera(500, 500);
+        assertEquals(Camera.MIN_READABLE_CELL_SIZE, camera.getCellSize(), 0);
+
+        camera.center(250, 250);
+        assertEquals(500, camera.toScreenX(250.5f), 1e-3);
+        assertEquals(1000, camera.toScreenY(250.5f), 1e-3);
+
+        /**
+         * Inside the middle third nothing moves; beyond it the view scrolls
+         */
+        camera.follow(252, 250);
+        assertEquals(500, camera.toScreenX(250.5f), 1e-3);
+        camera.follow(260, 250);
+        assertEquals(1000 * 2f / 3, camera.toScreenX(260.5f), 1e-3);
+
+        /**
+         * The view stops half a cell past the edges of the maze
+         */
+        camera.center(0, 0);
+        assertEquals(-0.5f, camera.getLeft(), 0);
+        assertEquals(-0.5f, camera.getTop(), 0);
+        camera.center(499, 499);
+        assertEquals(500.5f, camera.toCellX(1000), 1e-3);
+    }
+
+    /**
+     * Test that resizing the view keeps the zoom relative to the maze and the part of
+     * the maze in the middle of the view.
+     */
+    @Test
+    public void testResizeKeepsZoom() {
+        Camera camera = camera(500, 500);
+        camera.center(250, 250);
+        camera.zoom(2, 500, 1000);
+        camera.pan(100, 0);
+        float zoom = camera.getCellSize() / camera.getFitCellSize();
+        float centerX = camera.toCellX(500), centerY = camera.toCellY(1000);
+
+        /**
+         * Rotated to landscape
+         */
+        camera.setViewport(2000, 1000);
+        assertEquals(1000f / 501, camera.getFitCellSize(), 1e-4);
+        assertEquals(zoom, camera.getCellSize() / camera.getFitCellSize(), 1e-4);
+        assertEquals(centerX, camera.toCellX(1000), 1e-3);
+        assertEquals(centerY, camera.toCellY(500), 1e-3);
+        assertFalse(camera.isFollowing());
+    }
+
+    /**
+     * Test that zooming keeps the focus point over the same part of the maze, within
+     * the zoom limits.
+     */
+    @Test
+    public void testZoom() {
+        Camera camera = camera(500, 500);
+        camera.center(250, 250);
+        float col = camera.toCellX(300), row = camera.toCellY(700);
+        camera.zoom(2, 300, 700);
+        assertEquals(2 * Camera.MIN_READABLE_CELL_SIZE, camera.getCellSize(), 1e-3);
+        assertEquals(col, camera.toCellX(300), 1e-3);
+        assertEquals(row, camera.toCellY(700), 1e-3);
+
+        camera.zoom(100, 300, 700);
+        assertEquals(Camera.MAX_CELL_SIZE, camera.getCellSize(), 0);
+        camera.zoom(0.0001f, 300, 700);
+        assertEquals(camera.getFitCellSize(), camera.getCellSize(), 0);
+        assertEquals(1000f / 501, camera.getCellSize(), 1e-4);
+    }
+
+    /**
+     * Test that panning stops the camera from following the player.
+     */
+    @Test
+    public void testPanStopsFollowing() {
+        Camera camera = camera(500, 500);
+        camera.center(250, 250);
+        float left = camera.getLeft();
+        camera.pan(-96, 0);
+        assertEquals(left + 2, camera.getLeft(), 1e-3);
+        assertFalse(camera.isFollowing());
+
+        camera.follow(240, 250);
+        assertEquals(left + 2, camera.getLeft(), 1e-3);
+        camera.setFollowing(true);
+        camera.follow(240, 250);
+        assertTrue(camera.getLeft() < left);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for DepthFirstMazeGenerator class.
+ */
+
+public class DepthFirstMazeGeneratorTest {
+
+    /**
+     * Test that the generator carves a perfect maze.
+     */
+    @Test
+    public void testGeneratesPerfectMaze() {
+        MazeGrid grid = new MazeGrid(15, 15);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(42));
+        MazeTestUtil.assertPerfectMaze(grid);
+    }
+
+    /**
+     * Test that one generator can be reused for grids of different sizes.
+     */
+    @Test
+    public void testReuseAcrossSizes() {
+        DepthFirstMazeGenerator generator = new DepthFirstMazeGenerator();
+        SplittableRandom random = new SplittableRandom(7);
+
+        MazeGrid small = new MazeGrid(3, 5);
+        generator.generate(small, random);
+        MazeTestUtil.assertPerfectMaze(small);
+
+        MazeGrid large = new MazeGrid(120, 80);
+        generator.generate(large, random);
+        MazeTestUtil.assertPerfectMaze(large);
+
+        small.reset();
+        generator.generate(small, random);
+        MazeTestUtil.assertPerfectMaze(small);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for DirtyRegion class.
+ */
+
+public class DirtyRegionTest {
+
+    /**
+     * Walls shared by the frames of one maze
+     */
+    private final MazeGrid walls = new MazeGrid(10, 10);
+    /**
+     * Pyramid of the walls, not built
+     */
+    private final MazePyramid pyramid = new MazePyramid(walls);
+    /**
+     * Camera showing the whole maze
+     */
+    private final Camera camera = new Camera();
+
+    /**
+     * Fits the camera to a view.
+     */
+    public DirtyRegionTest() {
+        camera.setMaze(10, 10);
+        camera.setViewport(1100, 1100);
+    }
+
+    /**
+     * Returns a frame of a 10x10 maze.
+     */
+    private GameFrame frame(int player, int... enemies) {
+        EnemyManager manager = new EnemyManager();
+        for (int enemy : enemies)
+            manager.add(enemy);
+        return new GameFrame(walls, pyramid, camera, player, 99, manager, 0, 3, 0, 400);
+    }
+
+    /**
+     * Test that a player move only dirties its old and new cell.
+     */
+    @Test
+    public void testPlayerMove() {
+        DirtyRegion region = new DirtyRegion();
+        region.addChanges(frame(44, 0), false, frame(45, 0), false);
+        assertFalse(region.isFull());
+        assertEquals(4, region.getLeft());
+        assertEquals(5, region.getRight());
+        assertEquals(4, region.getTop());
+        assertEquals(4, region.getBottom());
+    }
+
+    /**
+     * Test that nothing is dirty when nothing moved.
+     */
+    @Test
+    public void testUnchanged() {
+        DirtyRegion region = new DirtyRegion();
+        region.addChanges(frame(44, 0, 7), false, frame(44, 0, 7), false);
+        assertTrue(region.isEmpty());
+    }
+
+    /**
+     * Test that an enemy sliding between two cells dirties both, while it moves.
+     */
+    @Test
+    public void testMovingEnemy() {
+        MazeGrid grid = new MazeGrid(10, 10);
+        grid.removeWall(0, 10);
+        EnemyManager manager = new EnemyManager();
+        manager.add(0);
+        manager.step(grid, new MazeTree(), 10);
+        GameFrame moved = new GameFrame(walls, pyramid, camera, 44, 99, manager, 0, 3, 0, 400);
+
+        DirtyRegion region = new DirtyRegion();
+        region.addChanges(moved, true, moved, true);
+        assertEquals(0, region.getLeft());
+        assertEquals(0, region.getTop());
+        assertEquals(0, region.getRight());
+        assertEquals(1, region.getBottom());
+
+        region.clear();
+        region.addChanges(moved, false, moved, false);
+        assertTrue(region.isEmpty());
+    }
+
+    /**
+     * Test that new walls or a first frame make everything dirty.
+     */
+    @Test
+    public void testFull() {
+        DirtyRegion region = new DirtyRegion();
+        region.addChanges(null, false, frame(44, 0), false);
+        assertTrue(region.isFull());
+
+        region.clear();
+        EnemyManager manager = new EnemyManager();
+        region.addChanges(frame(44), false, new GameFrame(new MazeGrid(10, 10), pyramid, camera, 44, 99, manager, 0, 3, 0, 400), false);
+        assertTrue(region.isFull());
+        assertFalse(region.isEmpty());
+    }
+
+    /**
+     * Test that a camera move makes everything dirty.
+     */
+    @Test
+    public void testCameraMove() {
+        DirtyRegion region = new DirtyRegion();
+        GameFrame before = frame(44);
+        camera.zoom(2, 550, 550);
+        region.addChanges(before, false, frame(44), false);
+        assertTrue(region.isFull());
+    }
+}
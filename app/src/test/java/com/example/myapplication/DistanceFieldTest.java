@@ -0,0 +1,75 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for DistanceField class.
+ */
+
+public class DistanceFieldTest {
+
+    /**
+     * Test that following the next steps walks the shortest path to the target.
+     */
+    @Test
+    public void testNextStepReachesTarget() {
+        MazeGrid grid = new MazeGrid(20, 15);
+        new WilsonMazeGenerator().generate(grid, new SplittableRandom(9));
+        DistanceField field = new DistanceField();
+        int target = grid.index(1, 14);
+        assertTrue(field.update(grid, target));
+
+        for (int cell = 0; cell < grid.size(); cell++) {
+            int steps = 0;
+            int current = cell;
+            while (current != target) {
+                int next = field.nextStep(current);
+                assertEquals(field.distance(current) - 1, field.distance(next));
+                current = next;
+                steps++;
+            }
+            assertEquals(field.distance(cell), steps);
+        }
+    }
+
+    /**
+     * Test that the field is only recomputed when the target or maze changes.
+     */
+    @Test
+    public void testUpdateOnlyOnChange() {
+        MazeGrid grid = new MazeGrid(5, 5);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(1));
+        DistanceField field = new DistanceField();
+        assertTrue(field.update(grid, 0));
+        assertFalse(field.update(grid, 0));
+        assertTrue(field.update(grid, 1));
+
+        field.invalidate();
+        assertTrue(field.update(grid, 1));
+        assertFalse(field.update(grid, 1));
+    }
+
+    /**
+     * Test that walled-off cells stay where they are.
+     */
+    @Test
+    public void testUnreachable() {
+        MazeGrid grid = new MazeGrid(3, 1);
+        grid.removeWall(0, 1);
+        DistanceField field = new DistanceField();
+        field.update(grid, 0);
+        assertEquals(1, field.distance(1));
+        assertEquals(0, field.nextStep(1));
+        assertEquals(DistanceField.UNREACHABLE, field.distance(2));
+        assertEquals(2, field.nextStep(2));
+        assertEquals(0, field.nextStep(0));
+    }
+}
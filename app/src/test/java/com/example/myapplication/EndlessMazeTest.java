@@ -0,0 +1,139 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for EndlessMaze class.
+ */
+
+public class EndlessMazeTest {
+
+    /**
+     * Test that the streamed rows fit together without loops.
+     */
+    @Test
+    public void testStreamedRowsAreConsistentAndLoopFree() {
+        int cols = 8, rows = 6, total = 300;
+        EndlessMaze maze = new EndlessMaze(cols, rows, 5);
+
+        /**
+         * Record every row as it leaves the top of the window
+         */
+        int[] walls = new int[cols * total];
+        for (int r = 0; r < total; r++) {
+            assertEquals(r, maze.getFirstRow());
+            for (int c = 0; c < cols; c++) {
+                walls[r * cols + c] = maze.getWalls(c, 0);
+            }
+            maze.advance();
+        }
+
+        /**
+         * Shared walls agree on both sides, and no passage closes a loop
+         */
+        int[] parent = new int[walls.length];
+        for (int i = 0; i < parent.length; i++)
+            parent[i] = i;
+        for (int r = 0; r < total; r++) {
+            for (int c = 0; c < cols; c++) {
+                int cell = r * cols + c;
+                if (c < cols - 1) {
+                    boolean right = (walls[cell] & MazeGrid.RIGHT) != 0;
+                    assertEquals(right, (walls[cell + 1] & MazeGrid.LEFT) != 0);
+                    if (!right)
+                        assertTrue("loop", union(parent, cell, cell + 1));
+                }
+                if (r < total - 1) {
+                    boolean bottom = (walls[cell] & MazeGrid.BOTTOM) != 0;
+                    assertEquals(bottom, (walls[cell + cols] & MazeGrid.TOP) != 0);
+                    if (!bottom)
+                        assertTrue("loop", union(parent, cell, cell + cols));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that the window copy is closed at the top and bottom.
+     */
+    @Test
+    public void testCopyClosesWindowEdges() {
+        EndlessMaze maze = new EndlessMaze(10, 5, 1);
+        MazeGrid grid = new MazeGrid(10, 5);
+        for (int i = 0; i < 17; i++)
+            maze.advance();
+        maze.copyTo(grid);
+        for (int c = 0; c < 10; c++) {
+            assertTrue(grid.hasWall(grid.index(c, 0), MazeGrid.TOP));
+            assertTrue(grid.hasWall(grid.index(c, 4), MazeGrid.BOTTOM));
+            assertEquals(maze.getWalls(c, 2), grid.getWalls(grid.index(c, 2)));
+        }
+    }
+
+    /**
+     * Test that resetting with the same seed streams the same rows.
+     */
+    @Test
+    public void testSameSeedSameStream() {
+        EndlessMaze maze = new EndlessMaze(12, 4, 77);
+        int[] first = new int[12 * 40];
+        for (int i = 0; i < first.length; i++) {
+            first[i] = maze.getWalls(i % 12, 0);
+            if (i % 12 == 11)
+                maze.advance();
+        }
+        maze.reset(77);
+        assertEquals(77, maze.getSeed());
+        for (int i = 0; i < first.length; i++) {
+            assertEquals(first[i], maze.getWalls(i % 12, 0));
+            if (i % 12 == 11)
+                maze.advance();
+        }
+    }
+
+    /**
+     * Test that a stream resumed from a saved window carves the same rows as the original.
+     */
+    @Test
+    public void testResumeFromSavedWindow() {
+        EndlessMaze maze = new EndlessMaze(11, 5, 42);
+        for (int i = 0; i < 1000; i++)
+            maze.advance();
+        byte[] window = new byte[11 * 5];
+        int[] frontier = new int[11];
+        maze.saveWindow(window, frontier);
+
+        EndlessMaze resumed = new EndlessMaze(11, 5, 42, maze.getFirstRow(), window, frontier);
+        assertEquals(1000, resumed.getFirstRow());
+        for (int i = 0; i < 30; i++) {
+            for (int row = 0; row < 5; row++) {
+                for (int col = 0; col < 11; col++)
+                    assertEquals(maze.getWalls(col, row), resumed.getWalls(col, row));
+            }
+            maze.advance();
+            resumed.advance();
+        }
+    }
+
+    /**
+     * Joins the sets of two cells.
+     *
+     * @param parent The union-find parents.
+     * @param a      The first cell.
+     * @param b      The second cell.
+     * @return False if the cells were already in the same set.
+     */
+    private static boolean union(int[] parent, int a, int b) {
+        while (parent[a] != a)
+            a = parent[a];
+        while (parent[b] != b)
+            b = parent[b];
+        parent[a] = b;
+        return a != b;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for EnemyManager class.
+ */
+
+public class EnemyManagerTest {
+
+    /**
+     * Test that every enemy of a swarm gets one step closer to the player,
+     * on a perfect maze and on a maze with loops.
+     */
+    @Test
+    public void testSwarmStepsCloser() {
+        for (int braided = 0; braided < 2; braided++) {
+            MazeGrid grid = new MazeGrid(30, 30);
+            new KruskalMazeGenerator().generate(grid, new SplittableRandom(braided));
+            if (braided == 1)
+                MazeTestUtil.braid(grid, 200, new SplittableRandom(2));
+            MazeTree tree = new MazeTree();
+            tree.build(grid);
+
+            EnemyManager enemies = new EnemyManager();
+            SplittableRandom random = new SplittableRandom(3);
+            for (int i = 0; i < 300; i++)
+                enemies.add(random.nextInt(grid.size()));
+            int player = grid.index(15, 15);
+
+            DistanceField field = new DistanceField();
+            field.update(grid, player);
+            int[] before = new int[enemies.size()];
+            for (int i = 0; i < before.length; i++)
+                before[i] = field.distance(enemies.get(i));
+
+            enemies.step(grid, tree, player);
+            for (int i = 0; i < before.length; i++)
+                assertEquals(Math.max(0, before[i] - 1), field.distance(enemies.get(i)));
+        }
+    }
+
+    /**
+     * Test that a few enemies on a perfect maze and a single enemy on a maze
+     * with loops reach the player along shortest paths.
+     */
+    @Test
+    public void testFewEnemiesReachPlayer() {
+        MazeGrid grid = new MazeGrid(25, 25);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(4));
+        MazeTree tree = new MazeTree();
+        assertTrue(tree.build(grid));
+        int player = grid.size() - 1;
+
+        EnemyManager enemies = new EnemyManager();
+        enemies.add(0);
+        enemies.add(grid.index(24, 0));
+        int steps = Math.max(tree.distance(0, player), tree.distance(grid.index(24, 0), player));
+        for (int i = 0; i < steps; i++)
+            enemies.step(grid, tree, player);
+        assertEquals(player, enemies.get(0));
+        assertEquals(player, enemies.get(1));
+
+        MazeTestUtil.braid(grid, 100, new SplittableRandom(5));
+        tree.build(grid);
+        assertFalse(tree.isBuilt());
+        enemies.clear();
+        enemies.add(0);
+        DistanceField field = new DistanceField();
+        field.update(grid, player);
+        for (int i = field.distance(0); i > 0; i--)
+            enemies.step(grid, tree, player);
+        assertTrue(enemies.occupies(player));
+    }
+
+    /**
+     * Test that a single enemy on a maze with loops searches once per player move,
+     * and again after the maze changed.
+     */
+    @Test
+    public void testSingleEnemyKeepsPath() {
+        MazeGrid grid = new MazeGrid(20, 20);
+        new KruskalMazeGenerator().generate(grid, new SplittableRandom(6));
+        MazeTestUtil.braid(grid, 60, new SplittableRandom(7));
+        MazeTree tree = new MazeTree();
+        tree.build(grid);
+        final int[] searches = new int[1];
+        final AStarPathfinder astar = new AStarPathfinder();
+
+        EnemyManager enemies = new EnemyManager();
+        enemies.setPathfinder(new Pathfinder() {
+            @Override
+            public int findPath(MazeGrid grid, int start, int goal, int[] path) {
+                searches[0]++;
+                return astar.findPath(grid, start, goal, path);
+            }
+
+            @Override
+            public int getExpanded() {
+                return astar.getExpanded();
+            }
+        });
+        enemies.add(0);
+        int player = grid.size() - 1;
+        DistanceField field = new DistanceField();
+        field.update(grid, player);
+        int distance = field.distance(0);
+        for (int i = 0; i < 5; i++) {
+            enemies.step(grid, tree, player);
+            assertEquals(distance - i - 1, field.distance(enemies.get(0)));
+        }
+        assertEquals(1, searches[0]);
+
+        enemies.step(grid, tree, player - 1);
+        assertEquals(2, searches[0]);
+        enemies.invalidate();
+        enemies.step(grid, tree, player - 1);
+        assertEquals(3, searches[0]);
+    }
+
+    /**
+     * Test that scrolling moves enemies up a row, dragging those on the top row.
+     */
+    @Test
+    public void testScroll() {
+        EnemyManager enemies = new EnemyManager();
+        for (int i = 0; i < 10; i++)
+            enemies.add(i * 3);
+        enemies.scroll(5);
+        assertEquals(10, enemies.size());
+        assertEquals(0, enemies.get(0));
+        assertEquals(3, enemies.get(1));
+        assertEquals(1, enemies.get(2));
+        assertEquals(22, enemies.get(9));
+        assertTrue(enemies.occupies(22));
+        assertFalse(enemies.occupies(27));
+    }
+
+    /**
+     * Test that the cells before the last step are kept for drawing.
+     */
+    @Test
+    public void testPrevious() {
+        MazeGrid grid = new MazeGrid(10, 10);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(5));
+        MazeTree tree = new MazeTree();
+        tree.build(grid);
+
+        EnemyManager enemies = new EnemyManager();
+        enemies.add(0);
+        assertEquals(0, enemies.getPrevious(0));
+        assertFalse(enemies.isMoving());
+
+        enemies.step(grid, tree, grid.size() - 1);
+        assertEquals(0, enemies.getPrevious(0));
+        assertTrue(enemies.isMoving());
+        int cell = enemies.get(0);
+        assertEquals(tree.nextStep(0, grid.size() - 1), cell);
+
+        enemies.step(grid, tree, cell);
+        assertEquals(cell, enemies.getPrevious(0));
+        assertFalse(enemies.isMoving());
+    }
+}
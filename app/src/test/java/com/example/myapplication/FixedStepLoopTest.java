@@ -0,0 +1,88 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for FixedStepLoop class.
+ */
+
+public class FixedStepLoopTest {
+
+    /**
+     * Counts the ticks run.
+     */
+    private static class Counter implements FixedStepLoop.Tick {
+        int ticks;
+
+        @Override
+        public void tick() {
+            ticks++;
+        }
+    }
+
+    /**
+     * Test that ticks run at a fixed rate whatever the frame times.
+     */
+    @Test
+    public void testFixedRate() {
+        FixedStepLoop loop = new FixedStepLoop(100, 5);
+        Counter counter = new Counter();
+        assertEquals(0, loop.advance(1000, counter));
+        assertEquals(0, loop.advance(1060, counter));
+        assertEquals(1, loop.advance(1130, counter));
+        assertEquals(0.3f, loop.getAlpha(), 1e-6f);
+        assertEquals(1, loop.advance(1200, counter));
+        assertEquals(0, loop.advance(1250, counter));
+        assertEquals(0.5f, loop.getAlpha(), 1e-6f);
+        assertEquals(2, counter.ticks);
+        assertEquals(2, loop.getTicks());
+    }
+
+    /**
+     * Test that a late frame catches up, up to the limit.
+     */
+    @Test
+    public void testCatchUp() {
+        FixedStepLoop loop = new FixedStepLoop(100, 5);
+        Counter counter = new Counter();
+        loop.advance(0, counter);
+        assertEquals(3, loop.advance(340, counter));
+        assertEquals(0.4f, loop.getAlpha(), 1e-6f);
+
+        /**
+         * A long stall only runs the limit, and the rest is dropped
+         */
+        assertEquals(5, loop.advance(10_370, counter));
+        assertEquals(0.7f, loop.getAlpha(), 1e-6f);
+        assertEquals(1, loop.advance(10_400, counter));
+        assertEquals(9, counter.ticks);
+    }
+
+    /**
+     * Test that the time before a reset is not simulated.
+     */
+    @Test
+    public void testReset() {
+        FixedStepLoop loop = new FixedStepLoop(100, 5);
+        Counter counter = new Counter();
+        loop.advance(0, counter);
+        loop.advance(150, counter);
+        loop.reset();
+        assertEquals(0, loop.getTicks());
+        assertEquals(0, loop.advance(5000, counter));
+        assertEquals(0f, loop.getAlpha(), 0f);
+        assertEquals(1, loop.advance(5100, counter));
+    }
+
+    /**
+     * Test that a zero step is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidStep() {
+        new FixedStepLoop(0, 5);
+    }
+}
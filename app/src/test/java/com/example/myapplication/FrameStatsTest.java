@@ -0,0 +1,66 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for FrameStats class.
+ */
+
+public class FrameStatsTest {
+
+    /**
+     * Test that nothing is recorded until the statistics are enabled.
+     */
+    @Test
+    public void testDisabledByDefault() {
+        FrameStats stats = new FrameStats();
+        stats.record(FrameStats.Metric.DRAW, 1000);
+        assertEquals(0, stats.get(FrameStats.Metric.DRAW).getCount());
+
+        stats.setEnabled(true);
+        stats.record(FrameStats.Metric.DRAW, 1000);
+        stats.recordSince(FrameStats.Metric.TICK, System.nanoTime());
+        assertEquals(1, stats.get(FrameStats.Metric.DRAW).getCount());
+        assertEquals(1, stats.get(FrameStats.Metric.TICK).getCount());
+        assertEquals(0, stats.get(FrameStats.Metric.PATH).getCount());
+
+        stats.reset();
+        assertEquals(0, stats.get(FrameStats.Metric.DRAW).getCount());
+    }
+
+    /**
+     * Test the JSON export of every metric.
+     */
+    @Test
+    public void testJson() {
+        FrameStats stats = new FrameStats();
+        stats.setEnabled(true);
+        stats.record(FrameStats.Metric.DRAW, 2_000_000);
+        stats.record(FrameStats.Metric.DRAW, 4_000_000);
+        stats.record(FrameStats.Metric.TICK, 3);
+
+        String json = stats.toJson();
+        assertTrue(json.startsWith("{\"enabled\":true,\"metrics\":{\"draw\":{\"unit\":\"ns\",\"count\":2,\"mean\":3000000.0,\"max\":4000000,"));
+        assertTrue(json.contains("\"tick\":{\"unit\":\"ns\",\"count\":1,\"mean\":3.0,\"max\":3,\"p50\":3,\"p90\":3,\"p99\":3,\"p999\":3,\"buckets\":[[3,1]]}"));
+        assertTrue(json.contains("\"firestore\":{\"unit\":\"ns\",\"count\":0,"));
+        assertTrue(json.endsWith("\"buckets\":[]}}}"));
+
+        /**
+         * Braces and brackets are balanced
+         */
+        int depth = 0;
+        for (char c : json.toCharArray()) {
+            if (c == '{' || c == '[')
+                depth++;
+            else if (c == '}' || c == ']')
+                depth--;
+            assertTrue(depth >= 0);
+        }
+        assertEquals(0, depth);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertSame; // Asserts that two references are the same object
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for GameFrame class.
+ */
+
+public class GameFrameTest {
+
+    /**
+     * Test that the frame keeps the enemies as they were when it was published.
+     */
+    @Test
+    public void testCopiesEnemies() {
+        MazeGrid grid = new MazeGrid(5, 5);
+        MazeTree tree = new MazeTree();
+        new DepthFirstMazeGenerator().generate(grid, new java.util.SplittableRandom(1));
+        tree.build(grid);
+        EnemyManager enemies = new EnemyManager();
+        enemies.add(0);
+        enemies.step(grid, tree, 24);
+        int cell = enemies.get(0);
+
+        Camera camera = new Camera();
+        camera.setMaze(5, 5);
+        camera.setViewport(600, 600);
+        GameFrame frame = new GameFrame(grid, new MazePyramid(grid), camera, 24, 20, enemies, 1000, 2, 0, 100);
+        camera.zoom(2, 0, 0);
+        enemies.step(grid, tree, 24);
+        enemies.add(3);
+
+        assertEquals(1, frame.getEnemyCount());
+        assertEquals(cell, frame.getEnemy(0));
+        assertEquals(0, frame.getPrevious(0));
+        assertSame(grid, frame.getWalls());
+        assertEquals(5, frame.getCols());
+        assertEquals(100, frame.getCellSize(), 0);
+        assertEquals(-0.5f, frame.getLeft(), 0);
+        assertEquals(24, frame.getPlayer());
+        assertEquals(20, frame.getExit());
+        assertEquals(1000, frame.getScore());
+        assertEquals(2, frame.getLives());
+    }
+
+    /**
+     * Test that a frame matches the state it was filled with, and is refilled in place.
+     */
+    @Test
+    public void testMatchesAndSet() {
+        MazeGrid walls = new MazeGrid(4, 4);
+        MazePyramid pyramid = new MazePyramid(walls);
+        Camera camera = new Camera();
+        camera.setMaze(4, 4);
+        camera.setViewport(400, 400);
+        EnemyManager enemies = new EnemyManager();
+        enemies.add(0);
+        enemies.add(5);
+
+        GameFrame frame = new GameFrame(walls, pyramid, camera, 15, 12, enemies, 0, 3, 10, 100);
+        assertTrue(frame.matches(walls, pyramid, camera, 15, 12, enemies, 0, 3, 10, 100));
+        assertFalse(frame.matches(walls, pyramid, camera, 14, 12, enemies, 0, 3, 10, 100));
+        assertFalse(frame.matches(walls, pyramid, camera, 15, 12, enemies, 0, 2, 10, 100));
+        assertFalse(frame.matches(walls, pyramid, camera, 15, 12, enemies, 0, 3, 20, 100));
+        camera.zoom(2, 0, 0);
+        assertFalse(frame.matches(walls, pyramid, camera, 15, 12, enemies, 0, 3, 10, 100));
+
+        enemies.clear();
+        enemies.add(1);
+        enemies.add(6);
+        frame.set(walls, pyramid, camera, 14, 12, enemies, 1000, 3, 20, 100);
+        assertTrue(frame.matches(walls, pyramid, camera, 14, 12, enemies, 1000, 3, 20, 100));
+        assertEquals(6, frame.getEnemy(1));
+        enemies.add(7);
+        assertFalse(frame.matches(walls, pyramid, camera, 14, 12, enemies, 1000, 3, 20, 100));
+    }
+
+    /**
+     * Test the interpolation between the last two cells of the enemies.
+     */
+    @Test
+    public void testAlpha() {
+        EnemyManager enemies = new EnemyManager();
+        enemies.add(0);
+        Camera camera = new Camera();
+        MazeGrid walls = new MazeGrid(3, 3);
+        GameFrame still = new GameFrame(walls, new MazePyramid(walls), camera, 8, -1, enemies, 0, 3, 1000, 400);
+        assertEquals(0, still.getAlpha(900), 0);
+        assertEquals(0, still.getAlpha(1000), 0);
+        assertEquals(0.5f, still.getAlpha(1200), 0);
+        assertEquals(1, still.getAlpha(1400), 0);
+        assertEquals(1, still.getAlpha(5000), 0);
+        assertFalse(still.isMoving(1200));
+
+        MazeGrid grid = new MazeGrid(3, 3);
+        grid.removeWall(0, 1);
+        enemies.step(grid, new MazeTree(), 1);
+        GameFrame moving = new GameFrame(grid, new MazePyramid(grid), camera, 8, -1, enemies, 0, 3, 1000, 400);
+        assertTrue(moving.isMoving(1200));
+        assertFalse(moving.isMoving(1400));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.ForkJoinPool; // Work-stealing thread pool
+
+import static org.junit.Assert.assertArrayEquals; // Asserts that two arrays are equal
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for GameSimulator and GameSimulation classes.
+ */
+
+public class GameSimulatorTest {
+
+    /**
+     * Test that a perfect player without enemies escapes every maze along the
+     * shortest path.
+     */
+    @Test
+    public void testPerfectPlayerEscapes() {
+        GameSimulation simulation = new GameSimulation(12, 9, new DepthFirstMazeGenerator(), GameRules.DEFAULT, 0);
+        SimulationReport report = new SimulationReport();
+        int score = simulation.play(new SplittableRandom(1), new SolverBot(0), 100,
+                GameSimulator.DEFAULT_MAX_MILLIS, report);
+
+        assertEquals(3000, score);
+        assertEquals(1, report.getGames());
+        assertEquals(3, report.getMazes());
+        assertEquals(0, report.getCatchRate(), 0);
+
+        /**
+         * The last maze is still loaded: its escape took one move per step of the path
+         */
+        MazeGrid grid = simulation.getGrid();
+        MazeTree tree = new MazeTree();
+        tree.build(grid);
+        long steps = tree.distance(grid.index(1, 8), grid.size() - 1);
+        assertTrue(report.getCompletionPercentile(0) <= steps * 100);
+        assertTrue(report.getCompletionPercentile(100) >= steps * 100);
+    }
+
+    /**
+     * Test that a player standing still is caught in every maze until the lives run out.
+     */
+    @Test
+    public void testIdlePlayerIsCaught() {
+        GameSimulation.Bot idle = new GameSimulation.Bot() {
+            @Override
+            public int nextCell(GameSimulation game, SplittableRandom random) {
+                return game.getPlayer();
+            }
+        };
+        GameRules rules = new GameRules(100, 0, 2, 1000, 5);
+        SimulationReport report = new GameSimulator(ForkJoinPool.commonPool(), 8, 8,
+                MazeGenerator.Algorithm.KRUSKAL, rules, 2).run(20, 1, idle, 50, GameSimulator.DEFAULT_MAX_MILLIS);
+
+        assertEquals(20, report.getGames());
+        assertEquals(40, report.getMazes());
+        assertEquals(1, report.getCatchRate(), 0);
+        assertEquals(0, report.getScorePercentile(100));
+    }
+
+    /**
+     * Test that mazes taking too long are abandoned.
+     */
+    @Test
+    public void testTimeout() {
+        SimulationReport report = new GameSimulator(ForkJoinPool.commonPool(), 30, 30,
+                MazeGenerator.Algorithm.DEPTH_FIRST, GameRules.DEFAULT, 0).run(10, 2, new SolverBot(1), 100, 1000);
+        assertEquals(10, report.getMazes());
+        assertEquals(1, report.getTimeoutRate(), 0);
+    }
+
+    /**
+     * Test that the report only depends on the seed, not on the number of threads.
+     */
+    @Test
+    public void testDeterministic() {
+        SimulationReport[] reports = new SimulationReport[2];
+        int[] threads = {1, 3};
+        for (int i = 0; i < 2; i++) {
+            ForkJoinPool pool = new ForkJoinPool(threads[i]);
+            reports[i] = new GameSimulator(pool, 10, 10, MazeGenerator.Algorithm.PRIM, GameRules.DEFAULT, 1)
+                    .run(200, 3, new SolverBot(0.3), 150, GameSimulator.DEFAULT_MAX_MILLIS);
+            pool.shutdown();
+        }
+        assertEquals(200, reports[0].getGames());
+        assertEquals(reports[0].toString(), reports[1].toString());
+        assertArrayEquals(reports[0].getScoreHistogram(1000, 4), reports[1].getScoreHistogram(1000, 4));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.myapplication;
+
+import org.junit.After; // Used for cleanup tasks after each test method
+import org.junit.Before; // Used for setup tasks before each test method
+import org.junit.Test; // Marks a method as a test method
+
+import java.io.File; // Represents a file on disk
+import java.io.IOException; // Thrown when reading or writing fails
+import java.io.RandomAccessFile; // Used to corrupt a file
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertArrayEquals; // Asserts that two arrays are equal
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertNull; // Asserts that a value is null
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for GameSnapshot class.
+ */
+
+public class GameSnapshotTest {
+
+    /**
+     * Temporary directory used by each test
+     */
+    private File dir;
+
+    /**
+     * Create the temporary directory.
+     */
+    @Before
+    public void setUp() throws IOException {
+        dir = File.createTempFile("snapshot", "");
+        dir.delete();
+        dir.mkdir();
+    }
+
+    /**
+     * Delete the temporary directory.
+     */
+    @After
+    public void tearDown() {
+        GameSnapshot.delete(dir);
+        dir.delete();
+    }
+
+    /**
+     * Returns an enemy manager holding the given cells.
+     */
+    private static EnemyManager enemies(int... cells) {
+        EnemyManager enemies = new EnemyManager();
+        for (int cell : cells)
+            enemies.add(cell);
+        return enemies;
+    }
+
+    /**
+     * Test that a regular level survives a write and read round trip.
+     */
+    @Test
+    public void testLevelRoundTrip() throws IOException {
+        MazeGrid grid = new MazeGrid(21, 13);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(5));
+        grid.setSeed(5);
+        new GameSnapshot(grid, 30, 272, enemies(0, 140, 250), 2, 1000, 1).write(dir);
+
+        GameSnapshot snapshot = GameSnapshot.read(dir);
+        assertFalse(snapshot.isEndless());
+        assertEquals(21, snapshot.getCols());
+        assertEquals(13, snapshot.getRows());
+        assertEquals(5, snapshot.getSeed());
+        assertEquals(30, snapshot.getPlayer());
+        assertEquals(272, snapshot.getExit());
+        assertArrayEquals(new int[] {0, 140, 250}, snapshot.getEnemies());
+        assertEquals(2, snapshot.getLives());
+        assertEquals(1000, snapshot.getScore());
+        assertEquals(1, snapshot.getMazesPlayed());
+        assertNull(snapshot.toEndlessMaze());
+
+        MazeGrid restored = snapshot.getGrid();
+        assertEquals(5, restored.getSeed());
+        for (int i = 0; i < grid.size(); i++) {
+            assertEquals(grid.getWalls(i), restored.getWalls(i));
+        }
+    }
+
+    /**
+     * Test that the endless stream resumes at the saved row.
+     */
+    @Test
+    public void testEndlessRoundTrip() throws IOException {
+        EndlessMaze endless = new EndlessMaze(9, 7, 77);
+        for (int i = 0; i < 40; i++) {
+            endless.advance();
+        }
+        new GameSnapshot(endless, 4, enemies(0), 3, 4000, 0).write(dir);
+
+        GameSnapshot snapshot = GameSnapshot.read(dir);
+        assertTrue(snapshot.isEndless());
+        assertNull(snapshot.getGrid());
+        assertEquals(-1, snapshot.getExit());
+        assertEquals(4000, snapshot.getScore());
+
+        EndlessMaze restored = snapshot.toEndlessMaze();
+        assertEquals(40, restored.getFirstRow());
+        endless.advance();
+        restored.advance();
+        for (int row = 0; row < 7; row++) {
+            for (int col = 0; col < 9; col++) {
+                assertEquals(endless.getWalls(col, row), restored.getWalls(col, row));
+            }
+        }
+    }
+
+    /**
+     * Test that a snapshot whose maze was replaced is rejected.
+     */
+    @Test(expected = IOException.class)
+    public void testMismatchedMaze() throws IOException {
+        MazeGrid grid = new MazeGrid(5, 5);
+        grid.setSeed(1);
+        new GameSnapshot(grid, 0, 24, enemies(0), 3, 0, 0).write(dir);
+        grid.setSeed(2);
+        MazeFile.write(grid, new File(dir, GameSnapshot.MAZE_FILE));
+        GameSnapshot.read(dir);
+    }
+
+    /**
+     * Test that a corrupt state file is rejected.
+     */
+    @Test(expected = IOException.class)
+    public void testCorruptState() throws IOException {
+        MazeGrid grid = new MazeGrid(5, 5);
+        new GameSnapshot(grid, 0, 24, enemies(0), 3, 0, 0).write(dir);
+        RandomAccessFile file = new RandomAccessFile(new File(dir, GameSnapshot.STATE_FILE), "rw");
+        try {
+            file.seek(32);
+            file.writeInt(25);
+        } finally {
+            file.close();
+        }
+        GameSnapshot.read(dir);
+    }
+
+    /**
+     * Test that reading without a saved snapshot fails.
+     */
+    @Test(expected = IOException.class)
+    public void testMissing() throws IOException {
+        GameSnapshot.read(dir);
+    }
+}
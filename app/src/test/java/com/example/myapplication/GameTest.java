@@ -2,6 +2,10 @@ package com.example.myapplication;
 
 import static org.mockito.Mockito.*; // Static imports for Mockito methods
 
+import com.google.android.gms.tasks.OnFailureListener; // Listener for task failure
+import com.google.android.gms.tasks.OnSuccessListener; // Listener for task success
+import com.google.android.gms.tasks.Task; // Asynchronous Firestore operation
+
 import org.junit.Test; // JUnit Test annotation
 
 /**
@@ -42,4 +46,45 @@ public class GameTest {
          */
         verify(firestoreAccess).storePlayerScore(eq("test@example.com"), anyInt());
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that updateScore stores the maze seed with the score
+     */
+    @Test
+    public void testUpdateScoreWithSeed() {
+        FirestoreAccess firestoreAccess = mock(FirestoreAccess.class);
+
+        /**
+         * Return a Task that accepts the success and failure listeners
+         */
+        @SuppressWarnings("unchecked")
+        Task<Void> task = mock(Task.class);
+        when(task.addOnSuccessListener(any(OnSuccessListener.class))).thenReturn(task);
+        when(task.addOnFailureListener(any(OnFailureListener.class))).thenReturn(task);
+        when(firestoreAccess.updatePlayerScore(anyString(), anyInt())).thenReturn(task);
+
+        Game game = new Game("test@example.com", 0, firestoreAccess);
+        game.setSeed(1234L);
+
+        game.updateScore();
+
+        /**
+         * Verify that storePlayerScore was called with the seed
+         */
+        verify(firestoreAccess).storePlayerScore(eq("test@example.com"), anyInt(), eq(1234L));
+    }
+
+    /**
+     * Test that recordScore stores the final score with the maze seed
+     */
+    @Test
+    public void testRecordScore() {
+        FirestoreAccess firestoreAccess = mock(FirestoreAccess.class);
+        Game game = new Game("test@example.com", 0, firestoreAccess);
+
+        game.recordScore(1500, 1234L);
+
+        verify(firestoreAccess).storePlayerScore(eq("test@example.com"), eq(1500), eq(1234L));
+        verify(firestoreAccess, never()).storePlayerScore(anyString(), anyInt());
+    }
+}
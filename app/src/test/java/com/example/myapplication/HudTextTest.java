@@ -0,0 +1,168 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.lang.management.ManagementFactory; // Gives access to the JVM's thread bean
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+import static org.junit.Assume.assumeTrue; // Skips a test when the JVM cannot measure it
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for HudText class, and for the allocations of the per-frame work.
+ */
+
+public class HudTextTest {
+
+    /**
+     * Cells across a tile whose walls are built, like a tile of the renderer at level 2
+     */
+    private static final int TILE_CELLS = 8;
+
+    /**
+     * Test that numbers are written after the label, and only when they change.
+     */
+    @Test
+    public void testSetValue() {
+        HudText text = new HudText("Score: ");
+        assertEquals("Score: ", text.toString());
+        assertTrue(text.setValue(1000));
+        assertEquals("Score: 1000", text.toString());
+        assertFalse(text.setValue(1000));
+        assertTrue(text.setValue(0));
+        assertEquals("Score: 0", text.toString());
+        assertTrue(text.setValue(-7));
+        assertEquals("Score: -7", text.toString());
+        assertTrue(text.setValue(Integer.MIN_VALUE));
+        assertEquals("Score: " + Integer.MIN_VALUE, text.toString());
+        assertTrue(text.setValue(Integer.MAX_VALUE));
+        assertEquals("Score: " + Integer.MAX_VALUE, text.toString());
+    }
+
+    /**
+     * Test that the work done on every frame allocates nothing, apart from the Canvas
+     * calls: the simulation loop moving the enemies, refilling a frame handed back by
+     * the renderer, and on the render thread the interpolation of the enemies, the
+     * dirty region, the HUD text and its width, and the walls of a tile.
+     */
+    @Test
+    public void testFrameAllocatesNothing() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        /**
+         * The state lives in an object, so the JIT cannot keep any of it in registers
+         * and allocate it when it recompiles the loop
+         */
+        Frames frames = new Frames();
+        long id = Thread.currentThread().getId();
+        long allocated = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            /**
+             * The JIT allocates a few bytes once when it switches a method to optimized
+             * code, which may happen during any run; an allocation in the frame itself
+             * would show in every run of 10000 frames, so the smallest run is kept
+             */
+            long before = threads.getThreadAllocatedBytes(id);
+            for (int frame = 0; frame < 10_000; frame++)
+                frames.run(frame);
+            if (run > 0)
+                allocated = Math.min(allocated, threads.getThreadAllocatedBytes(id) - before);
+        }
+        assertEquals(0, allocated);
+        assertTrue(frames.sink >= -frames.grid.size());
+    }
+
+    /**
+     * The game and render side of a frame, with the state they keep between frames.
+     */
+    private static final class Frames implements FixedStepLoop.Tick {
+        final MazeGrid grid = new MazeGrid(15, 15);
+        final MazeTree tree = new MazeTree();
+        final MazePyramid pyramid = new MazePyramid(grid);
+        final EnemyManager enemies = new EnemyManager();
+        final Camera camera = new Camera();
+        final HudText score = new HudText("Score: "), lives = new HudText("Lives: ");
+        final DirtyRegion region = new DirtyRegion();
+        final WallGeometry geometry = new WallGeometry();
+        final FixedStepLoop loop = new FixedStepLoop(400_000_000L, FixedStepLoop.DEFAULT_MAX_CATCH_UP);
+        final int player = grid.size() - 1;
+        /**
+         * Two frames alternate, as the renderer hands back the one it drew before
+         */
+        final GameFrame[] published = new GameFrame[2];
+        GameFrame drawn;
+        boolean drawnMoving;
+        int scoreLength, livesLength;
+        float sink;
+
+        Frames() {
+            new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(1));
+            tree.build(grid);
+            pyramid.build();
+            enemies.add(0);
+            camera.setViewport(1080, 1920);
+            camera.setMaze(grid.getCols(), grid.getRows());
+            for (int i = 0; i < published.length; i++)
+                published[i] = new GameFrame(grid, pyramid, camera, player, -1, enemies, 0, 3, 0, loop.getStep());
+        }
+
+        @Override
+        public void tick() {
+            enemies.step(grid, tree, player);
+            if (enemies.occupies(player))
+                enemies.scroll(0);
+        }
+
+        /**
+         * Runs one frame, 60 frames a second.
+         *
+         * @param frame The number of the frame.
+         */
+        void run(int frame) {
+            long now = frame * 16_666_667L;
+
+            /**
+             * Game side: run the due ticks and refill the frame handed back
+             */
+            loop.advance(now, this);
+            camera.follow(grid.col(player), grid.row(player));
+            GameFrame latest = published[frame & 1];
+            latest.set(grid, pyramid, camera, player, -1, enemies, frame / 60 * 1000, 3 - frame / 5000,
+                    loop.getLastTickNanos(), loop.getStep());
+
+            /**
+             * Render side: what changed since the last frame drawn, and the HUD width
+             * (the length stands for the width measured by the Paint)
+             */
+            boolean moving = latest.isMoving(now);
+            float alpha = latest.getAlpha(now);
+            region.clear();
+            region.addChanges(drawn, drawnMoving, latest, moving);
+            int oldWidth = Math.max(scoreLength, livesLength);
+            if (score.setValue(latest.getScore()))
+                scoreLength = score.getLength();
+            if (lives.setValue(latest.getLives()))
+                livesLength = lives.getLength();
+            sink += Math.max(oldWidth, Math.max(scoreLength, livesLength));
+            if (!region.isEmpty() && !region.isFull()) {
+                /**
+                 * The walls of the tile holding the change, and of the cells around it
+                 */
+                int x = region.getLeft() / TILE_CELLS, y = region.getTop() / TILE_CELLS;
+                geometry.build(latest.getWalls(), x * TILE_CELLS - 1, y * TILE_CELLS - 1,
+                        TILE_CELLS + 2, TILE_CELLS + 2, 64);
+                sink += geometry.getLength() > 0 ? geometry.getLines()[0] : 0;
+            }
+            for (int i = 0; i < latest.getEnemyCount(); i++)
+                sink += (latest.getEnemy(i) - latest.getPrevious(i)) * alpha;
+            drawn = latest;
+            drawnMoving = moving;
+        }
+    }
+}
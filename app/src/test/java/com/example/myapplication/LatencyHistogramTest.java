@@ -0,0 +1,94 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for LatencyHistogram class.
+ */
+
+public class LatencyHistogramTest {
+
+    /**
+     * Test that every value falls in a bucket whose bounds hold it, within 12.5%.
+     */
+    @Test
+    public void testBuckets() {
+        SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(Long.MAX_VALUE) >>> random.nextInt(63);
+            int index = LatencyHistogram.index(value);
+            long low = LatencyHistogram.lowestValue(index), high = LatencyHistogram.highestValue(index);
+            assertTrue(low <= value && value <= high);
+            assertTrue(high - low <= low / 8);
+        }
+        for (int value = 0; value < 16; value++)
+            assertEquals(value, LatencyHistogram.index(value));
+        assertEquals(LatencyHistogram.index(31), LatencyHistogram.index(30));
+        assertEquals(LatencyHistogram.index(31) + 1, LatencyHistogram.index(32));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValue(LatencyHistogram.index(Long.MAX_VALUE)));
+    }
+
+    /**
+     * Test the percentiles, mean and maximum of a uniform distribution.
+     */
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        for (long value = 1; value <= 10_000; value++)
+            histogram.record(value * 1000);
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500, histogram.getMean(), 1e-6);
+        assertEquals(5_000_000, histogram.getValueAtPercentile(50), 5_000_000 / 8);
+        assertEquals(9_900_000, histogram.getValueAtPercentile(99), 9_900_000 / 8);
+        assertTrue(histogram.getValueAtPercentile(99) >= 9_900_000);
+        assertEquals(10_000_000, histogram.getValueAtPercentile(100));
+
+        histogram.record(-5);
+        assertEquals(0, histogram.getValueAtPercentile(0));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    /**
+     * Test that values recorded from several threads at once are all counted.
+     */
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int seed = t;
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 50_000; i++)
+                        histogram.record(random.nextInt(1_000_000));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        assertEquals(200_000, histogram.getCount());
+        StringBuilder json = new StringBuilder();
+        histogram.appendJson(json);
+        long counted = 0;
+        String buckets = json.substring(json.indexOf("\"buckets\":[") + 11, json.length() - 2);
+        for (String bucket : buckets.split("\\],\\["))
+            counted += Long.parseLong(bucket.replace("[", "").replace("]", "").split(",")[1]);
+        assertEquals(200_000, counted);
+    }
+}
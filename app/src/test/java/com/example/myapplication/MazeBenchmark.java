@@ -0,0 +1,269 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.ForkJoinPool; // Work-stealing thread pool
+
+/**
+ * @author Vanessa and Noor
+ *
+ * MazeBenchmark times the maze algorithms on the JVM. It is not a unit test; run its
+ * main method from the IDE (or with java -cp on the test classes) to print the results.
+ */
+
+public class MazeBenchmark {
+
+    /**
+     * Number of timed runs per measurement, after the same number of warm-up runs
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * Runs every benchmark.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        benchmarkGenerators(MazeGrid.MAX_SIZE, MazeGrid.MAX_SIZE);
+        benchmarkMetrics(MazeGrid.MAX_SIZE, MazeGrid.MAX_SIZE);
+        benchmarkSelector(15, 15, 0.3, 0.4);
+        benchmarkTree(MazeGrid.MAX_SIZE, MazeGrid.MAX_SIZE);
+        benchmarkPathfinders(MazeGrid.MAX_SIZE, MazeGrid.MAX_SIZE, 0);
+        benchmarkPathfinders(MazeGrid.MAX_SIZE, MazeGrid.MAX_SIZE, MazeGrid.MAX_SIZE * MazeGrid.MAX_SIZE / 10);
+        benchmarkEnemies(200, 200);
+        benchmarkSimulator(10_000);
+    }
+
+    /**
+     * Compares every generator on one grid size, and the parallel generator against
+     * the single-threaded depth-first search for increasing thread counts.
+     *
+     * @param cols Number of columns.
+     * @param rows Number of rows.
+     */
+    static void benchmarkGenerators(int cols, int rows) {
+        System.out.println("Maze generation, " + cols + "x" + rows + ", best of " + RUNS + " runs");
+        MazeGrid grid = new MazeGrid(cols, rows);
+
+        double baseline = 0;
+        for (MazeGenerator.Algorithm algorithm : MazeGenerator.Algorithm.values()) {
+            double millis = timeGenerator(algorithm.create(), grid);
+            if (algorithm == MazeGenerator.Algorithm.DEPTH_FIRST)
+                baseline = millis;
+            System.out.printf("  %-12s %8.1f ms%n", algorithm, millis);
+        }
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            double millis = timeGenerator(new ParallelMazeGenerator(pool, ParallelMazeGenerator.DEFAULT_TILE_SIZE), grid);
+            System.out.printf("  PARALLEL x%-2d %8.1f ms  speedup %.2fx over DEPTH_FIRST%n",
+                    threads, millis, baseline / millis);
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the best time of several runs of a generator.
+     *
+     * @param generator The generator to time.
+     * @param grid      The grid to carve, reset before every run.
+     * @return The best run time in milliseconds.
+     */
+    private static double timeGenerator(MazeGenerator generator, MazeGrid grid) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS * 2; run++) {
+            grid.reset();
+            long start = System.nanoTime();
+            generator.generate(grid, new SplittableRandom(run));
+            long elapsed = System.nanoTime() - start;
+            if (run >= RUNS)
+                best = Math.min(best, elapsed);
+        }
+        return best / 1e6;
+    }
+
+    /**
+     * Times the single-pass difficulty analysis of one large maze.
+     *
+     * @param cols Number of columns.
+     * @param rows Number of rows.
+     */
+    static void benchmarkMetrics(int cols, int rows) {
+        MazeGrid grid = new MazeGrid(cols, rows);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(1));
+        MazeMetrics metrics = new MazeMetrics();
+
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS * 2; run++) {
+            long start = System.nanoTime();
+            metrics.analyze(grid, grid.index(1, rows - 1), grid.size() - 1);
+            long elapsed = System.nanoTime() - start;
+            if (run >= RUNS)
+                best = Math.min(best, elapsed);
+        }
+        System.out.printf("Maze metrics, %dx%d: %.1f ms (solution %d, %d dead ends, %d junctions, corridor %.2f)%n",
+                cols, rows, best / 1e6, metrics.getSolutionLength(), metrics.getDeadEnds(),
+                metrics.getJunctions(), metrics.getAverageCorridorLength());
+    }
+
+    /**
+     * Measures how many candidate mazes the difficulty selector gets through, and how
+     * long one selection takes compared to the frame budget.
+     *
+     * @param cols          Number of columns.
+     * @param rows          Number of rows.
+     * @param minDifficulty Lowest accepted difficulty.
+     * @param maxDifficulty Highest accepted difficulty.
+     */
+    static void benchmarkSelector(int cols, int rows, double minDifficulty, double maxDifficulty) {
+        int selections = 200;
+        MazeSelector selector = new MazeSelector(ForkJoinPool.commonPool(), MazeGenerator.Algorithm.DEPTH_FIRST,
+                minDifficulty, maxDifficulty, MazeSelector.DEFAULT_BUDGET_NANOS);
+        MazeGrid grid = new MazeGrid(cols, rows);
+        SplittableRandom seeds = new SplittableRandom(1);
+        int start = grid.index(1, rows - 1), goal = grid.size() - 1;
+
+        int hits = 0;
+        long worst = 0;
+        long begin = System.nanoTime();
+        for (int i = 0; i < selections; i++) {
+            grid.reset();
+            long selectStart = System.nanoTime();
+            if (selector.select(grid, start, goal, seeds))
+                hits++;
+            worst = Math.max(worst, System.nanoTime() - selectStart);
+        }
+        double average = (System.nanoTime() - begin) / 1e6 / selections;
+        System.out.printf("Maze selection, %dx%d, band %.2f-%.2f: %.0f candidates/s, %.2f ms average, "
+                        + "%.2f ms worst (budget %.0f ms), %d/%d in band%n",
+                cols, rows, minDifficulty, maxDifficulty, selector.getThroughput(), average, worst / 1e6,
+                MazeSelector.DEFAULT_BUDGET_NANOS / 1e6, hits, selections);
+    }
+
+    /**
+     * Times building the spanning tree of a large maze and answering next-step
+     * queries from it, against recomputing a distance field per query.
+     *
+     * @param cols Number of columns.
+     * @param rows Number of rows.
+     */
+    static void benchmarkTree(int cols, int rows) {
+        MazeGrid grid = new MazeGrid(cols, rows);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(1));
+        MazeTree tree = new MazeTree();
+        DistanceField field = new DistanceField();
+
+        long build = Long.MAX_VALUE, search = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS * 2; run++) {
+            long start = System.nanoTime();
+            tree.build(grid);
+            long elapsed = System.nanoTime() - start;
+            start = System.nanoTime();
+            field.update(grid, run);
+            long searched = System.nanoTime() - start;
+            if (run >= RUNS) {
+                build = Math.min(build, elapsed);
+                search = Math.min(search, searched);
+            }
+        }
+
+        int queries = 1_000_000;
+        SplittableRandom random = new SplittableRandom(2);
+        long sum = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            sum += tree.nextStep(random.nextInt(grid.size()), random.nextInt(grid.size()));
+        }
+        double perQuery = (System.nanoTime() - start) / (double) queries;
+        System.out.printf("Maze tree, %dx%d: build %.1f ms, next step %.0f ns/query, distance field %.1f ms (%d)%n",
+                cols, rows, build / 1e6, perQuery, search / 1e6, sum & 1);
+    }
+
+    /**
+     * Compares the expanded nodes and latency of the pathfinders on random cell pairs.
+     *
+     * @param cols  Number of columns.
+     * @param rows  Number of rows.
+     * @param loops Number of extra walls opened to braid the maze.
+     */
+    static void benchmarkPathfinders(int cols, int rows, int loops) {
+        MazeGrid grid = new MazeGrid(cols, rows);
+        new KruskalMazeGenerator().generate(grid, new SplittableRandom(1));
+        MazeTestUtil.braid(grid, loops, new SplittableRandom(2));
+        int[] path = new int[grid.size()];
+        int queries = 50;
+
+        System.out.println("Pathfinding, " + cols + "x" + rows + ", " + loops + " extra openings, "
+                + queries + " random pairs");
+        Pathfinder[] pathfinders = {
+                new BreadthFirstPathfinder(), new AStarPathfinder(), new JumpPointPathfinder()
+        };
+        for (Pathfinder pathfinder : pathfinders) {
+            SplittableRandom random = new SplittableRandom(3);
+            long expanded = 0, elapsed = 0;
+            for (int i = 0; i < queries * 2; i++) {
+                int start = random.nextInt(grid.size()), goal = random.nextInt(grid.size());
+                long begin = System.nanoTime();
+                pathfinder.findPath(grid, start, goal, path);
+                if (i >= queries) {
+                    elapsed += System.nanoTime() - begin;
+                    expanded += pathfinder.getExpanded();
+                }
+            }
+            System.out.printf("  %-24s %10d expanded %8.2f ms%n", pathfinder.getClass().getSimpleName(),
+                    expanded / queries, elapsed / 1e6 / queries);
+        }
+    }
+
+    /**
+     * Times one player move with growing numbers of enemies sharing a flow field.
+     *
+     * @param cols Number of columns.
+     * @param rows Number of rows.
+     */
+    static void benchmarkEnemies(int cols, int rows) {
+        MazeGrid grid = new MazeGrid(cols, rows);
+        new KruskalMazeGenerator().generate(grid, new SplittableRandom(1));
+        MazeTestUtil.braid(grid, grid.size() / 10, new SplittableRandom(2));
+        MazeTree tree = new MazeTree();
+        tree.build(grid);
+
+        System.out.println("Enemy moves, " + cols + "x" + rows + " with loops, one player move");
+        for (int count = 1; count <= 1000; count *= 10) {
+            EnemyManager enemies = new EnemyManager();
+            SplittableRandom random = new SplittableRandom(3);
+            for (int i = 0; i < count; i++)
+                enemies.add(random.nextInt(grid.size()));
+
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS * 2; run++) {
+                int player = random.nextInt(grid.size());
+                long start = System.nanoTime();
+                enemies.step(grid, tree, player);
+                long elapsed = System.nanoTime() - start;
+                if (run >= RUNS)
+                    best = Math.min(best, elapsed);
+            }
+            System.out.printf("  %5d enemies %8.2f ms%n", count, best / 1e6);
+        }
+    }
+
+    /**
+     * Plays headless games of the default rules with bots of decreasing skill, and
+     * prints how often they are caught and how they score.
+     *
+     * @param games Number of games per bot.
+     */
+    static void benchmarkSimulator(int games) {
+        GameSimulator simulator = new GameSimulator(ForkJoinPool.commonPool(), 15, 15,
+                MazeGenerator.Algorithm.DEPTH_FIRST, GameRules.DEFAULT, 1);
+        System.out.println("Game simulation, 15x15, default rules, " + games + " games per bot, player move every 250 ms");
+        for (double mistakes = 0; mistakes <= 0.61; mistakes += 0.2) {
+            long start = System.nanoTime();
+            SimulationReport report = simulator.run(games, 1, new SolverBot(mistakes), 250,
+                    GameSimulator.DEFAULT_MAX_MILLIS);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("  mistakes %.1f: %.0f games/s, %s%n", mistakes, games / seconds, report);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.ForkJoinPool; // Pool running the tiles of the parallel generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for MazeCache class.
+ */
+
+public class MazeCacheTest {
+
+    /**
+     * Creates a carved grid with the given seed.
+     *
+     * @param seed The seed of the maze.
+     * @return The carved grid.
+     */
+    private static MazeGrid carve(long seed) {
+        MazeGrid grid = new MazeGrid(10, 10);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(seed));
+        grid.setSeed(seed);
+        return grid;
+    }
+
+    /**
+     * Test that a cached maze is copied back with its walls and seed.
+     */
+    @Test
+    public void testPutAndCopy() {
+        MazeCache cache = new MazeCache(1000);
+        MazeGenerator generator = new DepthFirstMazeGenerator();
+        MazeGrid grid = carve(11);
+        cache.put(generator, grid);
+
+        MazeGrid target = new MazeGrid(10, 10);
+        assertTrue(cache.copyTo(11, generator, target));
+        assertEquals(11, target.getSeed());
+        for (int i = 0; i < grid.size(); i++)
+            assertEquals(grid.getWalls(i), target.getWalls(i));
+
+        /**
+         * Other seeds, sizes and algorithms miss
+         */
+        assertFalse(cache.copyTo(12, generator, target));
+        assertFalse(cache.copyTo(11, generator, new MazeGrid(10, 11)));
+        assertFalse(cache.copyTo(11, new KruskalMazeGenerator(), target));
+    }
+
+    /**
+     * Test that generators of the same algorithm with different parameters do not share entries.
+     */
+    @Test
+    public void testGeneratorParametersAreKeyed() {
+        MazeCache cache = new MazeCache(1000);
+        MazeGenerator small = new ParallelMazeGenerator(ForkJoinPool.commonPool(), 4);
+        MazeGrid grid = new MazeGrid(10, 10);
+        small.generate(grid, new SplittableRandom(5));
+        grid.setSeed(5);
+        cache.put(small, grid);
+
+        MazeGrid target = new MazeGrid(10, 10);
+        assertTrue(cache.copyTo(5, new ParallelMazeGenerator(ForkJoinPool.commonPool(), 4), target));
+        assertFalse(cache.copyTo(5, new ParallelMazeGenerator(ForkJoinPool.commonPool(), 8), target));
+    }
+
+    /**
+     * Test that the cache keeps its own copy.
+     */
+    @Test
+    public void testEntriesAreCopies() {
+        MazeCache cache = new MazeCache(1000);
+        MazeGenerator generator = new DepthFirstMazeGenerator();
+        MazeGrid grid = carve(3);
+        int walls = grid.getWalls(0);
+        cache.put(generator, grid);
+        grid.reset();
+
+        MazeGrid target = new MazeGrid(10, 10);
+        assertTrue(cache.copyTo(3, generator, target));
+        assertEquals(walls, target.getWalls(0));
+    }
+
+    /**
+     * Test that the least recently used maze is evicted when over budget.
+     */
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        MazeCache cache = new MazeCache(300);
+        MazeGenerator generator = new DepthFirstMazeGenerator();
+        MazeGrid target = new MazeGrid(10, 10);
+        cache.put(generator, carve(1));
+        cache.put(generator, carve(2));
+        cache.put(generator, carve(3));
+
+        /**
+         * Touch seed 1 so seed 2 becomes the eldest
+         */
+        assertTrue(cache.copyTo(1, generator, target));
+        cache.put(generator, carve(4));
+
+        assertEquals(3, cache.size());
+        assertTrue(cache.copyTo(1, generator, target));
+        assertFalse(cache.copyTo(2, generator, target));
+        assertTrue(cache.copyTo(4, generator, target));
+    }
+}
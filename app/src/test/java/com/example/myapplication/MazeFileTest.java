@@ -0,0 +1,103 @@
+package com.example.myapplication;
+
+import org.junit.After; // Used for cleanup tasks after each test method
+import org.junit.Before; // Used for setup tasks before each test method
+import org.junit.Test; // Marks a method as a test method
+
+import java.io.File; // Represents a file on disk
+import java.io.FileOutputStream; // Writes raw bytes to a file
+import java.io.IOException; // Thrown when reading or writing fails
+import java.io.RandomAccessFile; // Used to truncate a file
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for MazeFile class.
+ */
+
+public class MazeFileTest {
+
+    /**
+     * Temporary file used by each test
+     */
+    private File file;
+
+    /**
+     * Create the temporary file.
+     */
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("maze", ".bin");
+    }
+
+    /**
+     * Delete the temporary file.
+     */
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    /**
+     * Test that a maze survives a write and read round trip.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        int[][] sizes = {{1, 1}, {3, 1}, {15, 15}, {37, 21}};
+        for (int[] size : sizes) {
+            MazeGrid grid = new MazeGrid(size[0], size[1]);
+            new WilsonMazeGenerator().generate(grid, new SplittableRandom(size[0]));
+            grid.setSeed(-42L);
+            MazeFile.write(grid, file);
+
+            MazeFile mazeFile = MazeFile.open(file);
+            assertEquals(size[0], mazeFile.getCols());
+            assertEquals(size[1], mazeFile.getRows());
+            assertEquals(-42L, mazeFile.getSeed());
+
+            MazeGrid loaded = mazeFile.toGrid();
+            assertEquals(-42L, loaded.getSeed());
+            for (int i = 0; i < grid.size(); i++) {
+                assertEquals(grid.getWalls(i), loaded.getWalls(i));
+                assertEquals(grid.getWalls(i), mazeFile.getWalls(i));
+            }
+        }
+    }
+
+    /**
+     * Test that the file stores 2 bits per cell after the header.
+     */
+    @Test
+    public void testFileSize() throws IOException {
+        MazeGrid grid = new MazeGrid(MazeGrid.MAX_SIZE, MazeGrid.MAX_SIZE);
+        MazeFile.write(grid, file);
+        assertEquals(MazeFile.HEADER_SIZE + 250000, file.length());
+    }
+
+    /**
+     * Test that a file that is not a maze file is rejected.
+     */
+    @Test(expected = IOException.class)
+    public void testRejectsOtherFiles() throws IOException {
+        FileOutputStream out = new FileOutputStream(file);
+        out.write(new byte[64]);
+        out.close();
+        MazeFile.open(file);
+    }
+
+    /**
+     * Test that a truncated file is rejected.
+     */
+    @Test(expected = IOException.class)
+    public void testRejectsTruncatedFiles() throws IOException {
+        MazeGrid grid = new MazeGrid(40, 40);
+        MazeFile.write(grid, file);
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        raf.setLength(MazeFile.HEADER_SIZE + 10);
+        raf.close();
+        MazeFile.open(file);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for the MazeGenerator implementations.
+ */
+
+public class MazeGeneratorTest {
+
+    /**
+     * Grid sizes every algorithm is checked against, including single rows and columns
+     */
+    private static final int[][] SIZES = {{1, 1}, {1, 9}, {9, 1}, {2, 2}, {15, 15}, {31, 17}, {64, 64}};
+
+    /**
+     * Test that every algorithm carves a perfect maze for every size.
+     */
+    @Test
+    public void testAllAlgorithmsGeneratePerfectMazes() {
+        for (MazeGenerator.Algorithm algorithm : MazeGenerator.Algorithm.values()) {
+            MazeGenerator generator = algorithm.create();
+            SplittableRandom random = new SplittableRandom(algorithm.ordinal());
+            for (int[] size : SIZES) {
+                MazeGrid grid = new MazeGrid(size[0], size[1]);
+                generator.generate(grid, random);
+                MazeTestUtil.assertPerfectMaze(grid);
+            }
+        }
+    }
+
+    /**
+     * Test that a generator can be reused on a reset grid.
+     */
+    @Test
+    public void testGeneratorReuse() {
+        for (MazeGenerator.Algorithm algorithm : MazeGenerator.Algorithm.values()) {
+            MazeGenerator generator = algorithm.create();
+            MazeGrid grid = new MazeGrid(20, 12);
+            SplittableRandom random = new SplittableRandom(3);
+            for (int i = 0; i < 5; i++) {
+                grid.reset();
+                generator.generate(grid, random);
+                MazeTestUtil.assertPerfectMaze(grid);
+            }
+        }
+    }
+
+    /**
+     * Test that the same seed produces the same maze.
+     */
+    @Test
+    public void testSameSeedSameMaze() {
+        for (MazeGenerator.Algorithm algorithm : MazeGenerator.Algorithm.values()) {
+            MazeGrid first = new MazeGrid(15, 15);
+            MazeGrid second = new MazeGrid(15, 15);
+            algorithm.create().generate(first, new SplittableRandom(99));
+            algorithm.create().generate(second, new SplittableRandom(99));
+            for (int i = 0; i < first.size(); i++) {
+                assertTrue(first.getWalls(i) == second.getWalls(i));
+            }
+        }
+    }
+
+    /**
+     * Test that the fast algorithms handle the largest supported grid.
+     */
+    @Test
+    public void testLargestGrid() {
+        MazeGrid grid = new MazeGrid(MazeGrid.MAX_SIZE, MazeGrid.MAX_SIZE);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(1));
+        MazeTestUtil.assertPerfectMaze(grid);
+
+        grid.reset();
+        new EllerMazeGenerator().generate(grid, new SplittableRandom(1));
+        MazeTestUtil.assertPerfectMaze(grid);
+    }
+}
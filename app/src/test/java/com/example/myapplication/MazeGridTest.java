@@ -0,0 +1,144 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for MazeGrid class.
+ */
+
+public class MazeGridTest {
+
+    /**
+     * Test that a new grid has every wall in place.
+     */
+    @Test
+    public void testNewGridHasAllWalls() {
+        MazeGrid grid = new MazeGrid(4, 3);
+        assertEquals(12, grid.size());
+        for (int i = 0; i < grid.size(); i++) {
+            assertEquals(MazeGrid.ALL_WALLS, grid.getWalls(i));
+            assertFalse(grid.isVisited(i));
+        }
+    }
+
+    /**
+     * Test conversion between (col, row) and linear index.
+     */
+    @Test
+    public void testIndexing() {
+        MazeGrid grid = new MazeGrid(4, 3);
+        int index = grid.index(3, 2);
+        assertEquals(11, index);
+        assertEquals(3, grid.col(index));
+        assertEquals(2, grid.row(index));
+    }
+
+    /**
+     * Test that removing a wall clears it on both cells.
+     */
+    @Test
+    public void testRemoveWall() {
+        MazeGrid grid = new MazeGrid(4, 3);
+        int a = grid.index(1, 1);
+
+        grid.removeWall(a, grid.index(2, 1));
+        assertFalse(grid.hasWall(a, MazeGrid.RIGHT));
+        assertFalse(grid.hasWall(grid.index(2, 1), MazeGrid.LEFT));
+
+        grid.removeWall(a, grid.index(1, 0));
+        assertFalse(grid.hasWall(a, MazeGrid.TOP));
+        assertFalse(grid.hasWall(grid.index(1, 0), MazeGrid.BOTTOM));
+
+        assertTrue(grid.hasWall(a, MazeGrid.LEFT));
+        assertTrue(grid.hasWall(a, MazeGrid.BOTTOM));
+    }
+
+    /**
+     * Test that cells on different rows are not treated as horizontal neighbors.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRemoveWallAcrossRowEdge() {
+        MazeGrid grid = new MazeGrid(4, 3);
+        grid.removeWall(grid.index(3, 0), grid.index(0, 1));
+    }
+
+    /**
+     * Test neighbor lookup at the grid edges.
+     */
+    @Test
+    public void testNeighbor() {
+        MazeGrid grid = new MazeGrid(4, 3);
+        assertEquals(-1, grid.neighbor(0, MazeGrid.TOP));
+        assertEquals(-1, grid.neighbor(0, MazeGrid.LEFT));
+        assertEquals(1, grid.neighbor(0, MazeGrid.RIGHT));
+        assertEquals(4, grid.neighbor(0, MazeGrid.BOTTOM));
+        assertEquals(-1, grid.neighbor(grid.index(3, 2), MazeGrid.RIGHT));
+        assertEquals(-1, grid.neighbor(grid.index(3, 2), MazeGrid.BOTTOM));
+    }
+
+    /**
+     * Test that reset restores the walls and clears visited marks.
+     */
+    @Test
+    public void testReset() {
+        MazeGrid grid = new MazeGrid(2, 2);
+        grid.markVisited(0);
+        grid.removeWall(0, 1);
+        assertTrue(grid.isVisited(0));
+        assertEquals(MazeGrid.TOP | MazeGrid.LEFT | MazeGrid.BOTTOM, grid.getWalls(0));
+
+        grid.reset();
+        assertFalse(grid.isVisited(0));
+        assertEquals(MazeGrid.ALL_WALLS, grid.getWalls(0));
+    }
+
+    /**
+     * Test that a grid of the largest supported size starts fully walled and carves
+     * between its last rows.
+     */
+    @Test
+    public void testLargestGrid() {
+        MazeGrid grid = new MazeGrid(MazeGrid.MAX_SIZE, MazeGrid.MAX_SIZE);
+        int last = grid.size() - 1;
+        assertEquals(MazeGrid.ALL_WALLS, grid.getWalls(last));
+
+        grid.removeWall(last, last - grid.getCols());
+        assertFalse(grid.hasWall(last, MazeGrid.TOP));
+        assertFalse(grid.hasWall(last - grid.getCols(), MazeGrid.BOTTOM));
+
+        grid.reset();
+        assertEquals(MazeGrid.ALL_WALLS, grid.getWalls(last));
+    }
+
+    /**
+     * Test that copying a grid replaces every wall of the target, including the ones
+     * only the target had removed.
+     */
+    @Test
+    public void testCopyFrom() {
+        MazeGrid source = new MazeGrid(100, 100);
+        MazeGrid target = new MazeGrid(100, 100);
+        target.removeWall(9000, 9001);
+        source.removeWall(0, 1);
+        source.setSeed(8);
+
+        target.copyFrom(source);
+        assertEquals(8, target.getSeed());
+        assertFalse(target.hasWall(0, MazeGrid.RIGHT));
+        assertEquals(MazeGrid.ALL_WALLS, target.getWalls(9000));
+    }
+
+    /**
+     * Test that grids larger than the supported size are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTooLarge() {
+        new MazeGrid(MazeGrid.MAX_SIZE + 1, 10);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for MazeMetrics class.
+ */
+
+public class MazeMetricsTest {
+
+    /**
+     * Test the metrics of a single winding corridor.
+     */
+    @Test
+    public void testSerpentine() {
+        MazeGrid grid = new MazeGrid(3, 3);
+        grid.removeWall(0, 1);
+        grid.removeWall(1, 2);
+        grid.removeWall(2, 5);
+        grid.removeWall(5, 4);
+        grid.removeWall(4, 3);
+        grid.removeWall(3, 6);
+        grid.removeWall(6, 7);
+        grid.removeWall(7, 8);
+
+        MazeMetrics metrics = new MazeMetrics();
+        metrics.analyze(grid, 0, 8);
+        assertEquals(8, metrics.getSolutionLength());
+        assertEquals(2, metrics.getDeadEnds());
+        assertEquals(0, metrics.getJunctions());
+        assertEquals(8.0, metrics.getAverageCorridorLength(), 1e-9);
+        assertEquals(1.0, metrics.getDifficulty(), 1e-9);
+    }
+
+    /**
+     * Test the metrics of a comb with three teeth hanging from the top row.
+     */
+    @Test
+    public void testComb() {
+        MazeGrid grid = new MazeGrid(3, 3);
+        grid.removeWall(0, 1);
+        grid.removeWall(1, 2);
+        for (int col = 0; col < 3; col++) {
+            grid.removeWall(col, col + 3);
+            grid.removeWall(col + 3, col + 6);
+        }
+
+        MazeMetrics metrics = new MazeMetrics();
+        metrics.analyze(grid, 6, 8);
+        assertEquals(6, metrics.getSolutionLength());
+        assertEquals(3, metrics.getDeadEnds());
+        assertEquals(1, metrics.getJunctions());
+        assertEquals(8.0 / 3, metrics.getAverageCorridorLength(), 1e-9);
+        assertEquals(6.0 / 8, metrics.getDifficulty(), 1e-9);
+    }
+
+    /**
+     * Test that an unreachable exit is reported.
+     */
+    @Test
+    public void testUnreachable() {
+        MazeGrid grid = new MazeGrid(2, 2);
+        grid.removeWall(0, 1);
+
+        MazeMetrics metrics = new MazeMetrics();
+        metrics.analyze(grid, 0, 3);
+        assertEquals(-1, metrics.getSolutionLength());
+        assertEquals(0.0, metrics.getDifficulty(), 1e-9);
+    }
+
+    /**
+     * Test that the analyzer can be reused for mazes of different sizes.
+     */
+    @Test
+    public void testReuse() {
+        MazeMetrics metrics = new MazeMetrics();
+        int[] sizes = {40, 10, 25};
+        for (int size : sizes) {
+            MazeGrid grid = new MazeGrid(size, size);
+            new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(size));
+            metrics.analyze(grid, 0, grid.size() - 1);
+
+            /**
+             * A perfect maze is a tree: dead ends outnumber junctions
+             */
+            assertTrue(metrics.getSolutionLength() >= 2 * (size - 1));
+            assertTrue(metrics.getDeadEnds() > metrics.getJunctions());
+            assertTrue(metrics.getAverageCorridorLength() >= 1);
+        }
+    }
+}
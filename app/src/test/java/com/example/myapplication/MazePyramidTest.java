@@ -0,0 +1,148 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertArrayEquals; // Asserts that two arrays are equal
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertSame; // Asserts that two references are the same
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for MazePyramid class.
+ */
+
+public class MazePyramidTest {
+
+    /**
+     * Test that level 0 has a pixel per wall, corner and cell.
+     */
+    @Test
+    public void testBaseLevel() {
+        MazeGrid grid = new MazeGrid(2, 1);
+        grid.removeWall(0, 1);
+        MazePyramid pyramid = new MazePyramid(grid);
+        pyramid.build();
+
+        assertEquals(5, pyramid.getWidth(0));
+        assertEquals(3, pyramid.getHeight(0));
+        byte[] pixels = pyramid.getPixels(0);
+        int[] expected = {
+                255, 255, 255, 255, 255,
+                255, 0, 0, 0, 255,
+                255, 255, 255, 255, 255,
+        };
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], pixels[i] & 0xFF);
+    }
+
+    /**
+     * Test that every level halves the one above down to a single pixel, averaging
+     * the walls.
+     */
+    @Test
+    public void testLevels() {
+        MazeGrid grid = new MazeGrid(40, 25);
+        new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(2));
+        MazePyramid pyramid = new MazePyramid(grid);
+        assertEquals(0, pyramid.getReadyLevels());
+        pyramid.build();
+
+        int levels = pyramid.getLevelCount();
+        assertEquals(levels, pyramid.getReadyLevels());
+        assertEquals(81, pyramid.getWidth(0));
+        assertEquals(41, pyramid.getWidth(1));
+        assertEquals(26, pyramid.getHeight(1));
+        assertEquals(1, pyramid.getWidth(levels - 1));
+        assertEquals(1, pyramid.getHeight(levels - 1));
+
+        /**
+         * The first pixel of level 1 averages a corner, two walls and a cell
+         */
+        int topLeft = (255 * 3 + 2) / 4;
+        assertEquals(topLeft, pyramid.getPixels(1)[0] & 0xFF);
+
+        /**
+         * A whole level is as dark as the one above, give or take the rounding
+         */
+        double base = mean(pyramid, 0), coarse = mean(pyramid, 2);
+        assertTrue(base > 0 && base < 255);
+        assertEquals(base, coarse, 8);
+    }
+
+    /**
+     * Test that a cancelled pyramid stops building.
+     */
+    @Test
+    public void testCancel() {
+        MazePyramid pyramid = new MazePyramid(new MazeGrid(10, 10));
+        pyramid.cancel();
+        pyramid.build();
+        assertEquals(0, pyramid.getReadyLevels());
+    }
+
+    /**
+     * Test that a reset pyramid is built like a new one, and is only reset once its
+     * build finished.
+     */
+    @Test
+    public void testReset() {
+        MazeGrid first = new MazeGrid(30, 20), second = new MazeGrid(30, 20);
+        new DepthFirstMazeGenerator().generate(first, new SplittableRandom(3));
+        new DepthFirstMazeGenerator().generate(second, new SplittableRandom(4));
+        MazeGrid copy = new MazeGrid(30, 20);
+        copy.copyFrom(first);
+        MazePyramid pyramid = new MazePyramid(copy);
+        assertFalse(pyramid.isFinished());
+        pyramid.build();
+        assertTrue(pyramid.isFinished());
+
+        pyramid.reset(second);
+        assertSame(copy, pyramid.getWalls());
+        assertEquals(0, pyramid.getReadyLevels());
+        pyramid.build();
+
+        MazePyramid fresh = new MazePyramid(second);
+        fresh.build();
+        for (int level = 0; level < fresh.getLevelCount(); level++)
+            assertArrayEquals(fresh.getPixels(level), pyramid.getPixels(level));
+    }
+
+    /**
+     * Test the level picked for a cell size.
+     */
+    @Test
+    public void testLevelFor() {
+        assertEquals(0, MazePyramid.levelFor(64));
+        assertEquals(0, MazePyramid.levelFor(2));
+        assertEquals(1, MazePyramid.levelFor(1.5f));
+        assertEquals(1, MazePyramid.levelFor(1));
+        assertEquals(3, MazePyramid.levelFor(0.25f));
+        assertEquals(0.5f, MazePyramid.getPixelCells(0), 0);
+        assertEquals(4, MazePyramid.getPixelCells(3), 0);
+    }
+
+    /**
+     * Returns the average wall coverage of a level, weighting the pixels by the area
+     * of level 0 they cover.
+     */
+    private static double mean(MazePyramid pyramid, int level) {
+        byte[] pixels = pyramid.getPixels(level);
+        int width = pyramid.getWidth(level), height = pyramid.getHeight(level);
+        int block = 1 << level;
+        double sum = 0, area = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                double w = Math.min(block, pyramid.getWidth(0) - x * block)
+                        * Math.min(block, pyramid.getHeight(0) - y * block);
+                sum += (pixels[y * width + x] & 0xFF) * w;
+                area += w;
+            }
+        }
+        return sum / area;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.myapplication;
+
+import org.junit.After; // Used for cleanup tasks after each test method
+import org.junit.Before; // Used for setup tasks before each test method
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.ForkJoinPool; // Work-stealing thread pool
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for MazeSelector class.
+ */
+
+public class MazeSelectorTest {
+
+    /**
+     * Pool measuring the candidates
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Create the pool.
+     */
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    /**
+     * Shut down the pool.
+     */
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Test that the selected maze lies inside the band and replays from its seed.
+     */
+    @Test
+    public void testSelectInBand() {
+        MazeSelector selector = new MazeSelector(pool, MazeGenerator.Algorithm.KRUSKAL, 0.1, 0.2, Long.MAX_VALUE);
+        MazeGrid grid = new MazeGrid(15, 15);
+        int start = grid.index(1, 14), goal = grid.index(14, 14);
+        assertTrue(selector.select(grid, start, goal, new SplittableRandom(1)));
+        MazeTestUtil.assertPerfectMaze(grid);
+
+        MazeMetrics metrics = new MazeMetrics();
+        metrics.analyze(grid, start, goal);
+        assertTrue(metrics.getDifficulty() >= 0.1 && metrics.getDifficulty() <= 0.2);
+
+        MazeGrid replay = new MazeGrid(15, 15);
+        new KruskalMazeGenerator().generate(replay, new SplittableRandom(grid.getSeed()));
+        for (int i = 0; i < grid.size(); i++) {
+            assertEquals(grid.getWalls(i), replay.getWalls(i));
+        }
+        assertTrue(selector.getCandidates() > 0);
+        assertTrue(selector.getThroughput() > 0);
+    }
+
+    /**
+     * Test that the selection does not depend on the number of threads.
+     */
+    @Test
+    public void testDeterministic() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        MazeGrid a = new MazeGrid(12, 12), b = new MazeGrid(12, 12);
+        new MazeSelector(pool, MazeGenerator.Algorithm.DEPTH_FIRST, 0.4, 0.5, Long.MAX_VALUE)
+                .select(a, 0, 143, new SplittableRandom(7));
+        new MazeSelector(single, MazeGenerator.Algorithm.DEPTH_FIRST, 0.4, 0.5, Long.MAX_VALUE)
+                .select(b, 0, 143, new SplittableRandom(7));
+        single.shutdown();
+        assertEquals(a.getSeed(), b.getSeed());
+    }
+
+    /**
+     * Test that an unreachable band stops at the budget with the closest maze.
+     */
+    @Test
+    public void testBudget() {
+        MazeSelector selector = new MazeSelector(pool, MazeGenerator.Algorithm.PRIM, 2, 3, 1_000_000L);
+        MazeGrid grid = new MazeGrid(20, 20);
+        assertFalse(selector.select(grid, 0, 399, new SplittableRandom(3)));
+        MazeTestUtil.assertPerfectMaze(grid);
+    }
+
+    /**
+     * Test that a supply with a selector hands out mazes inside the band.
+     */
+    @Test
+    public void testSupplySelects() {
+        MazeSupply supply = new MazeSupply(15, 15, new DepthFirstMazeGenerator(), 5L);
+        MazeSelector selector = new MazeSelector(pool, MazeGenerator.Algorithm.DEPTH_FIRST, 0.3, 0.35, Long.MAX_VALUE);
+        supply.setSelector(selector, 211, 224);
+        MazeGrid grid = supply.swap(null);
+        grid = supply.swap(grid);
+
+        MazeMetrics metrics = new MazeMetrics();
+        metrics.analyze(grid, 211, 224);
+        assertTrue(metrics.getDifficulty() >= 0.3 && metrics.getDifficulty() <= 0.35);
+        supply.close();
+    }
+}
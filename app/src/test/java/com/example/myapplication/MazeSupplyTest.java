@@ -0,0 +1,132 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertNotSame; // Asserts that two references differ
+import static org.junit.Assert.assertSame; // Asserts that two references are the same
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for MazeSupply class.
+ */
+
+public class MazeSupplyTest {
+
+    /**
+     * Test that swapping returns carved mazes and recycles the finished grid.
+     */
+    @Test
+    public void testSwapRecyclesGrids() {
+        MazeSupply supply = new MazeSupply(15, 15, new DepthFirstMazeGenerator(), 1L);
+
+        MazeGrid first = supply.swap(null);
+        MazeTestUtil.assertPerfectMaze(first);
+        assertEquals(15, first.getCols());
+
+        MazeGrid second = supply.swap(first);
+        assertNotSame(first, second);
+        MazeTestUtil.assertPerfectMaze(second);
+
+        /**
+         * The first grid was carved again in the background and comes back next
+         */
+        MazeGrid third = supply.swap(second);
+        assertSame(first, third);
+        MazeTestUtil.assertPerfectMaze(third);
+        supply.close();
+    }
+
+    /**
+     * Test that swapping hands over the tree of the new maze, built in the background.
+     */
+    @Test
+    public void testSwapBuildsTree() {
+        MazeSupply supply = new MazeSupply(20, 12, new KruskalMazeGenerator(), 2L);
+        MazeTree tree = new MazeTree();
+        MazeGrid grid = null;
+        for (int i = 0; i < 3; i++) {
+            grid = supply.swap(grid, tree);
+            assertTrue(tree.isBuilt());
+            DistanceField field = new DistanceField();
+            field.update(grid, 0);
+            assertEquals(field.distance(grid.size() - 1), tree.distance(grid.size() - 1, 0));
+        }
+
+        grid = supply.load(99L, grid, tree);
+        assertTrue(tree.isBuilt());
+        DistanceField field = new DistanceField();
+        field.update(grid, 0);
+        assertEquals(field.distance(grid.size() - 1), tree.distance(grid.size() - 1, 0));
+        supply.close();
+    }
+
+    /**
+     * Test that a closed supply keeps working on the calling thread.
+     */
+    @Test
+    public void testSwapAfterClose() {
+        MazeSupply supply = new MazeSupply(9, 7, new KruskalMazeGenerator(), 2L);
+        MazeGrid grid = supply.swap(null);
+        assertFalse(supply.isClosed());
+        supply.close();
+        assertTrue(supply.isClosed());
+        for (int i = 0; i < 3; i++) {
+            grid = supply.swap(grid);
+            MazeTestUtil.assertPerfectMaze(grid);
+        }
+    }
+
+    /**
+     * Test that a new generator is used once the pending maze has been taken.
+     */
+    @Test
+    public void testSetGenerator() {
+        MazeSupply supply = new MazeSupply(6, 6, new DepthFirstMazeGenerator(), 3L);
+        supply.setGenerator(new EllerMazeGenerator());
+        MazeGrid grid = supply.swap(null);
+        grid = supply.swap(grid);
+        MazeTestUtil.assertPerfectMaze(grid);
+        supply.close();
+    }
+
+    /**
+     * Test that loading a seed reproduces the maze, using the cache.
+     */
+    @Test
+    public void testLoadSeedReproducesMaze() {
+        MazeSupply supply = new MazeSupply(15, 15, new PrimMazeGenerator(), 4L);
+        MazeGrid played = supply.swap(null);
+        long seed = played.getSeed();
+        int[] walls = new int[played.size()];
+        for (int i = 0; i < walls.length; i++)
+            walls[i] = played.getWalls(i);
+
+        /**
+         * Hand the played grid back so it gets recycled, then replay its seed
+         */
+        MazeGrid next = supply.swap(played);
+        MazeGrid replay = supply.load(seed, next);
+        assertEquals(seed, replay.getSeed());
+        for (int i = 0; i < walls.length; i++)
+            assertEquals(walls[i], replay.getWalls(i));
+        supply.close();
+    }
+
+    /**
+     * Test that a seed never played is carved on demand and then cached.
+     */
+    @Test
+    public void testLoadUnknownSeed() {
+        MazeSupply supply = new MazeSupply(8, 8, new WilsonMazeGenerator(), 5L);
+        int cached = supply.getCache().size();
+        MazeGrid grid = supply.load(123456789L, null);
+        MazeTestUtil.assertPerfectMaze(grid);
+        assertEquals(123456789L, grid.getSeed());
+        assertTrue(supply.getCache().size() > cached);
+        supply.close();
+    }
+}
@@ -1,9 +1,7 @@
 package com.example.myapplication;
 
 import android.content.Context;  // Provides access to application-specific resources and classes
-import android.graphics.Canvas;  // Used for drawing graphics on Android
-import android.graphics.Color;   // Represents colors in Android
-import android.graphics.Paint;   // Used for drawing on Canvas in Android
+import android.content.Intent;   // Describes the activity started at the end of a game
 import android.util.AttributeSet; // Contains attribute values for initializing views
 import android.view.MotionEvent; // Represents motion events like touch gestures
 
@@ -14,6 +12,9 @@ import org.mockito.Mock;          // Creates a mock object
 import org.mockito.MockitoAnnotations; // Initializes mocks based on annotations
 import org.mockito.runners.MockitoJUnitRunner; // Deprecated in Mockito 2.1.0
 
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertNotNull; // Asserts that a reference is not null
+import static org.junit.Assert.assertSame; // Asserts that two references are the same
 import static org.mockito.Mockito.*; // Allows using static Mockito methods without class prefix
 
 /**
@@ -34,11 +35,6 @@ public class MazeTest {
      */
     @Mock
     AttributeSet mockAttributeSet;
-    /**
-     * Mocked Canvas for simulating drawing operations.
-     */
-    @Mock
-    Canvas mockCanvas;
     /**
      * Mocked MotionEvent for simulating touch events.
      */
@@ -63,29 +59,26 @@ public class MazeTest {
     }
 
     /**
-     * Test the onDraw method of the Maze view.
+     * Test that showing the Maze view hands the renderer a frame of the new maze, and
+     * that nothing is published again while it does not change.
      */
     @Test
-    public void testOnDraw() {
+    public void testPublishesFrame() {
         Maze mazeView = new Maze(mockContext, mockAttributeSet);
-        mazeView.onDraw(mockCanvas);
+        mazeView.onAttachedToWindow();
+        GameFrame frame = mazeView.getPublishedFrame();
         /**
-         * Assert drawing logic drawRect, drawLine, and drawCircle
-         *
-         *  with any float values for left, top, right, bottom, and any Paint object
-         *
-         *  with any float values for startX, startY, stopX, stopY, and any Paint object
-         *
-         *  with any float values for centerX, centerY, radius, and any Paint object
+         * The frame holds a copy of the maze, with the player and lives of a new game
          */
-        verify(mockCanvas).drawRect(anyFloat(), anyFloat(), anyFloat(), anyFloat(), any(Paint.class));
-        verify(mockCanvas).drawLine(anyFloat(), anyFloat(), anyFloat(), anyFloat(), any(Paint.class));
-        verify(mockCanvas).drawCircle(anyFloat(), anyFloat(), anyFloat(), any(Paint.class));
-        /**
-         * Verify background color
-         */
-        verify(mockCanvas).drawColor(Color.rgb(151, 192, 133));
+        assertNotNull(frame);
+        assertEquals(mazeView.getSeed(), frame.getWalls().getSeed());
+        assertEquals(GameRules.DEFAULT.getLives(), frame.getLives());
+        assertEquals(0, frame.getScore());
 
+        mazeView.onSizeChanged(400, 800, 0, 0);
+        GameFrame resized = mazeView.getPublishedFrame();
+        mazeView.onSizeChanged(400, 800, 400, 800);
+        assertSame(resized, mazeView.getPublishedFrame());
     }
 
     /**
@@ -107,4 +100,34 @@ public class MazeTest {
         mazeView.onTouchEvent(mockMotionEvent);
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Test that the end of a game records the score with the seed of the maze.
+     */
+    @Test
+    public void testEndGameRecordsSeed() {
+        Maze mazeView = new Maze(mockContext, mockAttributeSet);
+        Game game = mock(Game.class);
+        mazeView.setGame(game);
+
+        mazeView.endGame();
+
+        verify(game).recordScore(anyInt(), eq(mazeView.getSeed()));
+        verify(mockContext).startActivity(any(Intent.class));
+    }
+
+    /**
+     * Test that a finished game is not saved anymore to be resumed.
+     */
+    @Test
+    public void testEndedGameIsNotSaved() {
+        Maze mazeView = new Maze(mockContext, mockAttributeSet);
+        mazeView.onAttachedToWindow();
+        mazeView.endGame();
+        reset(mockContext);
+
+        mazeView.saveSnapshot();
+
+        verify(mockContext, never()).getFilesDir();
+    }
+}
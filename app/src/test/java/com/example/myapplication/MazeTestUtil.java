@@ -0,0 +1,69 @@
+package com.example.myapplication;
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Helper assertions shared by the maze tests.
+ */
+
+public class MazeTestUtil {
+
+    /**
+     * Asserts that the grid is a perfect maze: every cell is reachable from
+     * the first cell and there are no loops (exactly size - 1 open passages).
+     *
+     * @param grid The grid to check.
+     */
+    public static void assertPerfectMaze(MazeGrid grid) {
+        int size = grid.size();
+        boolean[] seen = new boolean[size];
+        int[] queue = new int[size];
+        int head = 0, tail = 0, passages = 0;
+
+        /**
+         * Breadth-first walk through open walls from the first cell
+         */
+        queue[tail++] = 0;
+        seen[0] = true;
+        while (head < tail) {
+            int cell = queue[head++];
+            for (int wall = MazeGrid.TOP; wall <= MazeGrid.RIGHT; wall <<= 1) {
+                int next = grid.neighbor(cell, wall);
+                if (next == -1 || grid.hasWall(cell, wall))
+                    continue;
+                passages++;
+                if (!seen[next]) {
+                    seen[next] = true;
+                    queue[tail++] = next;
+                }
+            }
+        }
+
+        /**
+         * Every passage was counted once from each side
+         */
+        assertEquals("reachable cells", size, tail);
+        assertEquals("open passages", size - 1, passages / 2);
+    }
+
+    /**
+     * Opens random extra walls so that the maze has loops.
+     *
+     * @param grid   The maze to braid.
+     * @param count  Number of walls to open.
+     * @param random The random number generator.
+     */
+    public static void braid(MazeGrid grid, int count, SplittableRandom random) {
+        for (int i = 0; i < count; i++) {
+            int cell = random.nextInt(grid.size());
+            int wall = 1 << random.nextInt(4);
+            int next = grid.neighbor(cell, wall);
+            if (next != -1)
+                grid.removeWall(cell, next);
+        }
+    }
+}
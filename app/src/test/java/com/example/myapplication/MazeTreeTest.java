@@ -0,0 +1,88 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for MazeTree class.
+ */
+
+public class MazeTreeTest {
+
+    /**
+     * Test the tree queries against a breadth-first distance field on every algorithm.
+     */
+    @Test
+    public void testMatchesDistanceField() {
+        MazeTree tree = new MazeTree();
+        DistanceField field = new DistanceField();
+        SplittableRandom pick = new SplittableRandom(3);
+        for (MazeGenerator.Algorithm algorithm : MazeGenerator.Algorithm.values()) {
+            MazeGrid grid = new MazeGrid(23, 17);
+            algorithm.create().generate(grid, new SplittableRandom(algorithm.ordinal()));
+            assertTrue(tree.build(grid));
+
+            for (int target = 0; target < grid.size(); target += 7) {
+                field.update(grid, target);
+                for (int i = 0; i < 40; i++) {
+                    int cell = pick.nextInt(grid.size());
+                    assertEquals(field.distance(cell), tree.distance(cell, target));
+                    assertEquals(field.distance(cell), tree.distance(target, cell));
+                    if (cell != target)
+                        assertEquals(field.distance(cell) - 1, field.distance(tree.nextStep(cell, target)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that walking the next steps follows the unique path.
+     */
+    @Test
+    public void testWalk() {
+        MazeGrid grid = new MazeGrid(40, 40);
+        new PrimMazeGenerator().generate(grid, new SplittableRandom(5));
+        MazeTree tree = new MazeTree();
+        assertTrue(tree.build(grid));
+
+        int from = grid.index(39, 0), to = grid.index(0, 39);
+        int steps = 0;
+        for (int cell = from; cell != to; cell = tree.nextStep(cell, to)) {
+            steps++;
+        }
+        assertEquals(tree.distance(from, to), steps);
+        assertEquals(to, tree.nextStep(to, to));
+    }
+
+    /**
+     * Test that mazes with loops or unreachable cells are rejected.
+     */
+    @Test
+    public void testRejectsImperfectMazes() {
+        MazeTree tree = new MazeTree();
+
+        MazeGrid loop = new MazeGrid(2, 2);
+        loop.removeWall(0, 1);
+        loop.removeWall(1, 3);
+        loop.removeWall(3, 2);
+        loop.removeWall(2, 0);
+        assertFalse(tree.build(loop));
+        assertFalse(tree.isBuilt());
+
+        MazeGrid split = new MazeGrid(2, 2);
+        split.removeWall(0, 1);
+        split.removeWall(2, 3);
+        assertFalse(tree.build(split));
+
+        MazeGrid single = new MazeGrid(1, 1);
+        assertTrue(tree.build(single));
+        assertEquals(0, tree.distance(0, 0));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+import java.util.concurrent.ForkJoinPool; // Work-stealing thread pool
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for ParallelMazeGenerator class.
+ */
+
+public class ParallelMazeGeneratorTest {
+
+    /**
+     * Test that stitched tiles form a perfect maze, including partial edge tiles.
+     */
+    @Test
+    public void testStitchedTilesFormPerfectMaze() {
+        ParallelMazeGenerator generator = new ParallelMazeGenerator(ForkJoinPool.commonPool(), 7);
+        int[][] sizes = {{1, 1}, {7, 7}, {8, 3}, {50, 23}, {200, 200}, {5, 30}, {1, 50}, {30, 1}};
+        for (int[] size : sizes) {
+            MazeGrid grid = new MazeGrid(size[0], size[1]);
+            generator.generate(grid, new SplittableRandom(size[0]));
+            MazeTestUtil.assertPerfectMaze(grid);
+        }
+    }
+
+    /**
+     * Test that tiles stacked in a single column are joined through their horizontal
+     * borders, as the tile below has the next index like a tile to the right would.
+     */
+    @Test
+    public void testSingleTileColumn() {
+        ParallelMazeGenerator generator = new ParallelMazeGenerator(ForkJoinPool.commonPool(), 64);
+        int[][] sizes = {{30, 200}, {64, 130}, {1, 50}};
+        for (int[] size : sizes) {
+            MazeGrid grid = new MazeGrid(size[0], size[1]);
+            generator.generate(grid, new SplittableRandom(size[1]));
+            MazeTestUtil.assertPerfectMaze(grid);
+        }
+    }
+
+    /**
+     * Test that the maze depends only on the seed, not on the number of threads.
+     */
+    @Test
+    public void testDeterministicAcrossPools() {
+        MazeGrid single = new MazeGrid(300, 170);
+        MazeGrid parallel = new MazeGrid(300, 170);
+        ForkJoinPool one = new ForkJoinPool(1);
+        ForkJoinPool four = new ForkJoinPool(4);
+
+        new ParallelMazeGenerator(one, 32).generate(single, new SplittableRandom(21));
+        new ParallelMazeGenerator(four, 32).generate(parallel, new SplittableRandom(21));
+        for (int i = 0; i < single.size(); i++) {
+            assertEquals(single.getWalls(i), parallel.getWalls(i));
+        }
+        one.shutdown();
+        four.shutdown();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertFalse; // Asserts that a condition is false
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for the Pathfinder implementations.
+ */
+
+public class PathfinderTest {
+
+    /**
+     * Returns one instance of every pathfinder.
+     */
+    private static Pathfinder[] pathfinders() {
+        return new Pathfinder[] {
+                new BreadthFirstPathfinder(), new AStarPathfinder(), new JumpPointPathfinder()
+        };
+    }
+
+    /**
+     * Asserts that a path steps between adjacent cells through open walls.
+     */
+    private static void assertValidPath(MazeGrid grid, int[] path, int length, int start, int goal) {
+        assertEquals(start, path[0]);
+        assertEquals(goal, path[length - 1]);
+        for (int i = 1; i < length; i++) {
+            boolean open = false;
+            for (int wall = MazeGrid.TOP; wall <= MazeGrid.RIGHT; wall <<= 1) {
+                if (grid.neighbor(path[i - 1], wall) == path[i] && !grid.hasWall(path[i - 1], wall))
+                    open = true;
+            }
+            assertTrue("step " + i, open);
+        }
+    }
+
+    /**
+     * Test that every pathfinder finds a shortest path on perfect and braided mazes.
+     */
+    @Test
+    public void testShortestPaths() {
+        SplittableRandom random = new SplittableRandom(11);
+        DistanceField field = new DistanceField();
+        Pathfinder[] pathfinders = pathfinders();
+        for (int braided = 0; braided < 2; braided++) {
+            MazeGrid grid = new MazeGrid(31, 23);
+            new DepthFirstMazeGenerator().generate(grid, new SplittableRandom(braided));
+            if (braided == 1)
+                MazeTestUtil.braid(grid, 150, random);
+            int[] path = new int[grid.size()];
+
+            for (int i = 0; i < 50; i++) {
+                int start = random.nextInt(grid.size()), goal = random.nextInt(grid.size());
+                field.update(grid, goal);
+                for (Pathfinder pathfinder : pathfinders) {
+                    int length = pathfinder.findPath(grid, start, goal, path);
+                    assertEquals(pathfinder.getClass().getSimpleName(), field.distance(start) + 1, length);
+                    assertValidPath(grid, path, length, start, goal);
+                    assertTrue(pathfinder.getExpanded() > 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that informed searches expand fewer nodes than breadth-first search.
+     */
+    @Test
+    public void testFewerExpansions() {
+        MazeGrid grid = new MazeGrid(200, 200);
+        new KruskalMazeGenerator().generate(grid, new SplittableRandom(4));
+        MazeTestUtil.braid(grid, 4000, new SplittableRandom(5));
+        int[] path = new int[grid.size()];
+        int start = 0, goal = grid.size() - 1;
+
+        Pathfinder bfs = new BreadthFirstPathfinder(), astar = new AStarPathfinder(), jps = new JumpPointPathfinder();
+        int length = bfs.findPath(grid, start, goal, path);
+        assertEquals(length, astar.findPath(grid, start, goal, path));
+        assertEquals(length, jps.findPath(grid, start, goal, path));
+        assertTrue(astar.getExpanded() < bfs.getExpanded());
+        assertTrue(jps.getExpanded() < astar.getExpanded());
+    }
+
+    /**
+     * Test the trivial and unreachable cases.
+     */
+    @Test
+    public void testEdgeCases() {
+        MazeGrid grid = new MazeGrid(3, 2);
+        grid.removeWall(0, 1);
+        grid.removeWall(1, 2);
+        int[] path = new int[grid.size()];
+        for (Pathfinder pathfinder : pathfinders()) {
+            assertEquals(1, pathfinder.findPath(grid, 1, 1, path));
+            assertEquals(1, path[0]);
+            assertEquals(0, pathfinder.findPath(grid, 0, 4, path));
+            assertEquals(3, pathfinder.findPath(grid, 2, 0, path));
+            assertValidPath(grid, path, 3, 2, 0);
+            assertFalse(pathfinder.findPath(grid, 5, 3, path) > 0);
+        }
+    }
+}
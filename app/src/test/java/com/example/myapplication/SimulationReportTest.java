@@ -0,0 +1,55 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import static org.junit.Assert.assertArrayEquals; // Asserts that two arrays are equal
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for SimulationReport class.
+ */
+
+public class SimulationReportTest {
+
+    /**
+     * Test the rates, percentiles and histogram of merged reports.
+     */
+    @Test
+    public void testMerge() {
+        SimulationReport first = new SimulationReport();
+        first.mazeEnded(false, true, 300);
+        first.mazeEnded(true, false, 100);
+        first.gameEnded(1000);
+        SimulationReport second = new SimulationReport();
+        second.mazeEnded(false, true, 100);
+        second.mazeEnded(false, true, 200);
+        second.mazeEnded(false, false, 900);
+        second.gameEnded(2000);
+        second.gameEnded(0);
+        first.merge(second);
+
+        assertEquals(3, first.getGames());
+        assertEquals(5, first.getMazes());
+        assertEquals(0.2, first.getCatchRate(), 1e-9);
+        assertEquals(0.2, first.getTimeoutRate(), 1e-9);
+        assertEquals(100, first.getCompletionPercentile(0));
+        assertEquals(200, first.getCompletionPercentile(50));
+        assertEquals(300, first.getCompletionPercentile(100));
+        assertEquals(1000, first.getScorePercentile(50));
+        assertEquals(1000, first.getAverageScore(), 1e-9);
+        assertArrayEquals(new int[] {1, 2}, first.getScoreHistogram(1000, 2));
+    }
+
+    /**
+     * Test that an empty report reads as zeros.
+     */
+    @Test
+    public void testEmpty() {
+        SimulationReport report = new SimulationReport();
+        assertEquals(0, report.getCatchRate(), 0);
+        assertEquals(0, report.getCompletionPercentile(50));
+        assertEquals(0, report.getScorePercentile(50));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.ArrayList; // Resizable array implementation of the List interface
+import java.util.List; // Represents an ordered collection of elements
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertNotEquals; // Asserts that two values differ
+import static org.junit.Assert.assertNull; // Asserts that a value is null
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for TileCache class.
+ */
+
+public class TileCacheTest {
+
+    /**
+     * Tiles handed back by the cache
+     */
+    private final List<String> evicted = new ArrayList<>();
+
+    /**
+     * Returns a cache of three tiles recording its evictions.
+     */
+    private TileCache<String> cache() {
+        return new TileCache<>(3, new TileCache.Evictor<String>() {
+            @Override
+            public void evicted(String tile) {
+                evicted.add(tile);
+            }
+        });
+    }
+
+    /**
+     * Test that the least recently used tile is evicted first.
+     */
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        TileCache<String> cache = cache();
+        cache.put(TileCache.key(0, 0, 0), "a");
+        cache.put(TileCache.key(0, 1, 0), "b");
+        cache.put(TileCache.key(0, 0, 1), "c");
+        assertEquals("a", cache.get(TileCache.key(0, 0, 0)));
+
+        cache.put(TileCache.key(0, 1, 1), "d");
+        assertEquals(3, cache.size());
+        assertEquals(1, evicted.size());
+        assertEquals("b", evicted.get(0));
+        assertNull(cache.get(TileCache.key(0, 1, 0)));
+        assertEquals("a", cache.get(TileCache.key(0, 0, 0)));
+    }
+
+    /**
+     * Test that replacing a tile and clearing the cache hand the tiles back.
+     */
+    @Test
+    public void testReplaceAndClear() {
+        TileCache<String> cache = cache();
+        cache.put(TileCache.key(2, 5, 5), "a");
+        cache.put(TileCache.key(2, 5, 5), "b");
+        assertEquals(1, cache.size());
+        assertEquals("b", cache.get(TileCache.key(2, 5, 5)));
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(2, evicted.size());
+    }
+
+    /**
+     * Test that keys tell levels and positions apart, including the tiles left and
+     * above the maze.
+     */
+    @Test
+    public void testKeys() {
+        assertNotEquals(TileCache.key(0, 1, 0), TileCache.key(0, 0, 1));
+        assertNotEquals(TileCache.key(1, 0, 0), TileCache.key(0, 0, 0));
+        assertNotEquals(TileCache.key(0, -1, 0), TileCache.key(0, 0, -1));
+        assertNotEquals(TileCache.key(0, -1, -1), TileCache.key(0, 0, 0));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.concurrent.Callable; // Task that returns a result
+import java.util.concurrent.CountDownLatch; // Signal counted down by another thread
+import java.util.concurrent.ExecutorService; // Runs tasks on a worker thread
+import java.util.concurrent.Executors; // Factory for executor services
+import java.util.concurrent.Future; // Result of a background task
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertSame; // Asserts that two references are the same
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+import static org.junit.Assert.fail; // Fails the test
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for Uninterruptibles class.
+ */
+
+public class UninterruptiblesTest {
+
+    /**
+     * Test that an interrupted thread still gets the result, and is interrupted again after.
+     */
+    @Test
+    public void testGetKeepsInterrupt() throws InterruptedException {
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        final CountDownLatch release = new CountDownLatch(1);
+        Future<Integer> result = worker.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws InterruptedException {
+                release.await();
+                return 42;
+            }
+        });
+
+        Thread.currentThread().interrupt();
+        release.countDown();
+        assertEquals(42, (int) Uninterruptibles.get(result, "failed"));
+        assertTrue(Thread.interrupted());
+
+        worker.shutdown();
+        Thread.currentThread().interrupt();
+        Uninterruptibles.awaitTermination(worker);
+        assertTrue(worker.isTerminated());
+        assertTrue(Thread.interrupted());
+
+        CountDownLatch done = new CountDownLatch(0);
+        Uninterruptibles.await(done);
+    }
+
+    /**
+     * Test that a failed task is reported with its exception as the cause.
+     */
+    @Test
+    public void testGetFailure() {
+        ExecutorService worker = Executors.newSingleThreadExecutor();
+        final IllegalArgumentException error = new IllegalArgumentException("bad maze");
+        Future<Integer> result = worker.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                throw error;
+            }
+        });
+        try {
+            Uninterruptibles.get(result, "Maze generation failed");
+            fail("The failure was not reported");
+        } catch (IllegalStateException e) {
+            assertEquals("Maze generation failed", e.getMessage());
+            assertSame(error, e.getCause());
+        } finally {
+            worker.shutdown();
+        }
+    }
+}
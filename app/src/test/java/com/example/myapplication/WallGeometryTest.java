@@ -0,0 +1,122 @@
+package com.example.myapplication;
+
+import org.junit.Test; // Marks a method as a test method
+
+import java.util.SplittableRandom; // Fast, seedable random number generator
+
+import static org.junit.Assert.assertEquals; // Asserts that two values are equal
+import static org.junit.Assert.assertTrue; // Asserts that a condition is true
+
+/**
+ * @author Vanessa and Noor
+ *
+ * Test class for WallGeometry class.
+ */
+
+public class WallGeometryTest {
+
+    /**
+     * Test that a grid with every wall in place is drawn with one line per grid line.
+     */
+    @Test
+    public void testFullGridMerged() {
+        MazeGrid grid = new MazeGrid(4, 3);
+        WallGeometry geometry = new WallGeometry();
+        geometry.build(grid, 10);
+        assertEquals(4 * (4 + 5), geometry.getLength());
+
+        float[] lines = geometry.getLines();
+        assertEquals(0, lines[0], 0);
+        assertEquals(0, lines[1], 0);
+        assertEquals(40, lines[2], 0);
+        assertEquals(0, lines[3], 0);
+    }
+
+    /**
+     * Test that every wall of a maze is covered by exactly one line, and every
+     * opening by none.
+     */
+    @Test
+    public void testCoversEveryWallOnce() {
+        for (int seed = 0; seed < 5; seed++) {
+            MazeGrid grid = new MazeGrid(17, 11);
+            new KruskalMazeGenerator().generate(grid, new SplittableRandom(seed));
+            MazeTestUtil.braid(grid, 20, new SplittableRandom(seed));
+            WallGeometry geometry = new WallGeometry();
+            geometry.build(grid, 2);
+
+            int cols = grid.getCols(), rows = grid.getRows();
+            int[][] horizontal = new int[rows + 1][cols], vertical = new int[cols + 1][rows];
+            float[] lines = geometry.getLines();
+            for (int i = 0; i < geometry.getLength(); i += 4) {
+                int x0 = (int) (lines[i] / 2), y0 = (int) (lines[i + 1] / 2);
+                int x1 = (int) (lines[i + 2] / 2), y1 = (int) (lines[i + 3] / 2);
+                assertTrue(x0 == x1 || y0 == y1);
+                for (int x = x0; x < x1; x++)
+                    horizontal[y0][x]++;
+                for (int y = y0; y < y1; y++)
+                    vertical[x0][y]++;
+            }
+
+            for (int y = 0; y < rows; y++) {
+                for (int x = 0; x < cols; x++) {
+                    int cell = grid.index(x, y);
+                    assertEquals(grid.hasWall(cell, MazeGrid.TOP) ? 1 : 0, horizontal[y][x]);
+                    assertEquals(grid.hasWall(cell, MazeGrid.BOTTOM) ? 1 : 0, horizontal[y + 1][x]);
+                    assertEquals(grid.hasWall(cell, MazeGrid.LEFT) ? 1 : 0, vertical[x][y]);
+                    assertEquals(grid.hasWall(cell, MazeGrid.RIGHT) ? 1 : 0, vertical[x + 1][y]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test that a rectangle of the maze gives the same walls as the whole maze
+     * inside it, relative to its corner.
+     */
+    @Test
+    public void testRegionMatchesWholeMaze() {
+        MazeGrid grid = new MazeGrid(12, 9);
+        new KruskalMazeGenerator().generate(grid, new SplittableRandom(3));
+        WallGeometry geometry = new WallGeometry();
+        geometry.build(grid, 3, 2, 5, 4, 1);
+
+        boolean[][] horizontal = new boolean[5][5], vertical = new boolean[6][4];
+        float[] lines = geometry.getLines();
+        for (int i = 0; i < geometry.getLength(); i += 4) {
+            int x0 = (int) lines[i], y0 = (int) lines[i + 1], x1 = (int) lines[i + 2], y1 = (int) lines[i + 3];
+            for (int x = x0; x < x1; x++)
+                horizontal[y0][x] = true;
+            for (int y = y0; y < y1; y++)
+                vertical[x0][y] = true;
+        }
+        for (int y = 0; y < 4; y++) {
+            for (int x = 0; x < 5; x++) {
+                int cell = grid.index(3 + x, 2 + y);
+                assertEquals(grid.hasWall(cell, MazeGrid.TOP), horizontal[y][x]);
+                assertEquals(grid.hasWall(cell, MazeGrid.BOTTOM), horizontal[y + 1][x]);
+                assertEquals(grid.hasWall(cell, MazeGrid.LEFT), vertical[x][y]);
+                assertEquals(grid.hasWall(cell, MazeGrid.RIGHT), vertical[x + 1][y]);
+            }
+        }
+    }
+
+    /**
+     * Test that a rectangle reaching past the maze is clipped to it, and one
+     * outside of it has no walls.
+     */
+    @Test
+    public void testRegionClipped() {
+        MazeGrid grid = new MazeGrid(4, 3);
+        WallGeometry geometry = new WallGeometry();
+        geometry.build(grid, -2, -1, 4, 3, 10);
+        assertEquals(4 * (3 + 3), geometry.getLength());
+        float[] lines = geometry.getLines();
+        assertEquals(20, lines[0], 0);
+        assertEquals(10, lines[1], 0);
+        assertEquals(40, lines[2], 0);
+
+        geometry.build(grid, 4, 0, 2, 2, 10);
+        assertEquals(0, geometry.getLength());
+    }
+}